@@ -0,0 +1,123 @@
+package com.banking.semba.cache;
+
+import com.banking.semba.constants.LogMessages;
+import com.banking.semba.constants.ValidationMessages;
+import com.banking.semba.gateway.BankSingleFlight;
+import com.banking.semba.globalException.CustomException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-process copy of the remote bank directory, which changes about once a day.
+ * <ul>
+ *     <li>younger than ttl - refreshAhead: served as is</li>
+ *     <li>older: still served, while one background refresh replaces it (refresh-ahead, then stale-while-revalidate)</li>
+ *     <li>older than ttl + staleWhileRevalidate, or nothing loaded yet: readers wait for a fetch</li>
+ * </ul>
+ * Snapshots are swapped atomically, so readers never block on a refresh in progress.
+ */
+@Slf4j
+@Component
+public class BankDirectoryCache {
+
+    private final WebClient bankWebClient;
+    private final BankSingleFlight bankSingleFlight;
+    private final BankDirectoryProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicReference<BankDirectorySnapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    public BankDirectoryCache(WebClient bankWebClient, BankSingleFlight bankSingleFlight, BankDirectoryProperties properties,
+                              ApplicationEventPublisher eventPublisher) {
+        this.bankWebClient = bankWebClient;
+        this.bankSingleFlight = bankSingleFlight;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public Mono<Object> getBanks() {
+        return getSnapshot().map(BankDirectorySnapshot::banks);
+    }
+
+    public Mono<BankDirectorySnapshot> getSnapshot() {
+        return Mono.defer(() -> {
+            BankDirectorySnapshot current = snapshot.get();
+            if (current == null || current.age().compareTo(properties.getTtl().plus(properties.getStaleWhileRevalidate())) >= 0) {
+                return load();
+            }
+            if (dueForRefresh(current)) {
+                refreshInBackground();
+            }
+            return Mono.just(current);
+        });
+    }
+
+    // Refreshes ahead of expiry even when nobody is searching; nothing is fetched before the first request
+    @Scheduled(fixedDelayString = "${semba.bank-directory.refresh-check-interval:60000}")
+    public void refreshAhead() {
+        BankDirectorySnapshot current = snapshot.get();
+        if (current != null && dueForRefresh(current)) {
+            refreshInBackground();
+        }
+    }
+
+    private boolean dueForRefresh(BankDirectorySnapshot current) {
+        Duration refreshAt = properties.getTtl().minus(properties.getRefreshAhead());
+        return current.age().compareTo(refreshAt) >= 0;
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        load().doFinally(signal -> refreshing.set(false))
+                .subscribe(
+                        fresh -> log.info("Bank directory refreshed"),
+                        ex -> {
+                            BankDirectorySnapshot stale = snapshot.get();
+                            log.warn("Bank directory refresh failed, serving stale copy | ageMinutes={} | error={}",
+                                    stale == null ? null : stale.age().toMinutes(), ex.getMessage());
+                        });
+    }
+
+    // Concurrent loads (cold start, refresh racing an expired read) share one bank call
+    private Mono<BankDirectorySnapshot> load() {
+        return bankSingleFlight.execute("bankDirectory", null, fetch()
+                .map(banks -> new BankDirectorySnapshot(banks, Instant.now()))
+                .doOnNext(fresh -> {
+                    snapshot.set(fresh);
+                    eventPublisher.publishEvent(new BankDirectoryRefreshedEvent(fresh));
+                }));
+    }
+
+    // The directory is the same for every user, so it is fetched without user headers
+    private Mono<Object> fetch() {
+        return bankWebClient.get()
+                .uri(properties.getUrl())
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, response ->
+                        response.bodyToMono(String.class)
+                                .flatMap(errorBody -> {
+                                    log.error(LogMessages.FETCH_BANKS_ERROR, errorBody);
+                                    return Mono.error(new CustomException(
+                                            ValidationMessages.FETCHING_FAILED + " " + errorBody,
+                                            ValidationMessages.ERROR_CODE_FETCH_FAILED
+                                    ));
+                                })
+                )
+                .bodyToMono(Object.class);
+    }
+}
@@ -0,0 +1,28 @@
+package com.banking.semba.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Bank directory cache (semba.bank-directory.* in application.properties), see {@link BankDirectoryCache}.
+ */
+@Data
+@ConfigurationProperties(prefix = "semba.bank-directory")
+public class BankDirectoryProperties {
+
+    private String url = "https://api.paystack.co/bank";
+
+    // Age at which a snapshot expires
+    private Duration ttl = Duration.ofHours(6);
+
+    // Background refresh starts this long before expiry
+    private Duration refreshAhead = Duration.ofHours(1);
+
+    // How long past expiry a snapshot is still served (while a refresh is retried) if the bank list is down
+    private Duration staleWhileRevalidate = Duration.ofHours(24);
+
+    // Most banks returned by one search, best ranked first
+    private int maxSearchResults = 50;
+}
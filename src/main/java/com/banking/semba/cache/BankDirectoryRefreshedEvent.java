@@ -0,0 +1,7 @@
+package com.banking.semba.cache;
+
+/**
+ * Published by {@link BankDirectoryCache} every time a freshly fetched snapshot replaces the previous one.
+ */
+public record BankDirectoryRefreshedEvent(BankDirectorySnapshot snapshot) {
+}
@@ -0,0 +1,14 @@
+package com.banking.semba.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Immutable copy of the bank directory as last fetched. Replaced as a whole on refresh, never mutated.
+ */
+public record BankDirectorySnapshot(Object banks, Instant fetchedAt) {
+
+    public Duration age() {
+        return Duration.between(fetchedAt, Instant.now());
+    }
+}
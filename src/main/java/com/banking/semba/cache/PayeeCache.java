@@ -0,0 +1,87 @@
+package com.banking.semba.cache;
+
+import com.banking.semba.dto.response.BankPayee;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Payee list per user. Adds, renames and deletes made through this service are applied to the cached list
+ * (write-through), so the payees screen is served locally until the TTL; a user without an entry is loaded
+ * from the bank. Size and hit ratio are published as {@code cache.*} metrics with {@code cache=payees}.
+ */
+@Component
+public class PayeeCache {
+
+    private final Cache<String, List<BankPayee>> cache;
+    // Loads in flight per user; a write removes the token, so a load that raced it is not stored
+    private final Map<String, Object> loading = new ConcurrentHashMap<>();
+
+    public PayeeCache(PayeeCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "payees");
+    }
+
+    public Mono<List<BankPayee>> get(String user, Supplier<Mono<List<BankPayee>>> loader) {
+        return Mono.defer(() -> {
+            List<BankPayee> cached = cache.getIfPresent(user);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            Object token = new Object();
+            loading.put(user, token);
+            return loader.get()
+                    .doOnNext(payees -> {
+                        if (loading.remove(user, token)) {
+                            cache.put(user, List.copyOf(payees));
+                        }
+                    })
+                    .doFinally(signal -> loading.remove(user, token));
+        });
+    }
+
+    public void added(String user, BankPayee payee) {
+        update(user, payees -> {
+            List<BankPayee> updated = new ArrayList<>(payees.size() + 1);
+            payees.stream().filter(p -> !Objects.equals(p.id(), payee.id())).forEach(updated::add);
+            updated.add(payee);
+            return updated;
+        });
+    }
+
+    public void renamed(String user, Long payeeId, String name) {
+        update(user, payees -> payees.stream()
+                .map(p -> Objects.equals(p.id(), payeeId) ? new BankPayee(p.id(), name, p.address()) : p)
+                .toList());
+    }
+
+    public void deleted(String user, Long payeeId) {
+        update(user, payees -> payees.stream().filter(p -> !Objects.equals(p.id(), payeeId)).toList());
+    }
+
+    /** Drops the user's list, for a write whose result cannot be applied locally. */
+    public void invalidate(String user) {
+        loading.remove(user);
+        cache.invalidate(user);
+    }
+
+    private void update(String user, UnaryOperator<List<BankPayee>> change) {
+        loading.remove(user);
+        cache.asMap().computeIfPresent(user, (key, payees) -> List.copyOf(change.apply(payees)));
+    }
+}
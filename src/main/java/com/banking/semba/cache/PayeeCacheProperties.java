@@ -0,0 +1,20 @@
+package com.banking.semba.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Per-user payee cache (semba.payee-cache.* in application.properties), see {@link PayeeCache}.
+ */
+@Data
+@ConfigurationProperties(prefix = "semba.payee-cache")
+public class PayeeCacheProperties {
+
+    // Users whose payee list is kept; beyond this the least valuable entries are evicted (W-TinyLFU)
+    private long maximumSize = 100_000;
+
+    // Safety net for changes made outside this service (another channel, bank back office)
+    private Duration ttl = Duration.ofMinutes(30);
+}
@@ -0,0 +1,192 @@
+package com.banking.semba.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Transaction lookups shared by the details, UPI and receipt download flows, which tend to fetch the same
+ * transaction one after another. A transaction in a terminal status never changes, so it is kept until evicted
+ * for size (and then, if configured, spilled to disk); anything else is kept for {@code pendingTtl} only.
+ * Entries are per user and per view, since each flow decodes the bank response into its own DTO.
+ */
+@Slf4j
+@Component
+public class TransactionCache {
+
+    public static final String DETAILS = "details";
+    public static final String DOWNLOAD = "download";
+
+    private record Key(String view, String user, String transactionId) {
+    }
+
+    private record Entry(Object value, boolean terminal) {
+    }
+
+    private final Cache<Key, Entry> cache;
+    private final Set<String> terminalStatuses;
+    private final TransactionCacheProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public TransactionCache(TransactionCacheProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.terminalStatuses = properties.getTerminalStatuses().stream()
+                .map(status -> status.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new EntryExpiry(properties.getPendingTtl()))
+                .removalListener((Key key, Entry entry, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE && entry != null && entry.terminal()) {
+                        spill(key, entry.value());
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "transactions");
+    }
+
+    /**
+     * Returns the cached transaction or calls {@code loader}. Errors and empty results are not cached, so
+     * callers apply their fallbacks after this call.
+     */
+    public <T> Mono<T> get(String view, String user, String transactionId, Class<T> type,
+                           Function<T, String> status, Supplier<Mono<T>> loader) {
+        Key key = new Key(view, user, transactionId);
+        return Mono.defer(() -> {
+            Entry cached = cache.getIfPresent(key);
+            if (cached != null) {
+                return Mono.just(type.cast(cached.value()));
+            }
+            return readSpilled(key, type)
+                    .switchIfEmpty(Mono.defer(loader))
+                    .doOnNext(value -> cache.put(key, new Entry(value, isTerminal(status.apply(value)))));
+        });
+    }
+
+    private boolean isTerminal(String status) {
+        return status != null && terminalStatuses.contains(status.toUpperCase(Locale.ROOT));
+    }
+
+    // ---------------- DISK TIER ----------------
+    private <T> Mono<T> readSpilled(Key key, Class<T> type) {
+        Path directory = properties.getSpillDirectory();
+        if (directory == null) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> {
+                    Path file = directory.resolve(fileName(key));
+                    return Files.exists(file) ? objectMapper.readValue(file.toFile(), type) : null;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(ex -> {
+                    log.warn("Transaction cache spill read failed | txnId={} | error={}", key.transactionId(), ex.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    // Runs on Caffeine's maintenance executor, not on a request thread
+    private void spill(Key key, Object value) {
+        Path directory = properties.getSpillDirectory();
+        if (directory == null) {
+            return;
+        }
+        Path staging = null;
+        try {
+            Files.createDirectories(directory);
+            staging = Files.createTempFile(directory, "txn", ".tmp");
+            objectMapper.writeValue(staging.toFile(), value);
+            Files.move(staging, directory.resolve(fileName(key)), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            deleteQuietly(staging);
+            log.warn("Transaction cache spill failed | txnId={} | error={}", key.transactionId(), ex.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${semba.transaction-cache.spill-purge-interval:3600000}")
+    public void purgeSpilled() {
+        Path directory = properties.getSpillDirectory();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return;
+        }
+        FileTime cutoff = FileTime.from(Instant.now().minus(properties.getSpillRetention()));
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(".json"))
+                    .filter(file -> {
+                        try {
+                            return Files.getLastModifiedTime(file).compareTo(cutoff) < 0;
+                        } catch (IOException ex) {
+                            return false;
+                        }
+                    })
+                    .forEach(file -> {
+                        try {
+                            Files.deleteIfExists(file);
+                        } catch (IOException ex) {
+                            log.warn("Transaction cache spill purge failed | file={} | error={}", file, ex.getMessage());
+                        }
+                    });
+        } catch (IOException ex) {
+            log.warn("Transaction cache spill purge failed | error={}", ex.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException ignored) {
+            // Left for the next purge
+        }
+    }
+
+    private static String fileName(Key key) {
+        String raw = key.view() + "|" + key.user() + "|" + key.transactionId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8)) + ".json";
+    }
+
+    private record EntryExpiry(Duration pendingTtl) implements Expiry<Key, Entry> {
+
+        @Override
+        public long expireAfterCreate(Key key, Entry entry, long currentTime) {
+            return entry.terminal() ? Long.MAX_VALUE : pendingTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Key key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
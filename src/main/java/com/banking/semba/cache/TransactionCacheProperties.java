@@ -0,0 +1,30 @@
+package com.banking.semba.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Transaction details cache (semba.transaction-cache.* in application.properties), see {@link TransactionCache}.
+ */
+@Data
+@ConfigurationProperties(prefix = "semba.transaction-cache")
+public class TransactionCacheProperties {
+
+    private long maximumSize = 50_000;
+
+    // Statuses after which a transaction never changes; compared ignoring case
+    private Set<String> terminalStatuses = Set.of("SUCCESS", "FAILED");
+
+    // Anything not terminal (PENDING, unknown) is only kept this long
+    private Duration pendingTtl = Duration.ofSeconds(15);
+
+    // Terminal entries evicted for size are written here and read back on a miss; unset = no disk tier
+    private Path spillDirectory;
+
+    // Spilled entries older than this are deleted
+    private Duration spillRetention = Duration.ofDays(30);
+}
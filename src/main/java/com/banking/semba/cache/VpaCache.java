@@ -0,0 +1,143 @@
+package com.banking.semba.cache;
+
+import com.banking.semba.util.VpaFormat;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Resolved UPI VPAs. A resolver answer is cached for {@code positiveTtl}, a "not found" for the shorter
+ * {@code negativeTtl}, and resolver errors are not cached. Lookups are counted per PSP handle in
+ * {@code semba.vpa.cache.lookups} (result = hit, negative_hit, miss), alongside the {@code cache=vpa} totals.
+ */
+@Component
+public class VpaCache {
+
+    /** Resolver answer for one VPA; {@code account} is null when the VPA does not exist. */
+    public record Resolution(Map<String, Object> account) {
+
+        public boolean found() {
+            return account != null;
+        }
+    }
+
+    private static final String OTHER_HANDLE = "other";
+
+    private final Cache<String, Resolution> cache;
+    private final MeterRegistry meterRegistry;
+    private final int maxHandleTags;
+    private final HandleCounters other;
+    // Copy-on-write, at most maxHandleTags entries; replaced only under the instance lock
+    private volatile HandleCounters[] handles = new HandleCounters[0];
+
+    private record HandleCounters(String handle, Counter hit, Counter negativeHit, Counter miss) {
+
+        // Case-insensitive match against the part of vpa after '@', without copying it out
+        boolean matches(String vpa, int handleStart) {
+            return vpa.length() - handleStart == handle.length()
+                    && vpa.regionMatches(true, handleStart, handle, 0, handle.length());
+        }
+    }
+
+    public VpaCache(VpaCacheProperties properties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.maxHandleTags = properties.getMaxHandleTags();
+        this.other = handleCounters(OTHER_HANDLE);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new ResolutionExpiry(properties.getPositiveTtl(), properties.getNegativeTtl()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "vpa");
+    }
+
+    /**
+     * Returns the cached resolution or calls {@code resolver}, whose empty result means "not found".
+     * {@code vpa} must already have passed {@link VpaFormat#isValid}.
+     */
+    public Mono<Resolution> resolve(String vpa, Supplier<Mono<Map<String, Object>>> resolver) {
+        return Mono.defer(() -> {
+            // VPAs are case-insensitive; an already lower-case VPA is its own key, no copy is made
+            String key = vpa.toLowerCase(Locale.ROOT);
+            HandleCounters handle = countersFor(vpa, vpa.indexOf('@') + 1);
+            Resolution cached = cache.getIfPresent(key);
+            if (cached != null) {
+                (cached.found() ? handle.hit() : handle.negativeHit()).increment();
+                return Mono.just(cached);
+            }
+            handle.miss().increment();
+            return resolver.get()
+                    .map(Resolution::new)
+                    .defaultIfEmpty(new Resolution(null))
+                    .doOnNext(resolution -> cache.put(key, resolution));
+        });
+    }
+
+    private HandleCounters countersFor(String vpa, int handleStart) {
+        HandleCounters[] known = handles;
+        for (HandleCounters counters : known) {
+            if (counters.matches(vpa, handleStart)) {
+                return counters;
+            }
+        }
+        return known.length < maxHandleTags ? register(vpa, handleStart) : other;
+    }
+
+    // Handles come from user input, so only the first maxHandleTags become tags; checked and added under one lock
+    private synchronized HandleCounters register(String vpa, int handleStart) {
+        HandleCounters[] known = handles;
+        for (HandleCounters counters : known) {
+            if (counters.matches(vpa, handleStart)) {
+                return counters;
+            }
+        }
+        if (known.length >= maxHandleTags) {
+            return other;
+        }
+        HandleCounters added = handleCounters(vpa.substring(handleStart).toLowerCase(Locale.ROOT));
+        HandleCounters[] grown = Arrays.copyOf(known, known.length + 1);
+        grown[known.length] = added;
+        handles = grown;
+        return added;
+    }
+
+    private HandleCounters handleCounters(String handle) {
+        return new HandleCounters(handle, counter(handle, "hit"), counter(handle, "negative_hit"), counter(handle, "miss"));
+    }
+
+    private Counter counter(String handle, String result) {
+        return Counter.builder("semba.vpa.cache.lookups")
+                .tag("handle", handle)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record ResolutionExpiry(Duration positiveTtl, Duration negativeTtl) implements Expiry<String, Resolution> {
+
+        @Override
+        public long expireAfterCreate(String key, Resolution value, long currentTime) {
+            return (value.found() ? positiveTtl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Resolution value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Resolution value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.banking.semba.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * UPI VPA resolution cache (semba.vpa-cache.* in application.properties), see {@link VpaCache}.
+ */
+@Data
+@ConfigurationProperties(prefix = "semba.vpa-cache")
+public class VpaCacheProperties {
+
+    private long maximumSize = 200_000;
+
+    // Resolved VPAs: short, since the account behind a VPA can change
+    private Duration positiveTtl = Duration.ofMinutes(10);
+
+    // Not-found VPAs: shorter still, so a VPA created just now resolves soon after
+    private Duration negativeTtl = Duration.ofMinutes(1);
+
+    // Distinct PSP handles tagged in metrics; any further handles are counted as "other"
+    private int maxHandleTags = 64;
+}
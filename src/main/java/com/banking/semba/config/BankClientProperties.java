@@ -0,0 +1,52 @@
+package com.banking.semba.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outbound HTTP settings for the shared bankWebClient (bank.client.* in application.properties).
+ */
+@Data
+@ConfigurationProperties(prefix = "bank.client")
+public class BankClientProperties {
+
+    private String baseUrl = "https://jsonplaceholder.typicode.com";
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private boolean keepAlive = true;
+    private boolean http2 = true;
+
+    // Default pool used for every host without an override below
+    private Pool pool = new Pool();
+
+    // Per-host pool overrides, keyed by host name (e.g. bank.client.hosts[api.paystack.co].max-connections=50)
+    private Map<String, Pool> hosts = new HashMap<>();
+
+    // Default per-call timeouts, and overrides keyed by URL path pattern, first match wins
+    // (e.g. bank.client.endpoints[/bank/transfer/**].response-timeout=20s)
+    private Timeouts timeouts = new Timeouts();
+    private Map<String, Timeouts> endpoints = new LinkedHashMap<>();
+
+    @Data
+    public static class Pool {
+        private int maxConnections = 200;
+        private int pendingAcquireMaxCount = 1000;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Duration evictInBackground = Duration.ofSeconds(60);
+        private int port = 443;
+    }
+
+    @Data
+    public static class Timeouts {
+        // Longest gap between reads of one response before the call fails
+        private Duration readTimeout = Duration.ofSeconds(5);
+        // Total time to get the response, capped by the caller's remaining request deadline
+        private Duration responseTimeout = Duration.ofSeconds(10);
+    }
+}
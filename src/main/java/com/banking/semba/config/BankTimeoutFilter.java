@@ -0,0 +1,95 @@
+package com.banking.semba.config;
+
+import com.banking.semba.constants.ValidationMessages;
+import com.banking.semba.globalException.DeadlineExceededException;
+import com.banking.semba.globalException.GlobalException;
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.http.client.HttpClientRequest;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Bounds every bankWebClient call by its endpoint timeouts (bank.client.endpoints) and by whatever is left
+ * of the caller's {@link RequestDeadline}, and forwards that remaining budget to the bank in X-Request-Timeout.
+ * A timed-out call is cancelled, which closes its connection instead of leaving it busy at the bank. Running out
+ * of the caller's deadline fails with {@link DeadlineExceededException}, which the circuit breakers ignore; only
+ * the bank's own endpoint timeouts count as bank failures.
+ */
+public class BankTimeoutFilter implements ExchangeFilterFunction {
+
+    private final BankClientProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public BankTimeoutFilter(BankClientProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.deferContextual(context -> {
+            BankClientProperties.Timeouts timeouts = timeoutsFor(request.url().getPath());
+            Duration budget = timeouts.getResponseTimeout();
+
+            Duration remaining = RequestDeadline.remaining(context).orElse(null);
+            boolean deadlineBound = false;
+            if (remaining != null) {
+                if (remaining.isNegative() || remaining.isZero()) {
+                    return Mono.error(new DeadlineExceededException());
+                }
+                if (remaining.compareTo(budget) < 0) {
+                    budget = remaining;
+                    deadlineBound = true;
+                }
+            }
+
+            ClientRequest bounded = ClientRequest.from(request)
+                    .header(RequestDeadline.TIMEOUT_HEADER, String.valueOf(budget.toMillis()))
+                    .build();
+
+            boolean byDeadline = deadlineBound;
+            return next.exchange(bounded)
+                    .timeout(budget)
+                    .onErrorMap(this::isTimeout, ex -> byDeadline && ex instanceof TimeoutException
+                            ? new DeadlineExceededException()
+                            : new GlobalException(ValidationMessages.BANK_TIMEOUT, HttpStatus.GATEWAY_TIMEOUT.value()));
+        });
+    }
+
+    /**
+     * Installs the endpoint's read timeout on the connection carrying {@code request}: the call fails once the bank
+     * sends nothing for that long, whether before the status line or between body chunks. Registered through
+     * HttpClient#doOnRequest; reactor-netty removes the handler when the connection goes back to the pool.
+     */
+    public void applyReadTimeout(HttpClientRequest request, Connection connection) {
+        long millis = timeoutsFor(request.fullPath()).getReadTimeout().toMillis();
+        connection.addHandlerLast(new ReadTimeoutHandler(millis, TimeUnit.MILLISECONDS));
+    }
+
+    private boolean isTimeout(Throwable ex) {
+        return ex instanceof TimeoutException
+                || ex instanceof ReadTimeoutException
+                || (ex instanceof WebClientRequestException && ex.getCause() instanceof ReadTimeoutException);
+    }
+
+    private BankClientProperties.Timeouts timeoutsFor(String path) {
+        for (Map.Entry<String, BankClientProperties.Timeouts> endpoint : properties.getEndpoints().entrySet()) {
+            if (pathMatcher.match(endpoint.getKey(), path)) {
+                return endpoint.getValue();
+            }
+        }
+        return properties.getTimeouts();
+    }
+}
@@ -0,0 +1,15 @@
+package com.banking.semba.config;
+
+import com.banking.semba.cache.BankDirectoryProperties;
+import com.banking.semba.cache.PayeeCacheProperties;
+import com.banking.semba.cache.TransactionCacheProperties;
+import com.banking.semba.cache.VpaCacheProperties;
+import com.banking.semba.ifsc.IfscDirectoryProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({BankDirectoryProperties.class, IfscDirectoryProperties.class, PayeeCacheProperties.class, VpaCacheProperties.class,
+        TransactionCacheProperties.class})
+public class CacheConfig {
+}
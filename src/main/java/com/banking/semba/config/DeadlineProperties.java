@@ -0,0 +1,27 @@
+package com.banking.semba.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Request deadlines (semba.deadline.* in application.properties), see {@link RequestDeadlineFilter}.
+ */
+@Data
+@ConfigurationProperties(prefix = "semba.deadline")
+public class DeadlineProperties {
+
+    // Used when neither the client header nor a route sets one
+    private Duration defaultTimeout = Duration.ofSeconds(15);
+
+    // Bounds on what a client may ask for in X-Request-Timeout; the floor keeps a client from making its bank calls
+    // time out on purpose
+    private Duration minTimeout = Duration.ofSeconds(1);
+    private Duration maxTimeout = Duration.ofSeconds(60);
+
+    // Per-route defaults keyed by path pattern, first match wins (e.g. semba.deadline.routes[/semba/api/transactions/**]=60s)
+    private Map<String, Duration> routes = new LinkedHashMap<>();
+}
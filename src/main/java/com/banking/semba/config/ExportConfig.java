@@ -0,0 +1,10 @@
+package com.banking.semba.config;
+
+import com.banking.semba.export.ExportJobProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ExportJobProperties.class)
+public class ExportConfig {
+}
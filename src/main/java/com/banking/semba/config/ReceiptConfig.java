@@ -0,0 +1,10 @@
+package com.banking.semba.config;
+
+import com.banking.semba.receipt.ReceiptTemplateProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ReceiptTemplateProperties.class)
+public class ReceiptConfig {
+}
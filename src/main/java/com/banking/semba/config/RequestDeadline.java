@@ -0,0 +1,31 @@
+package com.banking.semba.config;
+
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * End-to-end deadline of the current API request. {@link RequestDeadlineFilter} sets it on the request thread;
+ * Spring MVC then copies it into the Reactor context of the returned Mono (context-propagation), where bank
+ * calls read it via {@link #remaining(ContextView)}.
+ */
+public final class RequestDeadline {
+
+    public static final String KEY = "semba.request.deadline";
+
+    // Remaining budget in milliseconds, accepted from clients and forwarded to the bank
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    static final ThreadLocal<Instant> CURRENT = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    /** Time left before the request deadline, or empty when the call is not part of an API request. */
+    public static Optional<Duration> remaining(ContextView context) {
+        return context.<Instant>getOrEmpty(KEY)
+                .map(deadline -> Duration.between(Instant.now(), deadline));
+    }
+}
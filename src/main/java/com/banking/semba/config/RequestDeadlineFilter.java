@@ -0,0 +1,67 @@
+package com.banking.semba.config;
+
+import io.micrometer.context.ContextRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Starts the deadline clock for every API request: X-Request-Timeout (ms, clamped to semba.deadline.min-timeout
+ * and max-timeout) if the client sent one, otherwise the first matching semba.deadline.routes entry, otherwise the default.
+ */
+@Slf4j
+@Component
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private final DeadlineProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RequestDeadlineFilter(DeadlineProperties properties) {
+        this.properties = properties;
+        ContextRegistry.getInstance().registerThreadLocalAccessor(RequestDeadline.KEY, RequestDeadline.CURRENT);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestDeadline.CURRENT.set(Instant.now().plus(timeoutFor(request)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.CURRENT.remove();
+        }
+    }
+
+    private Duration timeoutFor(HttpServletRequest request) {
+        String header = request.getHeader(RequestDeadline.TIMEOUT_HEADER);
+        if (header != null && !header.isBlank()) {
+            try {
+                Duration requested = Duration.ofMillis(Long.parseLong(header.trim()));
+                if (requested.compareTo(properties.getMinTimeout()) < 0) {
+                    return properties.getMinTimeout();
+                }
+                return requested.compareTo(properties.getMaxTimeout()) > 0 ? properties.getMaxTimeout() : requested;
+            } catch (NumberFormatException ex) {
+                log.debug("Ignoring invalid {} header | value={}", RequestDeadline.TIMEOUT_HEADER, header);
+            }
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Map.Entry<String, Duration> route : properties.getRoutes().entrySet()) {
+            if (pathMatcher.match(route.getKey(), path)) {
+                return route.getValue();
+            }
+        }
+        return properties.getDefaultTimeout();
+    }
+}
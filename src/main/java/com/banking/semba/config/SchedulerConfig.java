@@ -0,0 +1,13 @@
+package com.banking.semba.config;
+
+import com.banking.semba.scheduler.ScheduledTransferProperties;
+import com.banking.semba.scheduler.StandingInstructionProperties;
+import com.banking.semba.scheduler.TransferRetryProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({TransferRetryProperties.class, ScheduledTransferProperties.class,
+        StandingInstructionProperties.class})
+public class SchedulerConfig {
+}
@@ -0,0 +1,49 @@
+package com.banking.semba.config;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link StreamingResponseBody} straight into the servlet response. Spring MVC only streams one
+ * returned as {@code ResponseEntity<StreamingResponseBody>}; controllers that return {@code Mono<ResponseEntity<?>>}
+ * (JSON or a file from the same endpoint) would otherwise fail with "no converter". Nothing is buffered, the
+ * response is chunked, and a client disconnect surfaces as an IOException that stops the writer.
+ */
+@Component
+public class StreamingResponseBodyConverter extends AbstractHttpMessageConverter<StreamingResponseBody> {
+
+    public StreamingResponseBodyConverter() {
+        super(MediaType.ALL);
+    }
+
+    @Override
+    protected boolean supports(@NonNull Class<?> clazz) {
+        return StreamingResponseBody.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(@NonNull Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    @NonNull
+    protected StreamingResponseBody readInternal(@NonNull Class<? extends StreamingResponseBody> clazz,
+                                                 @NonNull HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("StreamingResponseBody is write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(@NonNull StreamingResponseBody body, @NonNull HttpOutputMessage outputMessage)
+            throws IOException {
+        body.writeTo(outputMessage.getBody());
+    }
+}
@@ -1,18 +1,70 @@
 package com.banking.semba.config;
 
+import com.banking.semba.gateway.BankHedgeProperties;
+import com.banking.semba.gateway.BankSimulatorProperties;
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
 
 
 @Configuration
+@EnableConfigurationProperties({BankClientProperties.class, BankSimulatorProperties.class, BankHedgeProperties.class,
+        DeadlineProperties.class})
 public class WebClientConfig {
 
+    public static final String BANK_POOL_NAME = "bank";
+
+    /**
+     * Shared pool for every bank call. Metrics are published as
+     * reactor.netty.connection.provider.{active,idle,pending,total}.connections tagged with name=bank.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider bankConnectionProvider(BankClientProperties properties) {
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(BANK_POOL_NAME).metrics(true);
+        applyPool(builder, properties.getPool());
+
+        properties.getHosts().forEach((host, pool) ->
+                builder.forRemoteHost(InetSocketAddress.createUnresolved(host, pool.getPort()),
+                        spec -> applyPool(spec, pool)));
+
+        return builder.build();
+    }
+
     @Bean
-    public WebClient bankWebClient() {
+    public WebClient bankWebClient(ConnectionProvider bankConnectionProvider, BankClientProperties properties) {
+        BankTimeoutFilter timeoutFilter = new BankTimeoutFilter(properties);
+        HttpClient httpClient = HttpClient.create(bankConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .keepAlive(properties.isKeepAlive())
+                .doOnRequest(timeoutFilter::applyReadTimeout);
+
+        if (properties.isHttp2()) {
+            // H2 is negotiated via ALPN on TLS hosts; plain-text hosts stay on HTTP/1.1
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
         return WebClient.builder()
-                .baseUrl("https://jsonplaceholder.typicode.com") // Replace with real Bank base URL
+                .baseUrl(properties.getBaseUrl()) // Replace with real Bank base URL
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader("Content-Type", "application/json")
+                .filter(timeoutFilter)
                 .build();
     }
+
+    private static <T extends ConnectionProvider.ConnectionPoolSpec<T>> void applyPool(T spec, BankClientProperties.Pool pool) {
+        spec.maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictInBackground());
+    }
 }
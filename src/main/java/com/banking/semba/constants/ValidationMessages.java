@@ -90,6 +90,10 @@ public class ValidationMessages {
     public static final String ACCOUNT_FETCH_SUCCESS = "Account details fetched successfully.";
     public static final String ACCOUNT_FETCH_FAILED = "Failed to fetch account details.";
     public static final String BANK_API_FAILED = "Bank API call failed. Please try again later.";
+    public static final String BANK_UNAVAILABLE = "Bank service is temporarily unavailable. Please try again shortly.";
+    public static final String BANK_BUSY = "Bank service is busy. Please try again shortly.";
+    public static final String BANK_TIMEOUT = "Bank did not respond in time. Please try again.";
+    public static final String REQUEST_DEADLINE_EXCEEDED = "Request took too long and was cancelled. Please try again.";
     public static final String UNKNOWN_ERROR = "Something went wrong. Please try again later.";
     public static final String FUND_TRANSFER_ERROR = "Client error during fund transfer.";
     public static final String FUND_TRANSFER_SERVERERROR = "Fund transfer error during fund transfer.";
@@ -125,6 +129,16 @@ public class ValidationMessages {
     public static final String BENEFICIARY_NAME_REQUIRED = "Beneficiary name is required";
     public static final String ACCOUNT_NUMBER_MISMATCH = "Account number and confirm account number do not match";
     public static final String INVALID_IFSC = "Invalid IFSC format";
+    public static final String INVALID_STATEMENT_RANGE = "Statement needs from and to dates, from not after to, at most 366 days apart";
+    public static final String IFSC_NOT_FOUND = "IFSC code not found in bank directory";
+    public static final String EXPORT_JOB_LIMIT = "Too many exports in progress, try again once one has finished";
+    public static final String EXPORT_QUEUE_FULL = "Export service is busy, please try again later";
+    public static final String EXPORT_JOB_NOT_FOUND = "Export job not found";
+    public static final String EXPORT_NOT_READY = "Export is not ready for download";
+    public static final String EXPORT_EXPIRED = "Export has expired, please request it again";
+    public static final String EXPORT_FAILED = "Export could not be generated";
+    public static final String EXPORT_TRANSACTIONS_REQUIRED = "At least one transaction ID is required";
+    public static final String EXPORT_TOO_MANY_TRANSACTIONS = "Too many transactions in one export";
     public static final String STATUS_UNAUTHORIZED = "UNAUTHORIZED";
     public static final String STATUS_FORBIDDEN = "FORBIDDEN";
     public static final String CONFLICT = "Conflict";
@@ -144,6 +158,14 @@ public class ValidationMessages {
     public static final String MISSING_TRANSACTION_ID = "Transaction ID is required";
     public static final String OTP_REQUIRED = "OTP is required";
     public static final String INVALID_OTP = "Invalid OTP for scheduler";
+    public static final String INVALID_FREQUENCY = "Frequency is required. Allowed: DAILY, WEEKLY, MONTHLY";
+    public static final String INVALID_INTERVAL = "Interval must be between 1 and ";
+    public static final String INVALID_END_DATE = "End date cannot be before the start date";
+    public static final String INVALID_MAX_OCCURRENCES = "Maximum occurrences must be at least 1";
+    public static final String STANDING_INSTRUCTION_NO_OCCURRENCE = "Standing instruction has no future occurrence";
+    public static final String STANDING_INSTRUCTION_LIMIT = "Too many active standing instructions";
+    public static final String STANDING_INSTRUCTION_NOT_FOUND = "Standing instruction not found or no longer active";
+    public static final String STANDING_INSTRUCTION_NOT_PENDING = "Standing instruction not found or not awaiting OTP verification";
 
     public static final String OTP_SEND_FAILED = "Failed to send OTP.";
     public static final String MOBILE_REQUIRED = "Mobile number is required.";
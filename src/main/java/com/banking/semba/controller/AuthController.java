@@ -113,19 +113,19 @@ public class AuthController {
     }
 
     @GetMapping("/signupProfile")
-    public ResponseEntity<ApiResponseDTO<Map<String, Object>>> getProfile(
+    public Mono<ResponseEntity<ApiResponseDTO<Map<String, Object>>>> getProfile(
             @RequestHeader("Authorization") String authHeader,
             @RequestHeader("X-Device-Id") String deviceId,
             @RequestHeader("X-IP") String ip,
             @RequestHeader(value = "X-Latitude", required = false) Double latitude,
             @RequestHeader(value = "X-Longitude", required = false) Double longitude
     ) {
-        ApiResponseDTO<Map<String, Object>> response = customerService.getProfile(authHeader, ip, deviceId, latitude, longitude);
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        return customerService.getProfile(authHeader, ip, deviceId, latitude, longitude)
+                .map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
     }
 
     @GetMapping("/signupProfile/{id}")
-    public ResponseEntity<ApiResponseDTO<Map<String, Object>>> getAccountById(
+    public Mono<ResponseEntity<ApiResponseDTO<Map<String, Object>>>> getAccountById(
             @PathVariable Long id,
             @RequestHeader("Authorization") String authHeader,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -133,8 +133,8 @@ public class AuthController {
             @RequestHeader(value = "X-Latitude", required = false) Double latitude,
             @RequestHeader(value = "X-Longitude", required = false) Double longitude
     ) {
-        ApiResponseDTO<Map<String, Object>> response = customerService.getAccountById(id, authHeader, deviceId, ip, latitude, longitude);
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        return customerService.getAccountById(id, authHeader, deviceId, ip, latitude, longitude)
+                .map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
     }
 }
 
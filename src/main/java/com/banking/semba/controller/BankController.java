@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 
@@ -21,7 +22,7 @@ public class BankController {
 
     /* Fetch Account Details */
     @GetMapping("/accounts/{id}")
-    public ResponseEntity<ApiResponseDTO<Map<String, Object>>> getAccount(
+    public Mono<ResponseEntity<ApiResponseDTO<Map<String, Object>>>> getAccount(
             @PathVariable Long id,
             @RequestHeader("Authorization") String authHeader,
             @RequestHeader("X-IP") String ip,
@@ -31,14 +32,13 @@ public class BankController {
 
         String mobile = jwtService.extractMobileFromHeader(authHeader);
 
-        ApiResponseDTO<Map<String, Object>> response =
-                accountService.getAccountById(id, mobile, ip, deviceId, latitude, longitude);
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        return accountService.getAccountById(id, mobile, ip, deviceId, latitude, longitude)
+                .map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
     }
 
     /*Fetch Live Balance */
     @GetMapping("/accounts/{accountNumber}/balance")
-    public ResponseEntity<ApiResponseDTO<Map<String, Object>>> getBalance(
+    public Mono<ResponseEntity<ApiResponseDTO<Map<String, Object>>>> getBalance(
             @PathVariable String accountNumber,
             @RequestHeader("Authorization") String authHeader,
             @RequestHeader("X-IP") String ip,
@@ -48,14 +48,13 @@ public class BankController {
 
         String mobile = jwtService.extractMobileFromHeader(authHeader);
 
-        ApiResponseDTO<Map<String, Object>> response =
-                accountService.getLiveBalance(accountNumber, mobile, ip, deviceId, latitude, longitude);
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        return accountService.getLiveBalance(accountNumber, mobile, ip, deviceId, latitude, longitude)
+                .map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
     }
 
     /* Fund Transfers (UPI, MOBILE, BANK, CREDIT/DEBIT CARD) */
     @PostMapping("/payments")
-    public ResponseEntity<ApiResponseDTO<Map<String, Object>>> makePayment(
+    public Mono<ResponseEntity<ApiResponseDTO<Map<String, Object>>>> makePayment(
             @RequestBody FundTransferDTO dto,
             @RequestHeader("Authorization") String authHeader,
             @RequestHeader("X-IP") String ip,
@@ -65,8 +64,7 @@ public class BankController {
 
         String mobile = jwtService.extractMobileFromHeader(authHeader);
 
-        ApiResponseDTO<Map<String, Object>> response =
-                accountService.transferFunds(dto, mobile, ip, deviceId, latitude, longitude);
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        return accountService.transferFunds(dto, mobile, ip, deviceId, latitude, longitude)
+                .map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
     }
 }
\ No newline at end of file
@@ -11,6 +11,7 @@ import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("semba/api/beneficiary")
@@ -28,7 +29,7 @@ public class BeneficiaryController {
     }
 
     @PostMapping("/add")
-    public ResponseEntity<HttpResponseDTO> addBeneficiary(
+    public Mono<ResponseEntity<HttpResponseDTO>> addBeneficiary(
             @RequestHeader("Authorization") String auth,
             @RequestHeader("X-IP") String ip,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -38,15 +39,15 @@ public class BeneficiaryController {
     ) {
         String mobile = jwtTokenService.extractMobileFromHeader(auth);
         if (mobile == null || mobile.isEmpty()) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new HttpResponseDTO(ValidationMessages.BAD_REQUEST, HttpStatus.UNAUTHORIZED.value(), ValidationMessages.USER_NOT_FOUND));
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new HttpResponseDTO(ValidationMessages.BAD_REQUEST, HttpStatus.UNAUTHORIZED.value(), ValidationMessages.USER_NOT_FOUND)));
         }
-        ResponseEntity<HttpResponseDTO> serviceResponse = beneficiaryService.addBeneficiary(mobile, ip, deviceId, latitude, longitude, beneficiaryDTO);
+        Mono<ResponseEntity<HttpResponseDTO>> serviceResponse = beneficiaryService.addBeneficiary(mobile, ip, deviceId, latitude, longitude, beneficiaryDTO);
         return serviceResponse;
     }
 
 
     @GetMapping("/fetch/payees")
-    public ResponseEntity<HttpResponseDTO> getAllPayees(
+    public Mono<ResponseEntity<HttpResponseDTO>> getAllPayees(
             @RequestHeader("Authorization") String auth,
             @RequestHeader("X-IP") String ip,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -61,15 +62,15 @@ public class BeneficiaryController {
                     HttpStatus.UNAUTHORIZED.value(),
                     ValidationMessages.USER_NOT_FOUND
             );
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response));
         }
 
-        ResponseEntity<HttpResponseDTO> serviceResponse = beneficiaryService.getAllPayees(mobile, ip, deviceId, latitude, longitude);
+        Mono<ResponseEntity<HttpResponseDTO>> serviceResponse = beneficiaryService.getAllPayees(mobile, ip, deviceId, latitude, longitude);
         return serviceResponse;
     }
 
     @PutMapping("/update/payee/{payeeId}")
-    public ResponseEntity<HttpResponseDTO> updatePayee(
+    public Mono<ResponseEntity<HttpResponseDTO>> updatePayee(
             @RequestHeader("Authorization") String auth,
             @PathVariable Long payeeId,
             @RequestHeader("X-IP") String ip,
@@ -81,16 +82,16 @@ public class BeneficiaryController {
         String mobile = jwtTokenService.extractMobileFromHeader(auth);
         if (mobile == null || mobile.isEmpty()) {
             HttpResponseDTO response = new HttpResponseDTO(ValidationMessages.BAD_REQUEST, HttpStatus.UNAUTHORIZED.value(), ValidationMessages.USER_NOT_FOUND);
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response));
         }
-        ResponseEntity<HttpResponseDTO> serviceResponse = beneficiaryService.updatePayee(
+        Mono<ResponseEntity<HttpResponseDTO>> serviceResponse = beneficiaryService.updatePayee(
                 mobile, ip, deviceId, latitude, longitude, payeeId, updateBeneficiaryDTO
         );
         return serviceResponse;
     }
 
     @DeleteMapping("/delete/payee/{payeeId}")
-    public ResponseEntity<HttpResponseDTO> deletePayee(
+    public Mono<ResponseEntity<HttpResponseDTO>> deletePayee(
             @RequestHeader("Authorization") String auth,
             @PathVariable Long payeeId,
             @RequestHeader("X-IP") String ip,
@@ -105,14 +106,14 @@ public class BeneficiaryController {
                     HttpStatus.UNAUTHORIZED.value(),
                     ValidationMessages.USER_NOT_FOUND
             );
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response));
         }
-        ResponseEntity<HttpResponseDTO> serviceResponse = beneficiaryService.deletePayee(mobile, ip, deviceId, latitude, longitude, payeeId);
+        Mono<ResponseEntity<HttpResponseDTO>> serviceResponse = beneficiaryService.deletePayee(mobile, ip, deviceId, latitude, longitude, payeeId);
         return serviceResponse;
     }
 
     @GetMapping("/fetch/topBanksList")
-    public ResponseEntity<HttpResponseDTO> fetchTopBanksList(
+    public Mono<ResponseEntity<HttpResponseDTO>> fetchTopBanksList(
             @RequestHeader("Authorization") String auth,
             @RequestHeader("X-IP") String ip,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -126,31 +127,31 @@ public class BeneficiaryController {
                     HttpStatus.UNAUTHORIZED.value(),
                     ValidationMessages.USER_NOT_FOUND
             );
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response));
         }
 
-        HttpResponseDTO response = bankService.fetchTopBanksList(auth, ip, deviceId, latitude, longitude);
-        return ResponseEntity.status(response.getResponseCode()).body(response);
+        return bankService.fetchTopBanksList(auth, ip, deviceId, latitude, longitude)
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
     }
 
     @GetMapping("/search/bankName")
-    public ResponseEntity<HttpResponseDTO> searchBank(@RequestHeader("Authorization") String auth,
-                                                      @RequestHeader("X-IP") String ip,
-                                                      @RequestHeader("X-Device-Id") String deviceId,
-                                                      @RequestHeader(value = "X-Latitude", required = false) Double latitude,
-                                                      @RequestHeader(value = "X-Longitude", required = false) Double longitude,
-                                                      @RequestParam String bankName) {
+    public Mono<ResponseEntity<HttpResponseDTO>> searchBank(@RequestHeader("Authorization") String auth,
+                                                            @RequestHeader("X-IP") String ip,
+                                                            @RequestHeader("X-Device-Id") String deviceId,
+                                                            @RequestHeader(value = "X-Latitude", required = false) Double latitude,
+                                                            @RequestHeader(value = "X-Longitude", required = false) Double longitude,
+                                                            @RequestParam String bankName) {
         HttpResponseDTO httpResponseDTO = new HttpResponseDTO();
         String mobile = jwtTokenService.extractMobileFromHeader(auth);
         if (mobile == null || mobile.isEmpty()) {
-            return new ResponseEntity<>(httpResponseDTO, HttpStatus.UNAUTHORIZED);
+            return Mono.just(new ResponseEntity<>(httpResponseDTO, HttpStatus.UNAUTHORIZED));
         }
-        HttpResponseDTO response = bankService.searchBanks(auth, ip, deviceId, latitude, longitude, bankName);
-        return ResponseEntity.status(response.getResponseCode()).body(response);
+        return bankService.searchBanks(auth, ip, deviceId, latitude, longitude, bankName)
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
     }
 
     @PostMapping("/bank-Transfer/initiate")
-    public ResponseEntity<HttpResponseDTO> initiateTransfer(
+    public Mono<ResponseEntity<HttpResponseDTO>> initiateTransfer(
             @RequestHeader("Authorization") String auth,
             @RequestHeader("X-IP") String ip,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -161,13 +162,13 @@ public class BeneficiaryController {
         HttpResponseDTO httpResponseDTO = new HttpResponseDTO();
         String mobile = jwtTokenService.extractMobileFromHeader(auth);
         if (mobile == null || mobile.isEmpty()) {
-            return new ResponseEntity<>(httpResponseDTO, HttpStatus.UNAUTHORIZED);
+            return Mono.just(new ResponseEntity<>(httpResponseDTO, HttpStatus.UNAUTHORIZED));
         }
-        HttpResponseDTO response = fundTransferService.initiateTransfer(mobile, ip, deviceId, latitude, longitude, request);
-        return ResponseEntity.status(response.getResponseCode()).body(response);
+        return fundTransferService.initiateTransfer(mobile, ip, deviceId, latitude, longitude, request)
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
     }
     @PostMapping("/confirm")
-    public ResponseEntity<HttpResponseDTO> confirmPayment(
+    public Mono<ResponseEntity<HttpResponseDTO>> confirmPayment(
             @RequestHeader("Authorization") String auth,
             @RequestHeader("X-IP") String ip,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -178,14 +179,14 @@ public class BeneficiaryController {
         HttpResponseDTO httpResponseDTO = new HttpResponseDTO();
         String mobile = jwtTokenService.extractMobileFromHeader(auth);
         if (mobile == null || mobile.isEmpty()) {
-            return new ResponseEntity<>(httpResponseDTO, HttpStatus.UNAUTHORIZED);
+            return Mono.just(new ResponseEntity<>(httpResponseDTO, HttpStatus.UNAUTHORIZED));
         }
-        HttpResponseDTO response = fundTransferService.confirmPayment(auth, ip, deviceId, latitude, longitude, request);
-        return ResponseEntity.status(response.getResponseCode()).body(response);
+        return fundTransferService.confirmPayment(auth, ip, deviceId, latitude, longitude, request)
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
     }
 
     @PostMapping("/bank-Transfer/verify-otp")
-    public ResponseEntity<HttpResponseDTO> verifyOtp(
+    public Mono<ResponseEntity<HttpResponseDTO>> verifyOtp(
             @RequestHeader("Authorization") String auth,
             @RequestHeader("X-IP") String ip,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -196,9 +197,9 @@ public class BeneficiaryController {
         HttpResponseDTO httpResponseDTO = new HttpResponseDTO();
         String mobile = jwtTokenService.extractMobileFromHeader(auth);
         if (mobile == null || mobile.isEmpty()) {
-            return new ResponseEntity<>(httpResponseDTO, HttpStatus.UNAUTHORIZED);
+            return Mono.just(new ResponseEntity<>(httpResponseDTO, HttpStatus.UNAUTHORIZED));
         }
-        HttpResponseDTO response = fundTransferService.verifyOtp(mobile, ip, deviceId, latitude, longitude, otpRequest);
-        return ResponseEntity.status(response.getResponseCode()).body(response);
+        return fundTransferService.verifyOtp(mobile, ip, deviceId, latitude, longitude, otpRequest)
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
     }
 }
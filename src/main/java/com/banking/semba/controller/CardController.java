@@ -11,6 +11,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 
@@ -24,7 +25,7 @@ public class CardController {
 
     // ------------------- Add Card -------------------
     @PostMapping("/card/add")
-    public ResponseEntity<ApiResponseDTO<Map<String, Object>>> addCard(
+    public Mono<ResponseEntity<ApiResponseDTO<Map<String, Object>>>> addCard(
             @RequestHeader("Authorization") String authHeader,
             @RequestHeader("X-IP") String ip,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -33,14 +34,14 @@ public class CardController {
             @RequestBody CardRequest request
     ) {
         String mobile = jwtService.extractMobileFromHeader(authHeader);
-        ApiResponseDTO<Map<String, Object>> response = cardService.addCard(
-                request, mobile, ip, deviceId, latitude, longitude);
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        return cardService.addCard(
+                        request, mobile, ip, deviceId, latitude, longitude)
+                .map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
     }
 
     // ------------------- Verify Card OTP -------------------
     @PostMapping("card/verify-otp")
-    public ResponseEntity<ApiResponseDTO<Map<String, Object>>> verifyOtp(
+    public Mono<ResponseEntity<ApiResponseDTO<Map<String, Object>>>> verifyOtp(
             @RequestHeader("Authorization") String authHeader,
             @RequestHeader("X-IP") String ip,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -49,14 +50,14 @@ public class CardController {
             @RequestBody CardOtpRequest request
     ) {
         String mobile = jwtService.extractMobileFromHeader(authHeader);
-        ApiResponseDTO<Map<String, Object>> response = cardService.verifyCardOtp(
-                request, mobile, ip, deviceId, latitude, longitude);
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        return cardService.verifyCardOtp(
+                        request, mobile, ip, deviceId, latitude, longitude)
+                .map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
     }
 
     // ------------------- Get All Cards -------------------
     @GetMapping("card/list")
-    public ResponseEntity<ApiResponseDTO<Map<String, Object>>> getCards(
+    public Mono<ResponseEntity<ApiResponseDTO<Map<String, Object>>>> getCards(
             @RequestHeader("Authorization") String authHeader,
             @RequestHeader("X-IP") String ip,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -65,14 +66,13 @@ public class CardController {
             @RequestParam(value = "type", required = false) String type // CREDIT or DEBIT
     ) {
         String mobile = jwtService.extractMobileFromHeader(authHeader);
-        ApiResponseDTO<Map<String, Object>> response = cardService.getCards(
-                mobile, ip, deviceId, latitude, longitude, type
-        );
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        return cardService.getCards(
+                        mobile, ip, deviceId, latitude, longitude, type)
+                .map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
     }
 
     @PostMapping("card/pay-now")
-    public ResponseEntity<ApiResponseDTO<Map<String, Object>>> payNow(
+    public Mono<ResponseEntity<ApiResponseDTO<Map<String, Object>>>> payNow(
             @RequestHeader("Authorization") String authHeader,
             @RequestHeader("X-IP") String ip,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -81,8 +81,8 @@ public class CardController {
             @Validated @RequestBody PayNowRequest request
     ) {
         String mobile = jwtService.extractMobileFromHeader(authHeader);
-        ApiResponseDTO<Map<String, Object>> response = cardService.processPayment(request, mobile, ip, deviceId, latitude, longitude);
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        return cardService.processPayment(request, mobile, ip, deviceId, latitude, longitude)
+                .map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
     }
 }
 
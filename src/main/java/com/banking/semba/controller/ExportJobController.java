@@ -0,0 +1,70 @@
+package com.banking.semba.controller;
+
+import com.banking.semba.dto.ApiResponseDTO;
+import com.banking.semba.dto.ReceiptExportRequestDTO;
+import com.banking.semba.dto.StatementExportRequestDTO;
+import com.banking.semba.dto.response.ExportJobResponse;
+import com.banking.semba.service.ExportJobService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/semba/api/transactions/exports")
+public class ExportJobController {
+
+    private final ExportJobService exportJobService;
+
+    public ExportJobController(ExportJobService exportJobService) {
+        this.exportJobService = exportJobService;
+    }
+
+    // ---------------- SUBMIT ----------------
+    @PostMapping("/receipts")
+    public Mono<ResponseEntity<ApiResponseDTO<ExportJobResponse>>> exportReceipts(
+            @RequestHeader("Authorization") String auth,
+            @RequestHeader("X-IP") String ip,
+            @RequestHeader("X-Device-Id") String deviceId,
+            @RequestHeader(value = "X-Latitude", required = false) Double latitude,
+            @RequestHeader(value = "X-Longitude", required = false) Double longitude,
+            @RequestBody ReceiptExportRequestDTO request) {
+
+        return exportJobService.submitReceipts(auth, ip, deviceId, latitude, longitude, request)
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
+    }
+
+    @PostMapping("/statement")
+    public Mono<ResponseEntity<ApiResponseDTO<ExportJobResponse>>> exportStatement(
+            @RequestHeader("Authorization") String auth,
+            @RequestHeader("X-IP") String ip,
+            @RequestHeader("X-Device-Id") String deviceId,
+            @RequestHeader(value = "X-Latitude", required = false) Double latitude,
+            @RequestHeader(value = "X-Longitude", required = false) Double longitude,
+            @RequestBody StatementExportRequestDTO request) {
+
+        return exportJobService.submitStatement(auth, ip, deviceId, latitude, longitude, request)
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
+    }
+
+    // ---------------- STATUS ----------------
+    @GetMapping("/{jobId}")
+    public Mono<ResponseEntity<ApiResponseDTO<ExportJobResponse>>> getJob(
+            @RequestHeader("Authorization") String auth,
+            @PathVariable String jobId) {
+
+        return exportJobService.getJob(auth, jobId)
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
+    }
+
+    // ---------------- DOWNLOAD ----------------
+    /* Synchronous on purpose: the sendfile hand-off must happen on the request thread before the response commits */
+    @GetMapping("/{jobId}/file")
+    public ResponseEntity<?> downloadJob(
+            @RequestHeader("Authorization") String auth,
+            @PathVariable String jobId,
+            HttpServletRequest request) {
+
+        return exportJobService.download(auth, jobId, request);
+    }
+}
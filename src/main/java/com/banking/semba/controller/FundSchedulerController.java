@@ -3,13 +3,16 @@ package com.banking.semba.controller;
 import com.banking.semba.dto.FundScheduleRequestDTO;
 import com.banking.semba.dto.HttpResponseDTO;
 import com.banking.semba.dto.OtpVerifyRequestDTO;
+import com.banking.semba.dto.StandingInstructionRequestDTO;
 import com.banking.semba.security.JwtTokenService;
 import com.banking.semba.service.FundSchedulerService;
+import com.banking.semba.service.StandingInstructionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/semba/api")
@@ -17,10 +20,11 @@ import org.springframework.web.bind.annotation.*;
 public class FundSchedulerController {
 
     private final FundSchedulerService fundSchedulerService;
+    private final StandingInstructionService standingInstructionService;
     private final JwtTokenService jwtTokenService;
     // ---------------- SCHEDULE PAYMENT ----------------
     @PostMapping("/schedule")
-    public ResponseEntity<HttpResponseDTO> scheduleTransfer(
+    public Mono<ResponseEntity<HttpResponseDTO>> scheduleTransfer(
             @RequestHeader("Authorization") String auth,
             @RequestHeader("X-IP") String ip,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -29,13 +33,13 @@ public class FundSchedulerController {
             @Valid @RequestBody FundScheduleRequestDTO request) {
 
         String mobile = jwtTokenService.extractMobileFromHeader(auth);
-        HttpResponseDTO response = fundSchedulerService.scheduleTransfer(mobile, ip, deviceId, latitude, longitude, request);
-        return ResponseEntity.status(response.getResponseCode()).body(response);
+        return fundSchedulerService.scheduleTransfer(mobile, ip, deviceId, latitude, longitude, request)
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
     }
 
     // ---------------- VERIFY OTP ----------------
     @PostMapping("/verify-otp")
-    public ResponseEntity<HttpResponseDTO> verifyOtp(
+    public Mono<ResponseEntity<HttpResponseDTO>> verifyOtp(
             @RequestHeader("Authorization") String auth,
             @RequestHeader("X-IP") String ip,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -44,7 +48,60 @@ public class FundSchedulerController {
             @Valid @RequestBody OtpVerifyRequestDTO otpRequest) {
 
         String mobile = jwtTokenService.extractMobileFromHeader(auth);
-        HttpResponseDTO response = fundSchedulerService.verifyOtp(mobile, ip, deviceId, latitude, longitude, otpRequest);
-        return ResponseEntity.status(response.getResponseCode()).body(response);
+        return fundSchedulerService.verifyOtp(mobile, ip, deviceId, latitude, longitude, otpRequest)
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
     }
-}
\ No newline at end of file
+
+    // ---------------- STANDING INSTRUCTIONS ----------------
+    @PostMapping("/standing-instructions")
+    public Mono<ResponseEntity<HttpResponseDTO>> createStandingInstruction(
+            @RequestHeader("Authorization") String auth,
+            @RequestHeader("X-IP") String ip,
+            @RequestHeader("X-Device-Id") String deviceId,
+            @RequestHeader(value = "X-Latitude", required = false) Double latitude,
+            @RequestHeader(value = "X-Longitude", required = false) Double longitude,
+            @Valid @RequestBody StandingInstructionRequestDTO request) {
+
+        String mobile = jwtTokenService.extractMobileFromHeader(auth);
+        return standingInstructionService.create(mobile, ip, deviceId, latitude, longitude, request)
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
+    }
+
+    @PostMapping("/standing-instructions/{id}/verify-otp")
+    public Mono<ResponseEntity<HttpResponseDTO>> verifyStandingInstructionOtp(
+            @RequestHeader("Authorization") String auth,
+            @RequestHeader("X-IP") String ip,
+            @RequestHeader("X-Device-Id") String deviceId,
+            @RequestHeader(value = "X-Latitude", required = false) Double latitude,
+            @RequestHeader(value = "X-Longitude", required = false) Double longitude,
+            @PathVariable String id,
+            @Valid @RequestBody OtpVerifyRequestDTO otpRequest) {
+
+        String mobile = jwtTokenService.extractMobileFromHeader(auth);
+        return standingInstructionService.verifyOtp(mobile, ip, deviceId, latitude, longitude, id, otpRequest)
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
+    }
+
+    @GetMapping("/standing-instructions")
+    public Mono<ResponseEntity<HttpResponseDTO>> listStandingInstructions(
+            @RequestHeader("Authorization") String auth) {
+
+        String mobile = jwtTokenService.extractMobileFromHeader(auth);
+        return standingInstructionService.list(mobile)
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
+    }
+
+    @DeleteMapping("/standing-instructions/{id}")
+    public Mono<ResponseEntity<HttpResponseDTO>> cancelStandingInstruction(
+            @RequestHeader("Authorization") String auth,
+            @RequestHeader("X-IP") String ip,
+            @RequestHeader("X-Device-Id") String deviceId,
+            @RequestHeader(value = "X-Latitude", required = false) Double latitude,
+            @RequestHeader(value = "X-Longitude", required = false) Double longitude,
+            @PathVariable String id) {
+
+        String mobile = jwtTokenService.extractMobileFromHeader(auth);
+        return standingInstructionService.cancel(mobile, ip, deviceId, latitude, longitude, id)
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
+    }
+}
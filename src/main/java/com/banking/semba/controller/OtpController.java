@@ -6,6 +6,7 @@ import com.banking.semba.service.OtpService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("semba/api")
@@ -16,7 +17,7 @@ public class OtpController {
 
     //Send OTP (login, transfer, etc.)
     @PostMapping("/send")
-    public ResponseEntity<HttpResponseDTO> sendOtp(
+    public Mono<ResponseEntity<HttpResponseDTO>> sendOtp(
             @RequestHeader(value = "Authorization", required = false) String auth,
             @RequestHeader("X-IP") String ip,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -25,8 +26,7 @@ public class OtpController {
             @RequestParam boolean preLogin, // true = login otp, false = others
             @RequestBody OtpSendRequestDTO dto) {
 
-        return ResponseEntity.ok(
-                otpService.sendOtp(auth, ip, deviceId, latitude, longitude, dto, preLogin)
-        );
+        return otpService.sendOtp(auth, ip, deviceId, latitude, longitude, dto, preLogin)
+                .map(ResponseEntity::ok);
     }
 }
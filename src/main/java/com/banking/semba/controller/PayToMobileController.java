@@ -9,6 +9,7 @@ import com.banking.semba.service.PayToMobileService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
@@ -51,7 +52,7 @@ public class PayToMobileController {
 
 
     @GetMapping("/recent/payments")
-    public ResponseEntity<ApiResponseDTO<List<RecentPaymentsDTO>>> getRecentPayments(
+    public Mono<ResponseEntity<ApiResponseDTO<List<RecentPaymentsDTO>>>> getRecentPayments(
             @RequestHeader("Authorization") String auth,
             @RequestHeader("X-IP") String ip,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -62,18 +63,17 @@ public class PayToMobileController {
 
         String mobile = jwtTokenService.extractMobileFromHeader(auth);
         if (mobile == null || mobile.isEmpty()) {
-            return new ResponseEntity<>(apiResponseDTO, HttpStatus.UNAUTHORIZED);
+            return Mono.just(new ResponseEntity<>(apiResponseDTO, HttpStatus.UNAUTHORIZED));
         }
 
-        ApiResponseDTO<List<RecentPaymentsDTO>> response = payToMobileService.getRecentPayments(
+        return payToMobileService.getRecentPayments(
                 auth, ip, deviceId, latitude, longitude
-        );
-
-        return ResponseEntity.status(response.getResponseCode()).body(response);
+        )
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
     }
 
     @PostMapping("/validate-balance-mpin")
-    public ResponseEntity<ApiResponseDTO<BalanceValidationDataDTO>> validatePayment(
+    public Mono<ResponseEntity<ApiResponseDTO<BalanceValidationDataDTO>>> validatePayment(
             @RequestHeader("Authorization") String auth,
             @RequestHeader("X-IP") String ip,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -83,25 +83,24 @@ public class PayToMobileController {
     ) {
         String mobile = jwtTokenService.extractMobileFromHeader(auth);
         if (mobile == null || mobile.isEmpty()) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
                     new ApiResponseDTO<>(
                             ValidationMessages.STATUS_UNAUTHORIZED,
                             HttpStatus.UNAUTHORIZED.value(),
                             ValidationMessages.INVALID_JWT,
                             null
                     )
-            );
+            ));
         }
 
-        ApiResponseDTO<BalanceValidationDataDTO> response = bankService.validateBankBalance(
+        return bankService.validateBankBalance(
                 auth, ip, deviceId, latitude, longitude, balanceValidationRequestDTO.getAccountNumber(), balanceValidationRequestDTO.getEnteredAmount(), balanceValidationRequestDTO.getMpin()
-        );
-
-        return ResponseEntity.status(response.getResponseCode()).body(response);
+        )
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
     }
 
     @GetMapping("/details")
-    public ResponseEntity<ApiResponseDTO<TransactionDetailsDTO>> getTransactionDetails(
+    public Mono<ResponseEntity<ApiResponseDTO<TransactionDetailsDTO>>> getTransactionDetails(
             @RequestHeader("Authorization") String auth,
             @RequestHeader("X-IP") String ip,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -111,17 +110,17 @@ public class PayToMobileController {
     ) {
         String mobile = jwtTokenService.extractMobileFromHeader(auth);
         if (mobile == null || mobile.isEmpty()) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
                     new ApiResponseDTO<>(
                             ValidationMessages.STATUS_UNAUTHORIZED,
                             HttpStatus.UNAUTHORIZED.value(),
                             ValidationMessages.INVALID_JWT,
                             null
                     )
-            );
+            ));
         }
-        ApiResponseDTO<TransactionDetailsDTO> response = bankService.getTransactionDetails(auth, ip, deviceId, latitude, longitude, transactionId);
-        return ResponseEntity.status(response.getResponseCode()).body(response);
+        return bankService.getTransactionDetails(auth, ip, deviceId, latitude, longitude, transactionId)
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
     }
 
 }
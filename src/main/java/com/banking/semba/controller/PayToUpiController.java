@@ -7,6 +7,7 @@ import com.banking.semba.service.PayToUpiService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
@@ -25,7 +26,7 @@ public class PayToUpiController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<ApiResponseDTO<Map<String, Object>>> searchByUpiId(
+    public Mono<ResponseEntity<ApiResponseDTO<Map<String, Object>>>> searchByUpiId(
             @RequestHeader("Authorization") String auth,
             @RequestHeader("X-IP") String ip,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -36,15 +37,14 @@ public class PayToUpiController {
         ApiResponseDTO<Map<String, Object>> apiResponseDTO = new ApiResponseDTO<>();
         String mobile = jwtTokenService.extractMobileFromHeader(auth);
         if (mobile == null || mobile.isEmpty()) {
-            return new ResponseEntity<>(apiResponseDTO, HttpStatus.UNAUTHORIZED);
+            return Mono.just(new ResponseEntity<>(apiResponseDTO, HttpStatus.UNAUTHORIZED));
         }
-        ApiResponseDTO<Map<String, Object>> response =
-                payToUpiService.validateUpiId(auth, ip, deviceId, latitude, longitude, upiId);
-        return ResponseEntity.status(response.getResponseCode()).body(response);
+        return payToUpiService.validateUpiId(auth, ip, deviceId, latitude, longitude, upiId)
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
     }
 
     @GetMapping("/recent")
-    public ResponseEntity<ApiResponseDTO<List<RecentPaymentsDTO>>> recentByUpiId(
+    public Mono<ResponseEntity<ApiResponseDTO<List<RecentPaymentsDTO>>>> recentByUpiId(
             @RequestHeader("Authorization") String auth,
             @RequestHeader("X-IP") String ip,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -56,17 +56,15 @@ public class PayToUpiController {
 
         String mobile = jwtTokenService.extractMobileFromHeader(auth);
         if (mobile == null || mobile.isEmpty()) {
-            return new ResponseEntity<>(apiResponseDTO, HttpStatus.UNAUTHORIZED);
+            return Mono.just(new ResponseEntity<>(apiResponseDTO, HttpStatus.UNAUTHORIZED));
         }
 
-        ApiResponseDTO<List<RecentPaymentsDTO>> response =
-                payToUpiService.getRecentPaymentsByUpiId(auth, ip, deviceId, latitude, longitude, upiId);
-
-        return ResponseEntity.status(response.getResponseCode()).body(response);
+        return payToUpiService.getRecentPaymentsByUpiId(auth, ip, deviceId, latitude, longitude, upiId)
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
     }
 
     @PostMapping("/validate-balance-mpin")
-    public ResponseEntity<ApiResponseDTO<BalanceValidationDataDTO>> validatePaymentAndMpin(
+    public Mono<ResponseEntity<ApiResponseDTO<BalanceValidationDataDTO>>> validatePaymentAndMpin(
             @RequestHeader("Authorization") String auth,
             @RequestHeader("X-IP") String ip,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -77,25 +75,24 @@ public class PayToUpiController {
 
         String mobile = jwtTokenService.extractMobileFromHeader(auth);
         if (mobile == null || mobile.isEmpty()) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
                     new ApiResponseDTO<>(
                             ValidationMessages.STATUS_UNAUTHORIZED,
                             HttpStatus.UNAUTHORIZED.value(),
                             ValidationMessages.INVALID_JWT,
                             null
                     )
-            );
+            ));
         }
 
-        ApiResponseDTO<BalanceValidationDataDTO> response = payToUpiService.validateBankBalance(
+        return payToUpiService.validateBankBalance(
                 auth, ip, deviceId, latitude, longitude, balanceValidationRequestDTO.getAccountNumber(), balanceValidationRequestDTO.getEnteredAmount(), balanceValidationRequestDTO.getMpin()
-        );
-
-        return ResponseEntity.status(response.getResponseCode()).body(response);
+        )
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
     }
 
     @GetMapping("/details")
-    public ResponseEntity<ApiResponseDTO<TransactionDetailsDTO>> getTransactionDetails(
+    public Mono<ResponseEntity<ApiResponseDTO<TransactionDetailsDTO>>> getTransactionDetails(
             @RequestHeader("Authorization") String auth,
             @RequestHeader("X-IP") String ip,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -105,17 +102,17 @@ public class PayToUpiController {
     ) {
         String mobile = jwtTokenService.extractMobileFromHeader(auth);
         if (mobile == null || mobile.isEmpty()) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(
                     new ApiResponseDTO<>(
                             ValidationMessages.STATUS_UNAUTHORIZED,
                             HttpStatus.UNAUTHORIZED.value(),
                             ValidationMessages.INVALID_JWT,
                             null
                     )
-            );
+            ));
         }
-        ApiResponseDTO<TransactionDetailsDTO> response = payToUpiService.getTransactionDetails(auth, ip, deviceId, latitude, longitude, transactionId);
-        return ResponseEntity.status(response.getResponseCode()).body(response);
+        return payToUpiService.getTransactionDetails(auth, ip, deviceId, latitude, longitude, transactionId)
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
     }
 
 }
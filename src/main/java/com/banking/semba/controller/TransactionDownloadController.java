@@ -4,10 +4,15 @@ import com.banking.semba.constants.ValidationMessages;
 import com.banking.semba.dto.ApiResponseDTO;
 import com.banking.semba.dto.TransactionDownloadDTO;
 import com.banking.semba.security.JwtTokenService;
+import com.banking.semba.service.StatementService;
 import com.banking.semba.service.TransactionDownloadService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/semba/api/transactions")
@@ -15,14 +20,17 @@ public class TransactionDownloadController {
 
     private final TransactionDownloadService transactionDownloadService;
     private final JwtTokenService JwtTokenService;
+    private final StatementService statementService;
 
-    public TransactionDownloadController(TransactionDownloadService transactionDownloadService, JwtTokenService jwtTokenService) {
+    public TransactionDownloadController(TransactionDownloadService transactionDownloadService, JwtTokenService jwtTokenService,
+                                         StatementService statementService) {
         this.transactionDownloadService = transactionDownloadService;
         JwtTokenService = jwtTokenService;
+        this.statementService = statementService;
     }
 
     @GetMapping("/download")
-    public ResponseEntity<?> downloadTransaction(
+    public Mono<ResponseEntity<?>> downloadTransaction(
             @RequestHeader("Authorization") String auth,
             @RequestHeader("X-IP") String ip,
             @RequestHeader("X-Device-Id") String deviceId,
@@ -39,7 +47,7 @@ public class TransactionDownloadController {
                     ValidationMessages.INVALID_JWT,
                     null
             );
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(unauthorizedResponse);
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(unauthorizedResponse));
         }
 
         if (format.equalsIgnoreCase("pdf") || format.equalsIgnoreCase("csv")) {
@@ -47,11 +55,22 @@ public class TransactionDownloadController {
                     auth, ip, deviceId, latitude, longitude, transactionId, format);
         }
 
-        ApiResponseDTO<TransactionDownloadDTO> response =
-                transactionDownloadService.fetchTransactionDetails(auth, ip, deviceId, latitude, longitude, transactionId);
-
-        return ResponseEntity.status(response.getResponseCode()).body(response);
+        return transactionDownloadService.fetchTransactionDetails(auth, ip, deviceId, latitude, longitude, transactionId)
+                .map(response -> ResponseEntity.status(response.getResponseCode()).body(response));
     }
 
-}
+    /* Account statement for a date range, streamed as CSV (default) or PDF */
+    @GetMapping("/statement")
+    public Mono<ResponseEntity<?>> downloadStatement(
+            @RequestHeader("Authorization") String auth,
+            @RequestHeader("X-IP") String ip,
+            @RequestHeader("X-Device-Id") String deviceId,
+            @RequestHeader(value = "X-Latitude", required = false) Double latitude,
+            @RequestHeader(value = "X-Longitude", required = false) Double longitude,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "csv") String format) {
 
+        return statementService.exportStatement(auth, ip, deviceId, latitude, longitude, from, to, format);
+    }
+}
@@ -1,8 +1,12 @@
 package com.banking.semba.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@AllArgsConstructor
+@NoArgsConstructor
 public class BankLoginRequest {
     private String mobile;
     private String mpin;
@@ -0,0 +1,18 @@
+package com.banking.semba.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BankOtpRequest {
+    private String mobile;
+    private String otp;
+    private String referralCode;
+    private String ip;
+    private String deviceId;
+    private Double latitude;
+    private Double longitude;
+}
@@ -8,8 +8,10 @@ import java.time.LocalTime;
 
 @Data
 public class FundScheduleRequestDTO {
+    private String transactionId;      // Idempotency; set on execution so a retried call cannot debit twice
     private String fromAccountNumber;
     private String toAccountNumber;
+    private String toIfscCode;   // Optional; its bank code picks the dispatch lane
     private BigDecimal amount;
     private String transferType; // IMPS / NEFT / RTGS
     private LocalDate scheduledDate;
@@ -10,6 +10,7 @@ public class FundTransferRequestDTO {
 
     private String fromAccountNumber;
     private String toAccountNumber;
+    private String toIfscCode;   // Optional, checked against the IFSC directory when present
     private BigDecimal amount;
     private String transferType; // IMPS, NEFT, RTGS
     private String remark;
@@ -0,0 +1,11 @@
+package com.banking.semba.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ReceiptExportRequestDTO {
+    private List<String> transactionIds;
+    private String format; // PDF (default) / CSV, one file per transaction in a ZIP
+}
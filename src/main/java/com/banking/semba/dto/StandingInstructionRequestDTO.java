@@ -0,0 +1,26 @@
+package com.banking.semba.dto;
+
+import com.banking.semba.enums.HolidayRoll;
+import com.banking.semba.enums.RecurrenceFrequency;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+public class StandingInstructionRequestDTO {
+    private String fromAccountNumber;
+    private String toAccountNumber;
+    private String toIfscCode;         // optional; its bank code picks the dispatch lane
+    private BigDecimal amount;
+    private String transferType; // IMPS / NEFT / RTGS
+    private String remark;
+    private LocalDate startDate;        // first nominal run date; monthly rules keep its day of month
+    private LocalTime scheduledTime;
+    private RecurrenceFrequency frequency;
+    private Integer interval;           // every n days/weeks/months, default 1
+    private LocalDate endDate;          // optional, last date that may run
+    private Integer maxOccurrences;     // optional
+    private HolidayRoll holidayRoll;    // default NONE
+}
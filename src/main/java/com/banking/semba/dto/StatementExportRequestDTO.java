@@ -0,0 +1,12 @@
+package com.banking.semba.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class StatementExportRequestDTO {
+    private LocalDate from;
+    private LocalDate to;
+    private String format; // CSV (default) / PDF
+}
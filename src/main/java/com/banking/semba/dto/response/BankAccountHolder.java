@@ -0,0 +1,14 @@
+package com.banking.semba.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Name of the account holder on the other side of a transaction, projected from the bank's user record.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record BankAccountHolder(String firstName, String lastName) {
+
+    public String fullName() {
+        return firstName + " " + lastName;
+    }
+}
@@ -0,0 +1,14 @@
+package com.banking.semba.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Payee as listed by the bank, projected to the fields the beneficiary screens use.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record BankPayee(Long id, String name, Address address) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Address(String zipcode) {
+    }
+}
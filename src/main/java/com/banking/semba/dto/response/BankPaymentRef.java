@@ -0,0 +1,10 @@
+package com.banking.semba.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Entry of the bank's recent-payments feed. Only the id is read; every other field is skipped while decoding.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record BankPaymentRef(Integer id) {
+}
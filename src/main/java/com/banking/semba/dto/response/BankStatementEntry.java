@@ -0,0 +1,14 @@
+package com.banking.semba.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One posted transaction on an account statement; {@code type} is CREDIT or DEBIT, {@code balance} the balance after it.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record BankStatementEntry(String transactionId, LocalDateTime postedAt, String description, String type,
+                                 BigDecimal amount, BigDecimal balance) {
+}
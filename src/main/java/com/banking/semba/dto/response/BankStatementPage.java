@@ -0,0 +1,12 @@
+package com.banking.semba.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * One page of an account statement, oldest first. {@code nextCursor} is null on the last page.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record BankStatementPage(List<BankStatementEntry> entries, String nextCursor) {
+}
@@ -0,0 +1,20 @@
+package com.banking.semba.dto.response;
+
+import com.banking.semba.export.ExportJob;
+import com.banking.semba.export.ExportJobStatus;
+
+import java.time.Instant;
+
+/**
+ * Export job as seen by its owner; {@code downloadUrl} is set only while the file is READY.
+ */
+public record ExportJobResponse(String jobId, String type, ExportJobStatus status, String fileName, Long sizeBytes,
+                                String error, Instant createdAt, Instant completedAt, Instant expiresAt,
+                                String downloadUrl) {
+
+    public static ExportJobResponse of(ExportJob job, String downloadUrl) {
+        return new ExportJobResponse(job.jobId(), job.type(), job.status(), job.fileName(), job.sizeBytes(),
+                job.error(), job.createdAt(), job.completedAt(), job.expiresAt(),
+                job.status() == ExportJobStatus.READY ? downloadUrl : null);
+    }
+}
@@ -0,0 +1,35 @@
+package com.banking.semba.dto.response;
+
+import com.banking.semba.entity.StandingInstruction;
+import com.banking.semba.enums.HolidayRoll;
+import com.banking.semba.enums.RecurrenceFrequency;
+import com.banking.semba.enums.StandingInstructionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Standing instruction as seen by its owner; {@code nextRunAt} and {@code pendingTransactionId} are set only while
+ * it is ACTIVE.
+ */
+public record StandingInstructionResponse(String standingInstructionId, String fromAccountNumber,
+                                          String toAccountNumber, BigDecimal amount, String transferType,
+                                          String remark, RecurrenceFrequency frequency, int interval,
+                                          LocalDate startDate, LocalTime scheduledTime, LocalDate endDate,
+                                          Integer maxOccurrences, HolidayRoll holidayRoll,
+                                          StandingInstructionStatus status, int occurrences,
+                                          String pendingTransactionId, LocalDateTime nextRunAt,
+                                          LocalDateTime createdAt) {
+
+    public static StandingInstructionResponse of(StandingInstruction rule) {
+        boolean active = rule.getStatus() == StandingInstructionStatus.ACTIVE;
+        return new StandingInstructionResponse(rule.getId(), rule.getFromAccountNumber(), rule.getToAccountNumber(),
+                rule.getAmount(), rule.getTransferType(), rule.getRemark(), rule.getFrequency(), rule.getInterval(),
+                rule.getAnchorDate(), rule.getFireTime(), rule.getEndDate(), rule.getMaxOccurrences(),
+                rule.getHolidayRoll(), rule.getStatus(), rule.getOccurrences(),
+                active ? rule.getPendingTransactionId() : null, active ? rule.getNextRunAt() : null,
+                rule.getCreatedAt());
+    }
+}
@@ -0,0 +1,122 @@
+package com.banking.semba.entity;
+
+import com.banking.semba.dto.FundScheduleRequestDTO;
+import com.banking.semba.enums.ScheduledTransferStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A transfer acknowledged by the bank and waiting for its trigger time. {@code dueAt} is when the scheduler may
+ * next pick it up: the scheduled time, pushed back by the retry backoff after a failed attempt.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "scheduled_transfers",
+        indexes = @Index(name = "idx_scheduled_transfers_status_partition_due", columnList = "status, partition_id, due_at"))
+public class ScheduledTransfer {
+
+    @Id
+    @Column(name = "transaction_id", length = 64)
+    private String transactionId;
+
+    // Lease partition, derived from the id; see PartitionLeaseManager
+    @Column(name = "partition_id", nullable = false)
+    private int partitionId;
+
+    @Column(nullable = false, length = 15)
+    private String mobile;
+
+    @Column(name = "from_account_number", nullable = false, length = 34)
+    private String fromAccountNumber;
+
+    @Column(name = "to_account_number", nullable = false, length = 34)
+    private String toAccountNumber;
+
+    @Column(name = "to_ifsc_code", length = 11)
+    private String toIfscCode;
+
+    // First four IFSC characters; the dispatcher runs each receiving bank in its own lane
+    @Column(name = "to_bank_code", length = 4)
+    private String toBankCode;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "transfer_type", nullable = false, length = 8)
+    private String transferType;
+
+    private String remark;
+
+    @Column(name = "scheduled_at", nullable = false)
+    private LocalDateTime scheduledAt;
+
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ScheduledTransferStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 512)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "executed_at")
+    private LocalDateTime executedAt;
+
+    // Set on occurrences of a standing instruction; the rule advances once this one finishes
+    @Column(name = "standing_instruction_id", length = 36)
+    private String standingInstructionId;
+
+    public static ScheduledTransfer of(String transactionId, int partitionId, String mobile, FundScheduleRequestDTO req,
+                                       LocalDateTime now) {
+        ScheduledTransfer transfer = new ScheduledTransfer();
+        transfer.transactionId = transactionId;
+        transfer.partitionId = partitionId;
+        transfer.mobile = mobile;
+        transfer.fromAccountNumber = req.getFromAccountNumber();
+        transfer.toAccountNumber = req.getToAccountNumber();
+        if (req.getToIfscCode() != null && !req.getToIfscCode().isBlank()) {
+            transfer.toIfscCode = req.getToIfscCode();
+            transfer.toBankCode = transfer.toIfscCode.substring(0, 4);
+        }
+        transfer.amount = req.getAmount();
+        transfer.transferType = req.getTransferType().toUpperCase();
+        transfer.remark = req.getRemark();
+        transfer.scheduledAt = req.getScheduledDate().atTime(req.getScheduledTime());
+        transfer.dueAt = transfer.scheduledAt;
+        transfer.status = ScheduledTransferStatus.SCHEDULED;
+        transfer.createdAt = now;
+        transfer.updatedAt = now;
+        return transfer;
+    }
+
+    public FundScheduleRequestDTO toRequest() {
+        FundScheduleRequestDTO req = new FundScheduleRequestDTO();
+        req.setTransactionId(transactionId);
+        req.setFromAccountNumber(fromAccountNumber);
+        req.setToAccountNumber(toAccountNumber);
+        req.setToIfscCode(toIfscCode);
+        req.setAmount(amount);
+        req.setTransferType(transferType);
+        req.setScheduledDate(scheduledAt.toLocalDate());
+        req.setScheduledTime(scheduledAt.toLocalTime());
+        req.setRemark(remark);
+        return req;
+    }
+}
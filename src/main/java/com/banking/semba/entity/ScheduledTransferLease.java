@@ -0,0 +1,60 @@
+package com.banking.semba.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ownership of one partition of the scheduled-transfer keyspace. Only the node named in {@code owner} loads and
+ * fires the partition's transfers, and only until {@code leaseUntil}; an expired lease can be taken by any node.
+ * <p>
+ * A row built here is always new, so {@code save} inserts it instead of merging over a row another node created
+ * (and may already own) in the meantime; the duplicate insert fails on the primary key instead.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "scheduled_transfer_leases")
+public class ScheduledTransferLease implements Persistable<Integer> {
+
+    @Id
+    @Column(name = "partition_id")
+    private Integer partitionId;
+
+    @Column(length = 128)
+    private String owner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newRow = true;
+
+    public ScheduledTransferLease(Integer partitionId) {
+        this.partitionId = partitionId;
+    }
+
+    @Override
+    public Integer getId() {
+        return partitionId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRow;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markStored() {
+        newRow = false;
+    }
+}
@@ -0,0 +1,32 @@
+package com.banking.semba.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Heartbeat of a node running the transfer scheduler, so nodes holding no lease yet still count when the
+ * partitions are divided up.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "scheduler_nodes")
+public class SchedulerNode {
+
+    @Id
+    @Column(name = "node_id", length = 128)
+    private String nodeId;
+
+    @Column(name = "last_seen", nullable = false)
+    private LocalDateTime lastSeen;
+
+    public SchedulerNode(String nodeId, LocalDateTime lastSeen) {
+        this.nodeId = nodeId;
+        this.lastSeen = lastSeen;
+    }
+}
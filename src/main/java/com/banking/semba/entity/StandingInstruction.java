@@ -0,0 +1,136 @@
+package com.banking.semba.entity;
+
+import com.banking.semba.dto.FundScheduleRequestDTO;
+import com.banking.semba.enums.HolidayRoll;
+import com.banking.semba.enums.RecurrenceFrequency;
+import com.banking.semba.enums.StandingInstructionStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * A recurring transfer, stored as its rule only: period {@code k} is nominally due on
+ * {@code frequency.nth(anchorDate, interval, k)} at {@code fireTime}, moved off holidays by {@code holidayRoll}.
+ * Only the next occurrence exists as a row in scheduled_transfers ({@code pendingTransactionId}); the one after
+ * it is computed when that one finishes.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "standing_instructions",
+        indexes = {
+                @Index(name = "idx_standing_instructions_status_check", columnList = "status, check_at"),
+                @Index(name = "idx_standing_instructions_mobile", columnList = "mobile")
+        })
+public class StandingInstruction {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    // Lease partition, derived from the id; the node owning it runs the sweep for this rule
+    @Column(name = "partition_id", nullable = false)
+    private int partitionId;
+
+    @Column(nullable = false, length = 15)
+    private String mobile;
+
+    @Column(name = "from_account_number", nullable = false, length = 34)
+    private String fromAccountNumber;
+
+    @Column(name = "to_account_number", nullable = false, length = 34)
+    private String toAccountNumber;
+
+    @Column(name = "to_ifsc_code", length = 11)
+    private String toIfscCode;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "transfer_type", nullable = false, length = 8)
+    private String transferType;
+
+    private String remark;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 8)
+    private RecurrenceFrequency frequency;
+
+    // Every n days/weeks/months
+    @Column(name = "period_interval", nullable = false)
+    private int interval;
+
+    @Column(name = "anchor_date", nullable = false)
+    private LocalDate anchorDate;
+
+    @Column(name = "fire_time", nullable = false)
+    private LocalTime fireTime;
+
+    // Last nominal date that may run; null = no end
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    // Occurrences to run in total; null = no limit
+    @Column(name = "max_occurrences")
+    private Integer maxOccurrences;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "holiday_roll", nullable = false, length = 20)
+    private HolidayRoll holidayRoll;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private StandingInstructionStatus status;
+
+    // Period of the pending occurrence; periods that would already be past when reached are skipped
+    @Column(nullable = false)
+    private long sequence;
+
+    // Occurrences created so far, counted against maxOccurrences
+    @Column(nullable = false)
+    private int occurrences;
+
+    // Transaction id the bank acknowledged the registration under; the OTP is verified against it
+    @Column(name = "bank_reference", nullable = false, length = 64)
+    private String bankReference;
+
+    @Column(name = "pending_transaction_id", length = 64)
+    private String pendingTransactionId;
+
+    @Column(name = "next_run_at")
+    private LocalDateTime nextRunAt;
+
+    // When the sweep next looks at the rule: the pending occurrence, in case its completion was missed, or the
+    // OTP deadline of an unverified rule
+    @Column(name = "check_at")
+    private LocalDateTime checkAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * The transfer this rule makes on {@code dueAt}, in the shape the scheduler and bank gateway expect.
+     */
+    public FundScheduleRequestDTO toRequest(LocalDateTime dueAt) {
+        FundScheduleRequestDTO req = new FundScheduleRequestDTO();
+        req.setFromAccountNumber(fromAccountNumber);
+        req.setToAccountNumber(toAccountNumber);
+        req.setToIfscCode(toIfscCode);
+        req.setAmount(amount);
+        req.setTransferType(transferType);
+        req.setScheduledDate(dueAt.toLocalDate());
+        req.setScheduledTime(dueAt.toLocalTime());
+        req.setRemark(remark);
+        return req;
+    }
+}
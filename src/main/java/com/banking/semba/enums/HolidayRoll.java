@@ -0,0 +1,11 @@
+package com.banking.semba.enums;
+
+/**
+ * Where an occurrence that falls on a weekend or bank holiday moves to.
+ */
+public enum HolidayRoll {
+    NONE,               // runs on the day itself
+    FOLLOWING,          // next business day
+    PRECEDING,          // previous business day
+    MODIFIED_FOLLOWING  // next business day, unless that is in the next month; then the previous one
+}
@@ -0,0 +1,41 @@
+package com.banking.semba.enums;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+public enum RecurrenceFrequency {
+    DAILY(ChronoUnit.DAYS),
+    WEEKLY(ChronoUnit.WEEKS),
+    MONTHLY(ChronoUnit.MONTHS);
+
+    private final ChronoUnit unit;
+
+    RecurrenceFrequency(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * Nominal date of period {@code k} (0 = the anchor). Always counted from the anchor, never from the previous
+     * date, so a monthly rule anchored on the 31st falls on the last day of shorter months and is back on the 31st
+     * after them.
+     */
+    public LocalDate nth(LocalDate anchor, int interval, long k) {
+        return anchor.plus(k * interval, unit);
+    }
+
+    /**
+     * First period whose nominal date is on or after {@code date}, computed directly rather than by stepping
+     * through the periods before it.
+     */
+    public long firstOnOrAfter(LocalDate anchor, int interval, LocalDate date) {
+        if (!date.isAfter(anchor)) {
+            return 0;
+        }
+        // Whole units elapsed, so period k is on or before date; at most a step or two short of the answer
+        long k = unit.between(anchor, date) / interval;
+        while (nth(anchor, interval, k).isBefore(date)) {
+            k++;
+        }
+        return k;
+    }
+}
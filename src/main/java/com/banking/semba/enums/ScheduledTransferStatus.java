@@ -0,0 +1,9 @@
+package com.banking.semba.enums;
+
+public enum ScheduledTransferStatus {
+    SCHEDULED,      // waiting for its due time (or retry backoff)
+    EXECUTING,      // claimed by the scheduler, bank call in flight
+    EXECUTED,
+    DEAD_LETTERED,  // failed permanently, or outcome unknown; needs manual follow-up
+    CANCELLED       // standing instruction cancelled before this occurrence ran
+}
@@ -0,0 +1,8 @@
+package com.banking.semba.enums;
+
+public enum StandingInstructionStatus {
+    PENDING_VERIFICATION, // registered with the bank, waiting for the customer's OTP
+    ACTIVE,     // has a pending occurrence in scheduled_transfers
+    COMPLETED,  // past its end date or occurrence count
+    CANCELLED   // cancelled by the user
+}
@@ -0,0 +1,36 @@
+package com.banking.semba.export;
+
+import java.time.Instant;
+
+/**
+ * Snapshot of one export job; every state change replaces the snapshot in {@link ExportJobQueue}.
+ */
+public record ExportJob(String jobId, String owner, String type, String fileName, String contentType,
+                        ExportJobStatus status, Long sizeBytes, String error,
+                        Instant createdAt, Instant completedAt, Instant expiresAt) {
+
+    static ExportJob queued(String jobId, String owner, String type, String fileName, String contentType, Instant now) {
+        return new ExportJob(jobId, owner, type, fileName, contentType, ExportJobStatus.QUEUED, null, null,
+                now, null, null);
+    }
+
+    ExportJob running() {
+        return new ExportJob(jobId, owner, type, fileName, contentType, ExportJobStatus.RUNNING, null, null,
+                createdAt, null, null);
+    }
+
+    ExportJob ready(long size, Instant now, Instant expiry) {
+        return new ExportJob(jobId, owner, type, fileName, contentType, ExportJobStatus.READY, size, null,
+                createdAt, now, expiry);
+    }
+
+    ExportJob failed(String reason, Instant now, Instant expiry) {
+        return new ExportJob(jobId, owner, type, fileName, contentType, ExportJobStatus.FAILED, null, reason,
+                createdAt, now, expiry);
+    }
+
+    ExportJob expired() {
+        return new ExportJob(jobId, owner, type, fileName, contentType, ExportJobStatus.EXPIRED, null, null,
+                createdAt, completedAt, expiresAt);
+    }
+}
@@ -0,0 +1,7 @@
+package com.banking.semba.export;
+
+/**
+ * Published when an export job becomes READY or FAILED, so a notifier can tell the user instead of them polling.
+ */
+public record ExportJobFinishedEvent(ExportJob job) {
+}
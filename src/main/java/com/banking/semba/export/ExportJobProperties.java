@@ -0,0 +1,32 @@
+package com.banking.semba.export;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Background export jobs (semba.export-jobs.* in application.properties), see {@link ExportJobQueue}.
+ */
+@Data
+@ConfigurationProperties(prefix = "semba.export-jobs")
+public class ExportJobProperties {
+
+    // Rendering threads; exports never run on request threads
+    private int workers = 2;
+
+    // Jobs waiting for a worker; beyond this, submissions are rejected instead of queued
+    private int queueCapacity = 100;
+
+    // Queued or running jobs per user
+    private int maxActivePerUser = 3;
+
+    private int maxTransactionsPerJob = 500;
+
+    // Finished files, deleted after the retention; only *.export and *.part files here are ever touched
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "semba-exports");
+
+    // How long a finished file can be downloaded; the job status is kept as long again after that
+    private Duration retention = Duration.ofMinutes(30);
+}
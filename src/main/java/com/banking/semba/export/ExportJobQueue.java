@@ -0,0 +1,213 @@
+package com.banking.semba.export;
+
+import com.banking.semba.constants.ValidationMessages;
+import com.banking.semba.globalException.GlobalException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs large exports off the request path. A fixed pool of workers renders each job into a file on local disk
+ * (written as .part and moved into place when complete), so an expensive export occupies a worker instead of an
+ * HTTP connection and cannot starve interactive requests. The queue is bounded and each user may only have a
+ * few jobs in flight; finished files are deleted once their retention ends. Jobs live in memory only, so files
+ * left behind by a previous run are removed at startup.
+ */
+@Slf4j
+@Component
+public class ExportJobQueue {
+
+    private static final String FILE_SUFFIX = ".export";
+    private static final String PART_SUFFIX = ".part";
+
+    /**
+     * Writes the export into {@code out}; the queue owns and closes the stream.
+     */
+    @FunctionalInterface
+    public interface Renderer {
+        void render(OutputStream out) throws Exception;
+    }
+
+    private final ExportJobProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    // Queued or running jobs per owner; an owner with none has no entry
+    private final Map<String, Integer> activeByOwner = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor workers;
+    private final Counter ready;
+    private final Counter failed;
+    private final Counter rejected;
+
+    public ExportJobQueue(ExportJobProperties properties, ApplicationEventPublisher eventPublisher,
+                          MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        AtomicInteger threadIds = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(properties.getWorkers(), properties.getWorkers(), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                task -> {
+                    Thread thread = new Thread(task, "export-worker-" + threadIds.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.ready = Counter.builder("semba.export.jobs").tag("result", "ready")
+                .description("Export jobs by outcome").register(meterRegistry);
+        this.failed = Counter.builder("semba.export.jobs").tag("result", "failed")
+                .description("Export jobs by outcome").register(meterRegistry);
+        this.rejected = Counter.builder("semba.export.jobs").tag("result", "rejected")
+                .description("Export jobs by outcome").register(meterRegistry);
+        Gauge.builder("semba.export.jobs.queued", workers, pool -> pool.getQueue().size())
+                .description("Export jobs waiting for a worker")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void prepareDirectory() throws IOException {
+        Path directory = properties.getDirectory();
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(directory, "*{" + FILE_SUFFIX + "," + PART_SUFFIX + "}")) {
+            for (Path file : leftovers) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Queues a job for {@code owner}. Rejected with 429 when the owner already has the maximum number of jobs in
+     * flight, and with 503 when the queue itself is full.
+     */
+    public ExportJob submit(String owner, String type, String fileName, String contentType, Renderer renderer) {
+        if (!tryAcquire(owner)) {
+            rejected.increment();
+            throw new GlobalException(ValidationMessages.EXPORT_JOB_LIMIT, HttpStatus.TOO_MANY_REQUESTS.value());
+        }
+
+        ExportJob job = ExportJob.queued(UUID.randomUUID().toString(), owner, type, fileName, contentType, Instant.now());
+        jobs.put(job.jobId(), job);
+        try {
+            workers.execute(() -> run(job, renderer));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.jobId());
+            release(owner);
+            rejected.increment();
+            throw new GlobalException(ValidationMessages.EXPORT_QUEUE_FULL, HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+        log.info("Export job queued | jobId={} | owner={} | type={}", job.jobId(), owner, type);
+        return job;
+    }
+
+    /**
+     * The job, if it exists and belongs to {@code owner}; other users' jobs are indistinguishable from missing ones.
+     */
+    public Optional<ExportJob> find(String owner, String jobId) {
+        return Optional.ofNullable(jobId == null ? null : jobs.get(jobId))
+                .filter(job -> job.owner().equals(owner));
+    }
+
+    public Path fileOf(ExportJob job) {
+        return properties.getDirectory().resolve(job.jobId() + FILE_SUFFIX);
+    }
+
+    // ---------------- WORKER ----------------
+    private void run(ExportJob job, Renderer renderer) {
+        Path part = properties.getDirectory().resolve(job.jobId() + PART_SUFFIX);
+        Path file = fileOf(job);
+        long started = System.nanoTime();
+        ExportJob done;
+        try {
+            jobs.put(job.jobId(), job.running());
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(part))) {
+                renderer.render(out);
+            }
+            Files.move(part, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            Instant now = Instant.now();
+            done = job.ready(Files.size(file), now, now.plus(properties.getRetention()));
+            ready.increment();
+            log.info("Export job ready | jobId={} | bytes={} | tookMs={}", job.jobId(), done.sizeBytes(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (Exception e) {
+            deleteQuietly(part);
+            Instant now = Instant.now();
+            done = job.failed(ValidationMessages.EXPORT_FAILED, now, now.plus(properties.getRetention()));
+            failed.increment();
+            log.error("Export job failed | jobId={} | type={} | error={}", job.jobId(), job.type(), e.getMessage(), e);
+        } finally {
+            release(job.owner());
+        }
+        jobs.put(job.jobId(), done);
+        eventPublisher.publishEvent(new ExportJobFinishedEvent(done));
+    }
+
+    private boolean tryAcquire(String owner) {
+        boolean[] acquired = {false};
+        activeByOwner.compute(owner, (key, active) -> {
+            int count = active == null ? 0 : active;
+            if (count >= properties.getMaxActivePerUser()) {
+                return active;
+            }
+            acquired[0] = true;
+            return count + 1;
+        });
+        return acquired[0];
+    }
+
+    private void release(String owner) {
+        activeByOwner.computeIfPresent(owner, (key, active) -> active > 1 ? active - 1 : null);
+    }
+
+    // ---------------- EXPIRY ----------------
+    @Scheduled(fixedDelayString = "${semba.export-jobs.cleanup-interval:60000}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        jobs.values().forEach(job -> {
+            if (job.expiresAt() == null || now.isBefore(job.expiresAt())) {
+                return;
+            }
+            if (job.status() == ExportJobStatus.READY) {
+                deleteQuietly(fileOf(job));
+                jobs.put(job.jobId(), job.expired());
+            } else if (!now.isBefore(job.expiresAt().plus(properties.getRetention()))) {
+                jobs.remove(job.jobId());
+            }
+        });
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Unable to delete export file | path={} | error={}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.banking.semba.export;
+
+public enum ExportJobStatus {
+    QUEUED, RUNNING, READY, FAILED, EXPIRED;
+
+    public boolean isActive() {
+        return this == QUEUED || this == RUNNING;
+    }
+}
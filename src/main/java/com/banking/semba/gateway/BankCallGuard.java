@@ -0,0 +1,72 @@
+package com.banking.semba.gateway;
+
+import com.banking.semba.config.RequestDeadline;
+import com.banking.semba.constants.ValidationMessages;
+import com.banking.semba.globalException.DeadlineExceededException;
+import com.banking.semba.globalException.GlobalException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Wraps bank calls in the circuit breaker and bulkhead of their {@link BankEndpointGroup}, so a degraded
+ * endpoint fails fast instead of tying up callers of healthy ones. Rejections surface as 503 {@link GlobalException},
+ * and calls still running when the API request's {@link RequestDeadline} passes are cancelled with a 504.
+ * State and call counts are published as resilience4j.* Micrometer metrics tagged with the group instance name.
+ */
+@Slf4j
+@Component
+public class BankCallGuard {
+
+    private final Map<BankEndpointGroup, CircuitBreaker> circuitBreakers = new EnumMap<>(BankEndpointGroup.class);
+    private final Map<BankEndpointGroup, Bulkhead> bulkheads = new EnumMap<>(BankEndpointGroup.class);
+
+    public BankCallGuard(CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry) {
+        // Created eagerly so every group shows up in metrics before its first call
+        for (BankEndpointGroup group : BankEndpointGroup.values()) {
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(group.getInstanceName());
+            circuitBreaker.getEventPublisher().onStateTransition(event ->
+                    log.warn("Bank circuit breaker state change | group={} | transition={}",
+                            group, event.getStateTransition()));
+            circuitBreakers.put(group, circuitBreaker);
+            bulkheads.put(group, bulkheadRegistry.bulkhead(group.getInstanceName()));
+        }
+    }
+
+    public <T> Mono<T> protect(BankEndpointGroup group, Mono<T> call) {
+        // The deadline sits outside the breaker: a call cut short by the caller's deadline is cancelled, not
+        // recorded as a bank failure
+        return withinDeadline(call
+                .transformDeferred(BulkheadOperator.of(bulkheads.get(group)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakers.get(group)))
+                .onErrorMap(CallNotPermittedException.class, ex -> {
+                    log.warn("Bank circuit open, failing fast | group={}", group);
+                    return new GlobalException(ValidationMessages.BANK_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE.value());
+                })
+                .onErrorMap(BulkheadFullException.class, ex -> {
+                    log.warn("Bank bulkhead full, rejecting call | group={}", group);
+                    return new GlobalException(ValidationMessages.BANK_BUSY, HttpStatus.SERVICE_UNAVAILABLE.value());
+                }));
+    }
+
+    // Cancels the call once the API request's deadline passes; calls outside a request are not bounded here
+    private <T> Mono<T> withinDeadline(Mono<T> call) {
+        return Mono.deferContextual(context -> RequestDeadline.remaining(context)
+                .map(remaining -> remaining.isNegative() || remaining.isZero()
+                        ? Mono.<T>error(new DeadlineExceededException())
+                        : call.timeout(remaining, Mono.error(DeadlineExceededException::new)))
+                .orElse(call));
+    }
+}
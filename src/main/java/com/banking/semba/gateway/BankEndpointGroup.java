@@ -0,0 +1,22 @@
+package com.banking.semba.gateway;
+
+import lombok.Getter;
+
+/**
+ * Bank endpoints that fail together. Each group gets its own circuit breaker and bulkhead,
+ * named {@link #getInstanceName()} under resilience4j.circuitbreaker / resilience4j.bulkhead.
+ */
+@Getter
+public enum BankEndpointGroup {
+    AUTH("bank-auth"),
+    BALANCE("bank-balance"),
+    PAYMENTS("bank-payments"),
+    CARDS("bank-cards"),
+    PAYEES("bank-payees");
+
+    private final String instanceName;
+
+    BankEndpointGroup(String instanceName) {
+        this.instanceName = instanceName;
+    }
+}
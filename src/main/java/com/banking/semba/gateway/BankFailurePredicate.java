@@ -0,0 +1,35 @@
+package com.banking.semba.gateway;
+
+import com.banking.semba.globalException.DeadlineExceededException;
+import com.banking.semba.globalException.GlobalException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.function.Predicate;
+
+/**
+ * Decides which bank call errors count against a circuit breaker. Only signs of an unhealthy bank
+ * (5xx, connection errors, timeouts) trip it; rejected business requests (4xx, invalid OTP), our own
+ * bulkhead rejections and the caller's request deadline running out do not. Referenced from resilience4j.circuitbreaker.configs.default.record-failure-predicate.
+ */
+public class BankFailurePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable ex) {
+        if (ex instanceof BulkheadFullException || ex instanceof DeadlineExceededException) {
+            return false;
+        }
+        // The bank went quiet part way through the body; reported against the 2xx status it had already sent
+        if (ex.getCause() instanceof ReadTimeoutException) {
+            return true;
+        }
+        if (ex instanceof WebClientResponseException wex) {
+            return wex.getStatusCode().is5xxServerError();
+        }
+        if (ex instanceof GlobalException gex) {
+            return gex.getStatus() >= 500;
+        }
+        return true;
+    }
+}
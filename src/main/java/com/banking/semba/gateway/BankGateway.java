@@ -0,0 +1,96 @@
+package com.banking.semba.gateway;
+
+import com.banking.semba.dto.*;
+import com.banking.semba.dto.response.*;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single entry point for every outbound core-banking call. The implementation is picked by profile:
+ * <ul>
+ *     <li>{@code mock} (default) - canned in-process responses, see {@link MockBankGateway}</li>
+ *     <li>{@code simulated} - mock responses with injected latency and failures, see {@link SimulatedBankGateway}</li>
+ *     <li>anything else - real bank over HTTP, see {@link HttpBankGateway}</li>
+ * </ul>
+ * Services receive {@link ResilientBankGateway}, which adds per-endpoint-group circuit breakers and bulkheads.
+ * Implementations return raw bank payloads; mapping to API responses and error translation stays in the services.
+ */
+public interface BankGateway {
+
+    // ---------------- OTP / AUTH ----------------
+    Mono<OtpResponseDTO> sendOtp(OtpSendRequestDTO request, HttpHeaders headers);
+
+    Mono<BankOtpResponse> verifyOtp(BankOtpRequest request, HttpHeaders headers);
+
+    Mono<BankOtpResponse> resendOtp(Map<String, Object> request, HttpHeaders headers);
+
+    Mono<BankMpinResponse> setMpin(BankMpinRequest request, HttpHeaders headers);
+
+    Mono<BankLoginResponse> login(BankLoginRequest request, HttpHeaders headers);
+
+    // ---------------- CUSTOMER / ACCOUNT ----------------
+    Mono<BankProfileResponse> getProfile(HttpHeaders headers);
+
+    Mono<BankAccountResponse> getCustomerAccount(Long id, HttpHeaders headers);
+
+    Mono<AccountResponse> getAccount(Long id, HttpHeaders headers);
+
+    Mono<BigDecimal> getBalance(String accountNumber, HttpHeaders headers);
+
+    /** Balance checked before a payment is allowed. */
+    Mono<Double> getLiveBalance(String accountNumber, HttpHeaders headers);
+
+    Mono<BankAccountHolder> getAccountHolder(HttpHeaders headers);
+
+    Mono<PaymentResponse> transferFunds(FundTransferDTO request, HttpHeaders headers);
+
+    // ---------------- FUND TRANSFER ----------------
+    Mono<FundTransferResponse> initiateTransfer(FundTransferRequestDTO request, HttpHeaders headers);
+
+    Mono<ConfirmPaymentResponseDTO> getTransferDetails(ConfirmPaymentRequestDTO request, HttpHeaders headers);
+
+    Mono<FundVerifyOtpResponse> verifyTransferOtp(OtpVerifyRequestDTO request, HttpHeaders headers);
+
+    // ---------------- PAYMENTS ----------------
+    Mono<TransactionDetailsDTO> getTransactionDetails(String transactionId, HttpHeaders headers);
+
+    /** The caller's latest payments, at most {@code limit}; the rest of the bank's list is not read. */
+    Mono<List<BankPaymentRef>> getRecentPayments(int limit, HttpHeaders headers);
+
+    /** The account behind a VPA, or empty when the resolver does not know it. */
+    Mono<Map<String, Object>> resolveVpa(String upiId, HttpHeaders headers);
+
+    // ---------------- SCHEDULED TRANSFER ----------------
+    Mono<Map<String, Object>> scheduleTransfer(FundScheduleRequestDTO request);
+
+    Mono<FundVerifyResponse> verifyScheduledTransferOtp(OtpVerifyRequestDTO request);
+
+    Mono<Void> executeScheduledTransfer(FundScheduleRequestDTO request);
+
+    // ---------------- CARDS ----------------
+    Mono<BankCardResponse> addCard(CardRequest request, HttpHeaders headers);
+
+    Mono<BankCardResponse> verifyCard(CardOtpRequest request, HttpHeaders headers);
+
+    Mono<BankCardResponse> getCards(HttpHeaders headers);
+
+    Mono<BankTransactionResponse> cardPayment(PayNowRequest request, HttpHeaders headers);
+
+    // ---------------- PAYEES ----------------
+    Mono<Map<String, Object>> addPayee(Map<String, Object> request, HttpHeaders headers);
+
+    Mono<List<BankPayee>> getPayees(HttpHeaders headers);
+
+    Mono<Void> updatePayee(Long payeeId, UpdateBeneficiaryDTO request, HttpHeaders headers);
+
+    Mono<Void> deletePayee(Long payeeId, HttpHeaders headers);
+
+    // ---------------- STATEMENTS ----------------
+    /** One page of the caller's statement for [from, to]; pass the previous page's nextCursor, or null for the first. */
+    Mono<BankStatementPage> getStatementPage(LocalDate from, LocalDate to, String cursor, int pageSize, HttpHeaders headers);
+}
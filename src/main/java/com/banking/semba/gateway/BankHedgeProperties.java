@@ -0,0 +1,28 @@
+package com.banking.semba.gateway;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Request hedging for idempotent bank reads (bank.hedge.* in application.properties), see {@link BankReadHedger}.
+ */
+@Data
+@ConfigurationProperties(prefix = "bank.hedge")
+public class BankHedgeProperties {
+
+    private boolean enabled = false;
+
+    // Latency percentile of each read after which the backup request is sent
+    private double percentile = 0.95;
+
+    // Delay used until minSamples latencies have been observed for an operation
+    private Duration initialDelay = Duration.ofMillis(300);
+    private Duration minDelay = Duration.ofMillis(50);
+    private long minSamples = 100;
+
+    // Hedges allowed per primary read (0.05 = at most ~5% extra bank load), and how many may be saved up
+    private double budgetRatio = 0.05;
+    private double maxBurst = 10;
+}
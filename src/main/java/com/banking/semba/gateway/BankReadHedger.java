@@ -0,0 +1,95 @@
+package com.banking.semba.gateway;
+
+import com.banking.semba.util.TokenBudget;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hedges idempotent bank reads: if the primary call has not answered after the operation's observed
+ * latency percentile, an identical backup call is sent and whichever answers first wins. Backups draw
+ * from a token budget refilled by primary calls, so hedging can never add more than bank.hedge.budget-ratio load.
+ * Only use for reads; a hedged write would be executed twice.
+ */
+@Slf4j
+@Component
+public class BankReadHedger {
+
+    private static final String LATENCY_METRIC = "semba.bank.read.latency";
+
+    private final BankHedgeProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final TokenBudget budget;
+    private final Counter hedgesSent;
+    private final Counter hedgesDenied;
+
+    public BankReadHedger(BankHedgeProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.budget = new TokenBudget(properties.getBudgetRatio(), properties.getMaxBurst(), 0);
+        this.hedgesSent = Counter.builder("semba.bank.hedge.sent")
+                .description("Backup bank reads sent because the primary exceeded the hedge delay")
+                .register(meterRegistry);
+        this.hedgesDenied = Counter.builder("semba.bank.hedge.denied")
+                .description("Backup bank reads skipped because the hedge budget was exhausted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Subscribes to {@code read} once, and a second time after the hedge delay if budget allows.
+     * A failed backup is ignored, so the caller always sees the primary's error.
+     */
+    public <T> Mono<T> hedge(String operation, Mono<T> read) {
+        Timer latency = latencyTimer(operation);
+        Mono<T> timedRead = Mono.defer(() -> {
+            long start = System.nanoTime();
+            return read.doOnSuccess(value -> latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+        if (!properties.isEnabled()) {
+            return timedRead;
+        }
+
+        return Mono.defer(() -> {
+            budget.deposit();
+            Mono<T> backup = Mono.delay(hedgeDelay(latency))
+                    .then(Mono.defer(() -> {
+                        if (!budget.tryAcquire()) {
+                            hedgesDenied.increment();
+                            return Mono.never();
+                        }
+                        hedgesSent.increment();
+                        log.debug("Hedging slow bank read | operation={}", operation);
+                        return timedRead.onErrorResume(ex -> Mono.never());
+                    }));
+            return Mono.firstWithSignal(timedRead, backup);
+        });
+    }
+
+    private Timer latencyTimer(String operation) {
+        return Timer.builder(LATENCY_METRIC)
+                .description("Latency of successful idempotent bank reads")
+                .tag("operation", operation)
+                .publishPercentiles(properties.getPercentile())
+                .register(meterRegistry);
+    }
+
+    private Duration hedgeDelay(Timer latency) {
+        if (latency.count() < properties.getMinSamples()) {
+            return properties.getInitialDelay();
+        }
+        for (ValueAtPercentile value : latency.takeSnapshot().percentileValues()) {
+            if (value.percentile() == properties.getPercentile()) {
+                long nanos = (long) value.value(TimeUnit.NANOSECONDS);
+                return Duration.ofNanos(Math.max(nanos, properties.getMinDelay().toNanos()));
+            }
+        }
+        return properties.getInitialDelay();
+    }
+}
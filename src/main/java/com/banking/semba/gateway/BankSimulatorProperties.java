@@ -0,0 +1,22 @@
+package com.banking.semba.gateway;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Latency and failure profile for {@link SimulatedBankGateway} (bank.simulator.* in application.properties).
+ * Latency is drawn from a log-normal distribution fitted to the configured median and p99.
+ */
+@Data
+@ConfigurationProperties(prefix = "bank.simulator")
+public class BankSimulatorProperties {
+
+    private Duration latencyMedian = Duration.ofMillis(200);
+    private Duration latencyP99 = Duration.ofMillis(1200);
+
+    // Fraction of calls (0.0 - 1.0) failing with errorStatus after the sampled latency
+    private double errorRate = 0.01;
+    private int errorStatus = 503;
+}
@@ -0,0 +1,65 @@
+package com.banking.semba.gateway;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Coalesces identical concurrent bank reads: while a call for (endpoint, user, params) is in flight, further
+ * callers with the same key join it instead of hitting the bank again, and all of them receive its result.
+ * Nothing is cached - the key is released as soon as the call terminates.
+ * Counted in semba.bank.singleflight.calls, tagged outcome=leader (bank call made) or outcome=merged (call saved).
+ */
+@Component
+public class BankSingleFlight {
+
+    private final Map<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public BankSingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param user caller identity the response depends on, or null for data that is the same for everyone
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(String endpoint, String user, Mono<T> read, Object... params) {
+        return Mono.defer(() -> {
+            String key = key(endpoint, user, params);
+            AtomicReference<Mono<T>> created = new AtomicReference<>();
+            Mono<?> flight = inFlight.computeIfAbsent(key, k -> {
+                Mono<T> shared = read
+                        .doFinally(signal -> inFlight.remove(k, created.get()))
+                        .share();
+                created.set(shared);
+                return shared;
+            });
+            counter(endpoint, created.get() != null ? "leader" : "merged").increment();
+            return (Mono<T>) flight;
+        });
+    }
+
+    private String key(String endpoint, String user, Object... params) {
+        StringJoiner key = new StringJoiner("|");
+        key.add(endpoint).add(user == null ? "*" : user);
+        for (Object param : params) {
+            key.add(param == null ? "" : param.toString().trim());
+        }
+        return key.toString();
+    }
+
+    private Counter counter(String endpoint, String outcome) {
+        return Counter.builder("semba.bank.singleflight.calls")
+                .description("Bank reads that started a call (leader) or joined one already in flight (merged)")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
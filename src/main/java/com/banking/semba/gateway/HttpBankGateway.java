@@ -0,0 +1,363 @@
+package com.banking.semba.gateway;
+
+import com.banking.semba.constants.ValidationMessages;
+import com.banking.semba.dto.*;
+import com.banking.semba.dto.response.*;
+import com.banking.semba.globalException.GlobalException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Real core-banking integration over the shared bankWebClient. Relative URLs resolve against bank.client.base-url.
+ */
+@Slf4j
+@Component
+@Profile("!mock & !simulated")
+@Qualifier(ResilientBankGateway.TARGET)
+public class HttpBankGateway implements BankGateway {
+
+    // ---------------- AUTH / OTP ----------------
+    private static final String OTP_SEND_URL = "/bank/otp/send";
+    private static final String VERIFY_OTP_URL = "/bank/verify-otp";
+    private static final String RESEND_OTP_URL = "/bank/resend-otp";
+    private static final String SET_MPIN_URL = "/bank/set-mpin";
+    private static final String LOGIN_URL = "/bank/login";
+
+    // ---------------- CUSTOMER / ACCOUNT ----------------
+    private static final String PROFILE_URL = "/user/profile";
+    private static final String CUSTOMER_ACCOUNT_URL = "/user/account/";
+    private static final String ACCOUNT_URL = "https://jsonplaceholder.typicode.com";
+    private static final String LIVE_BALANCE_URL = "https://dummy-bank-api.com/api/balance?accountNumber={accountNumber}";
+    private static final String ACCOUNT_HOLDER_URL = "https://dummyjson.com/users/1";
+
+    // ---------------- TRANSFERS ----------------
+    private static final String TRANSFER_INITIATE_URL = "/bank/transfer/initiate";
+    private static final String TRANSFER_DETAILS_URL = "/bank/transfer/details";
+    private static final String TRANSFER_VERIFY_OTP_URL = "/bank/transfer/verify-otp";
+    private static final String SCHEDULE_URL = "/bank/transfer/schedule";
+    private static final String SCHEDULE_EXECUTE_URL = "/bank/transfer/execute";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    // ---------------- PAYMENTS ----------------
+    private static final String TRANSACTION_DETAILS_URL = "/bank/transactions/{transactionId}";
+    private static final String RECENT_PAYMENTS_URL = "https://jsonplaceholder.typicode.com/posts";
+    private static final String VPA_RESOLVE_URL = "https://jsonplaceholder.typicode.com/users/1";
+
+    // ---------------- CARDS ----------------
+    private static final String CARD_URL = "https://api.bank.com/cards";
+    private static final String VERIFY_CARD_URL = "https://api.bank.com/cards/verify";
+    private static final String DEBIT_URL = "https://api.bank.com/transactions/debit";
+    private static final String CREDIT_URL = "https://api.bank.com/transactions/credit";
+
+    // ---------------- PAYEES ----------------
+    private static final String ADD_PAYEE_URL = "https://jsonplaceholder.typicode.com/posts";
+    private static final String PAYEES_URL = "/users";
+    private static final String UPDATE_PAYEE_URL = "https://dummyjson.com/users/";
+
+    // ---------------- STATEMENTS ----------------
+    private static final String STATEMENT_URL = "/bank/account/statement";
+
+    private final WebClient bankWebClient;
+
+    public HttpBankGateway(WebClient bankWebClient) {
+        this.bankWebClient = bankWebClient;
+    }
+
+    @Override
+    public Mono<OtpResponseDTO> sendOtp(OtpSendRequestDTO request, HttpHeaders headers) {
+        return post(OTP_SEND_URL, request, headers, OtpResponseDTO.class);
+    }
+
+    @Override
+    public Mono<BankOtpResponse> verifyOtp(BankOtpRequest request, HttpHeaders headers) {
+        return post(VERIFY_OTP_URL, request, headers, BankOtpResponse.class);
+    }
+
+    @Override
+    public Mono<BankOtpResponse> resendOtp(Map<String, Object> request, HttpHeaders headers) {
+        return post(RESEND_OTP_URL, request, headers, BankOtpResponse.class);
+    }
+
+    @Override
+    public Mono<BankMpinResponse> setMpin(BankMpinRequest request, HttpHeaders headers) {
+        return post(SET_MPIN_URL, request, headers, BankMpinResponse.class);
+    }
+
+    @Override
+    public Mono<BankLoginResponse> login(BankLoginRequest request, HttpHeaders headers) {
+        return post(LOGIN_URL, request, headers, BankLoginResponse.class);
+    }
+
+    @Override
+    public Mono<BankProfileResponse> getProfile(HttpHeaders headers) {
+        return bankWebClient.get()
+                .uri(PROFILE_URL)
+                .headers(h -> h.addAll(headers))
+                .retrieve()
+                .onStatus(status -> !status.is2xxSuccessful(),
+                        clientResponse -> Mono.error(new GlobalException(
+                                ValidationMessages.BANK_API_FAILED,
+                                clientResponse.statusCode().value())))
+                .bodyToMono(BankProfileResponse.class);
+    }
+
+    @Override
+    public Mono<BankAccountResponse> getCustomerAccount(Long id, HttpHeaders headers) {
+        return get(CUSTOMER_ACCOUNT_URL + id, headers, BankAccountResponse.class);
+    }
+
+    @Override
+    public Mono<AccountResponse> getAccount(Long id, HttpHeaders headers) {
+        return get(ACCOUNT_URL + "/1", headers, AccountResponse.class);
+    }
+
+    @Override
+    public Mono<BigDecimal> getBalance(String accountNumber, HttpHeaders headers) {
+        return get(ACCOUNT_URL + "/" + accountNumber + "/balance", headers, BigDecimal.class);
+    }
+
+    @Override
+    public Mono<Double> getLiveBalance(String accountNumber, HttpHeaders headers) {
+        return bankWebClient.get()
+                .uri(LIVE_BALANCE_URL, accountNumber)
+                .headers(h -> h.addAll(headers))
+                .retrieve()
+                .bodyToMono(Double.class);
+    }
+
+    @Override
+    public Mono<BankAccountHolder> getAccountHolder(HttpHeaders headers) {
+        return bankWebClient.get()
+                .uri(ACCOUNT_HOLDER_URL)
+                .headers(h -> h.addAll(headers))
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(BankAccountHolder.class);
+    }
+
+    @Override
+    public Mono<PaymentResponse> transferFunds(FundTransferDTO request, HttpHeaders headers) {
+        String url = switch (request.getPaymentType()) {
+            case UPI -> "/payments/upi";
+            case MOBILE -> "/payments/mobile";
+            case BANK -> "/payments/transfer";
+            case CREDIT_CARD -> "/payments/credit-card";
+            case DEBIT_CARD -> "/payments/debit-card";
+        };
+        return post(url, request, headers, PaymentResponse.class);
+    }
+
+    @Override
+    public Mono<FundTransferResponse> initiateTransfer(FundTransferRequestDTO request, HttpHeaders headers) {
+        return post(TRANSFER_INITIATE_URL, request, headers, FundTransferResponse.class);
+    }
+
+    @Override
+    public Mono<ConfirmPaymentResponseDTO> getTransferDetails(ConfirmPaymentRequestDTO request, HttpHeaders headers) {
+        return post(TRANSFER_DETAILS_URL, request, headers, ConfirmPaymentResponseDTO.class);
+    }
+
+    @Override
+    public Mono<FundVerifyOtpResponse> verifyTransferOtp(OtpVerifyRequestDTO request, HttpHeaders headers) {
+        return post(TRANSFER_VERIFY_OTP_URL, request, headers, FundVerifyOtpResponse.class);
+    }
+
+    @Override
+    public Mono<TransactionDetailsDTO> getTransactionDetails(String transactionId, HttpHeaders headers) {
+        return bankWebClient.get()
+                .uri(TRANSACTION_DETAILS_URL, transactionId)
+                .headers(h -> h.addAll(headers))
+                .retrieve()
+                .bodyToMono(TransactionDetailsDTO.class);
+    }
+
+    // Decoded element by element, so nothing past the limit is read
+    @Override
+    public Mono<List<BankPaymentRef>> getRecentPayments(int limit, HttpHeaders headers) {
+        return bankWebClient.get()
+                .uri(RECENT_PAYMENTS_URL)
+                .accept(MediaType.APPLICATION_JSON)
+                .headers(h -> h.addAll(headers))
+                .retrieve()
+                .bodyToFlux(BankPaymentRef.class)
+                .take(limit)
+                .collectList();
+    }
+
+    @Override
+    public Mono<Map<String, Object>> resolveVpa(String upiId, HttpHeaders headers) {
+        return bankWebClient.get()
+                .uri(VPA_RESOLVE_URL)
+                .accept(MediaType.APPLICATION_JSON)
+                .headers(h -> h.addAll(headers))
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
+                })
+                .filter(account -> !account.isEmpty());
+    }
+
+    @Override
+    public Mono<Map<String, Object>> scheduleTransfer(FundScheduleRequestDTO request) {
+        return bankWebClient.post()
+                .uri(SCHEDULE_URL)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<>() {
+                });
+    }
+
+    @Override
+    public Mono<FundVerifyResponse> verifyScheduledTransferOtp(OtpVerifyRequestDTO request) {
+        return post(TRANSFER_VERIFY_OTP_URL, request, new HttpHeaders(), FundVerifyResponse.class);
+    }
+
+    @Override
+    public Mono<Void> executeScheduledTransfer(FundScheduleRequestDTO request) {
+        return bankWebClient.post()
+                .uri(SCHEDULE_EXECUTE_URL)
+                // The bank applies a transaction id once, so retrying a call that timed out cannot debit twice
+                .header(IDEMPOTENCY_KEY_HEADER, request.getTransactionId())
+                .bodyValue(request)
+                .retrieve()
+                .toBodilessEntity()
+                .then();
+    }
+
+    @Override
+    public Mono<BankCardResponse> addCard(CardRequest request, HttpHeaders headers) {
+        String url = request.getCardType().equalsIgnoreCase("DEBIT")
+                ? CARD_URL + "/debit/add"
+                : CARD_URL + "/credit/add";
+        return post(url, request, headers, BankCardResponse.class);
+    }
+
+    @Override
+    public Mono<BankCardResponse> verifyCard(CardOtpRequest request, HttpHeaders headers) {
+        String url = request.getCardType().equalsIgnoreCase("DEBIT")
+                ? VERIFY_CARD_URL + "/debit"
+                : VERIFY_CARD_URL + "/credit";
+        return post(url, request, headers, BankCardResponse.class);
+    }
+
+    @Override
+    public Mono<BankCardResponse> getCards(HttpHeaders headers) {
+        return bankWebClient.get()
+                .uri(uriBuilder -> uriBuilder.path(CARD_URL)
+                        .queryParam("type", "DEBIT,CREDIT").build())
+                .headers(h -> h.addAll(headers))
+                .retrieve()
+                .bodyToMono(BankCardResponse.class);
+    }
+
+    @Override
+    public Mono<BankTransactionResponse> cardPayment(PayNowRequest request, HttpHeaders headers) {
+        String url = request.getCardType().equalsIgnoreCase("DEBIT") ? DEBIT_URL : CREDIT_URL;
+        return post(url, request, headers, BankTransactionResponse.class);
+    }
+
+    @Override
+    public Mono<Map<String, Object>> addPayee(Map<String, Object> request, HttpHeaders headers) {
+        return bankWebClient.post()
+                .uri(ADD_PAYEE_URL)
+                .headers(h -> h.addAll(headers))
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<>() {
+                });
+    }
+
+    @Override
+    public Mono<List<BankPayee>> getPayees(HttpHeaders headers) {
+        return bankWebClient.get()
+                .uri(PAYEES_URL)
+                .headers(h -> h.addAll(headers))
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, response ->
+                        Mono.error(new RuntimeException("Client error while calling dummy API")))
+                .onStatus(HttpStatusCode::is5xxServerError, response ->
+                        Mono.error(new RuntimeException("Server error while calling dummy API")))
+                .bodyToFlux(BankPayee.class)
+                .collectList();
+    }
+
+    @Override
+    public Mono<Void> updatePayee(Long payeeId, UpdateBeneficiaryDTO request, HttpHeaders headers) {
+        return bankWebClient.put()
+                .uri(UPDATE_PAYEE_URL + payeeId)
+                .headers(h -> h.addAll(headers))
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(Void.class);
+    }
+
+    @Override
+    public Mono<Void> deletePayee(Long payeeId, HttpHeaders headers) {
+        return bankWebClient.delete()
+                .uri(PAYEES_URL + "/" + payeeId)
+                .headers(h -> h.addAll(headers))
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, response -> {
+                    log.error("Client error while deleting payee | payeeId={} | status={}", payeeId, response.statusCode());
+                    return Mono.error(new GlobalException(
+                            HttpStatus.BAD_REQUEST.value(),
+                            ValidationMessages.CLIENT_ERROR
+                    ));
+                })
+                .onStatus(HttpStatusCode::is5xxServerError, response -> {
+                    log.error("Server error while deleting payee | payeeId={} | status={}", payeeId, response.statusCode());
+                    return Mono.error(new GlobalException(
+                            HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                            ValidationMessages.SERVER_ERROR
+                    ));
+                })
+                .toBodilessEntity()
+                .then();
+    }
+
+    // ---------------- HELPERS ----------------
+    @Override
+    public Mono<BankStatementPage> getStatementPage(LocalDate from, LocalDate to, String cursor, int pageSize, HttpHeaders headers) {
+        return bankWebClient.get()
+                .uri(uriBuilder -> uriBuilder.path(STATEMENT_URL)
+                        .queryParam("from", from)
+                        .queryParam("to", to)
+                        .queryParam("size", pageSize)
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .build())
+                .headers(h -> h.addAll(headers))
+                .retrieve()
+                .bodyToMono(BankStatementPage.class);
+    }
+
+    private <T> Mono<T> get(String url, HttpHeaders headers, Class<T> type) {
+        return bankWebClient.get()
+                .uri(url)
+                .headers(h -> h.addAll(headers))
+                .retrieve()
+                .bodyToMono(type);
+    }
+
+    private <T> Mono<T> post(String url, Object body, HttpHeaders headers, Class<T> type) {
+        return bankWebClient.post()
+                .uri(url)
+                .headers(h -> h.addAll(headers))
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(type);
+    }
+}
@@ -0,0 +1,377 @@
+package com.banking.semba.gateway;
+
+import com.banking.semba.constants.ValidationMessages;
+import com.banking.semba.dto.*;
+import com.banking.semba.dto.response.*;
+import com.banking.semba.globalException.GlobalException;
+import com.banking.semba.util.OtpUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * In-process bank with canned responses for local development. Transfer/signup OTPs and the login MPIN
+ * accept "1234", card OTPs accept the "123456" that sendOtp hands out; anything else is rejected like the real bank would.
+ */
+@Slf4j
+@Component
+@Profile("mock")
+@Qualifier(ResilientBankGateway.TARGET)
+public class MockBankGateway implements BankGateway {
+
+    private static final String DEMO_OTP = "1234";
+    private static final String DEMO_SENT_OTP = "123456";
+    private static final String DEMO_MPIN = "1234";
+    private static final int MOCK_STATEMENT_ROWS_PER_DAY = 24;
+    private static final BigDecimal MOCK_OPENING_BALANCE = BigDecimal.valueOf(50000);
+
+    // ---------------- OTP / AUTH ----------------
+    @Override
+    public Mono<OtpResponseDTO> sendOtp(OtpSendRequestDTO request, HttpHeaders headers) {
+        return Mono.fromSupplier(() -> {
+            log.info("[MOCK] Sending OTP | mobile={} | context={}", request.getMobile(), request.getContext());
+
+            // static OTP for predictable testing
+            String otpCode = DEMO_SENT_OTP;
+            return OtpResponseDTO.builder()
+                    .mobile(request.getMobile())
+                    .otpCode(otpCode)
+                    .message(OtpUtil.buildOtpMessage(request.getContext(), otpCode))
+                    .success(true)
+                    .sentAt(LocalDateTime.now())
+                    .expirySeconds(300)
+                    .extra(Map.of(
+                            "context", request.getContext(),
+                            "referenceId", request.getReferenceId() != null ? request.getReferenceId() : "MOCK_REF_001",
+                            "mockMode", true,
+                            "expiresIn", "300 seconds"
+                    ))
+                    .build();
+        });
+    }
+
+    @Override
+    public Mono<BankOtpResponse> verifyOtp(BankOtpRequest request, HttpHeaders headers) {
+        return Mono.fromSupplier(() -> {
+            BankOtpResponse response = new BankOtpResponse();
+            response.setMobile(request.getMobile());
+            response.setOtpValid(DEMO_OTP.equals(request.getOtp()));
+            response.setTransactionId("TXN-MOCK-VERIFY-123");
+            return response;
+        });
+    }
+
+    @Override
+    public Mono<BankOtpResponse> resendOtp(Map<String, Object> request, HttpHeaders headers) {
+        return Mono.fromSupplier(() -> {
+            BankOtpResponse response = new BankOtpResponse();
+            response.setMobile((String) request.get("mobile"));
+            response.setOtpValid(true);
+            response.setExpiresIn(300);
+            response.setTransactionId("TXN-MOCK-RESEND-" + System.currentTimeMillis());
+            return response;
+        });
+    }
+
+    @Override
+    public Mono<BankMpinResponse> setMpin(BankMpinRequest request, HttpHeaders headers) {
+        return Mono.just(new BankMpinResponse("TXN-MOCK-MPIN-123", ValidationMessages.MPIN_SET_SUCCESS));
+    }
+
+    @Override
+    public Mono<BankLoginResponse> login(BankLoginRequest request, HttpHeaders headers) {
+        return Mono.fromSupplier(() -> {
+            BankLoginResponse response = new BankLoginResponse();
+            if (DEMO_MPIN.equals(request.getMpin())) {
+                response.setSuccess(true);
+                response.setBankJwt("MOCK_BANK_JWT_" + request.getMobile());
+            } else {
+                response.setSuccess(false);
+                response.setMessage(ValidationMessages.MPIN_INVALID);
+            }
+            return response;
+        });
+    }
+
+    // ---------------- CUSTOMER / ACCOUNT ----------------
+    @Override
+    public Mono<BankProfileResponse> getProfile(HttpHeaders headers) {
+        Map<String, Object> profile = Map.of(
+                "fullName", "John Doe",
+                "email", "john.doe@example.com",
+                "accountType", "SAVINGS",
+                "balance", 50000.00
+        );
+        return Mono.just(new BankProfileResponse(true, profile));
+    }
+
+    @Override
+    public Mono<BankAccountResponse> getCustomerAccount(Long id, HttpHeaders headers) {
+        return Mono.fromSupplier(() -> {
+            BankAccountResponse response = new BankAccountResponse();
+            response.setSuccess(true);
+            response.setAccount(Map.of(
+                    "accountId", id,
+                    "accountNumber", "XXXXXX8901",
+                    "balance", 75000.0,
+                    "ifsc", "HDFC000123",
+                    "type", "SAVINGS"
+            ));
+            return response;
+        });
+    }
+
+    @Override
+    public Mono<AccountResponse> getAccount(Long id, HttpHeaders headers) {
+        return Mono.fromSupplier(() -> {
+            Map<String, Double> breakdown = new HashMap<>();
+            breakdown.put("NetWithdraw", 23500.0);
+            breakdown.put("OverDraft", 0.0);
+            breakdown.put("SweepBalance", 0.0);
+            breakdown.put("UnclearedFunds", 0.0);
+            breakdown.put("HoldFunds", 0.0);
+
+            return new AccountResponse(
+                    "1227277878",
+                    "Ms. Jaya",
+                    "122234343434",
+                    "BRIB00022243",
+                    "BRI",
+                    "Gomti Nagar Lucknow",
+                    "123456789@ybl",
+                    2500.35,
+                    breakdown
+            );
+        });
+    }
+
+    @Override
+    public Mono<BigDecimal> getBalance(String accountNumber, HttpHeaders headers) {
+        return Mono.just(BigDecimal.valueOf(2500.35));
+    }
+
+    @Override
+    public Mono<Double> getLiveBalance(String accountNumber, HttpHeaders headers) {
+        return Mono.just(8500.0);
+    }
+
+    @Override
+    public Mono<BankAccountHolder> getAccountHolder(HttpHeaders headers) {
+        return Mono.just(new BankAccountHolder("Aarav", "Sharma"));
+    }
+
+    @Override
+    public Mono<PaymentResponse> transferFunds(FundTransferDTO request, HttpHeaders headers) {
+        return Mono.fromSupplier(() -> new PaymentResponse("SUCCESS",
+                "Mock " + request.getPaymentType() + " transfer completed",
+                request.getTransactionId()));
+    }
+
+    // ---------------- FUND TRANSFER ----------------
+    @Override
+    public Mono<FundTransferResponse> initiateTransfer(FundTransferRequestDTO request, HttpHeaders headers) {
+        return Mono.fromSupplier(() -> {
+            FundTransferResponse response = new FundTransferResponse(
+                    request.getFromAccountNumber(),
+                    request.getAmount(),
+                    "INR"
+            );
+            response.setTransactionId("TXN-MOCK-" + System.currentTimeMillis());
+            response.setTransferType(request.getTransferType());
+            response.setCreatedAt(LocalDateTime.now());
+            return response;
+        });
+    }
+
+    @Override
+    public Mono<ConfirmPaymentResponseDTO> getTransferDetails(ConfirmPaymentRequestDTO request, HttpHeaders headers) {
+        return Mono.fromSupplier(() -> ConfirmPaymentResponseDTO.builder()
+                .toName(request.getToName() != null ? request.getToName() : "Unknown")
+                .otpStatus("OTP sent successfully")
+                .paymentMethod(request.getTransferType() != null ? request.getTransferType() : "NEFT")
+                .bankDetails((request.getTransferType() != null ? request.getTransferType() : "NEFT")
+                        + " - " + request.getToAccountNumber())
+                .amount(request.getAmount())
+                .build());
+    }
+
+    @Override
+    public Mono<FundVerifyOtpResponse> verifyTransferOtp(OtpVerifyRequestDTO request, HttpHeaders headers) {
+        if (!DEMO_OTP.equals(request.getOtpCode())) {
+            return Mono.error(new GlobalException(ValidationMessages.OTP_INVALID, HttpStatus.BAD_REQUEST.value()));
+        }
+        return Mono.fromSupplier(() -> FundVerifyOtpResponse.builder()
+                .transactionId("INBDGH6757575757575")
+                .success(true)
+                .message("₹1,000 sent successfully via IMPS.")
+                .completedAt(LocalDateTime.now())
+                .toName("Joya")
+                .toAccount("232323454545")
+                .fromName("Shivangi")
+                .fromAccount("323232454545")
+                .transferType("IMPS")
+                .amount(new BigDecimal("1000.00"))
+                .remark("Payment Successful")
+                .build());
+    }
+
+    // ---------------- PAYMENTS ----------------
+    @Override
+    public Mono<TransactionDetailsDTO> getTransactionDetails(String transactionId, HttpHeaders headers) {
+        return Mono.fromSupplier(() -> new TransactionDetailsDTO(transactionId, PaymentType.UPI, "rajesh@upi", "shop@upi",
+                "Bank of India ••••8888", 2000.0, "27 Oct 2025, 10:35 AM", "Rajesh MBU", "SUCCESS", "Transaction Success"));
+    }
+
+    @Override
+    public Mono<List<BankPaymentRef>> getRecentPayments(int limit, HttpHeaders headers) {
+        return Mono.fromSupplier(() -> IntStream.rangeClosed(1, limit).mapToObj(BankPaymentRef::new).toList());
+    }
+
+    @Override
+    public Mono<Map<String, Object>> resolveVpa(String upiId, HttpHeaders headers) {
+        return Mono.just(Map.of("id", 1, "name", "Leanne Graham", "username", "Bret", "email", "Sincere@april.biz"));
+    }
+
+    // ---------------- SCHEDULED TRANSFER ----------------
+    @Override
+    public Mono<Map<String, Object>> scheduleTransfer(FundScheduleRequestDTO request) {
+        return Mono.fromSupplier(() -> Map.of("transactionId", "SCHED-" + System.currentTimeMillis(), "status", "PENDING"));
+    }
+
+    @Override
+    public Mono<FundVerifyResponse> verifyScheduledTransferOtp(OtpVerifyRequestDTO request) {
+        if (!DEMO_OTP.equals(request.getOtpCode())) {
+            return Mono.error(new GlobalException(ValidationMessages.INVALID_OTP, HttpStatus.BAD_REQUEST.value()));
+        }
+        return Mono.fromSupplier(() -> FundVerifyResponse.builder()
+                .transactionId("INBDGH6757575757575")
+                .toName("Joya")
+                .toAccountNumber("232323454545")
+                .fromName("Shivangi")
+                .fromAccountNumber("232323454545")
+                .paymentMode("NEFT")
+                .amount(1000.00)
+                .remark("Scheduled Payment")
+                .scheduledDateTime(LocalDateTime.of(2025, 8, 25, 17, 36))
+                .scheduledDate(LocalDate.of(2025, 8, 26))
+                .build());
+    }
+
+    @Override
+    public Mono<Void> executeScheduledTransfer(FundScheduleRequestDTO request) {
+        return Mono.fromRunnable(() -> log.info("MOCK EXECUTED: {} | {} -> {} ₹{} | Type={}", request.getTransactionId(), request.getFromAccountNumber(),
+                request.getToAccountNumber(), request.getAmount(), request.getTransferType()));
+    }
+
+    // ---------------- CARDS ----------------
+    @Override
+    public Mono<BankCardResponse> addCard(CardRequest request, HttpHeaders headers) {
+        return Mono.fromSupplier(() -> {
+            BankCardResponse.CardDetail card = new BankCardResponse.CardDetail(request.getCardNumber(), request.getHolderName(),
+                    request.getValidThru(), false, LocalDateTime.now(), LocalDateTime.now(), Map.of("type", request.getCardType()));
+            return new BankCardResponse(true, ValidationMessages.CARD_ADDED_SUCCESS, "CARD-" + System.currentTimeMillis(), card, null);
+        });
+    }
+
+    @Override
+    public Mono<BankCardResponse> verifyCard(CardOtpRequest request, HttpHeaders headers) {
+        return Mono.fromSupplier(() -> {
+            BankCardResponse response = new BankCardResponse();
+            response.setSuccess(DEMO_SENT_OTP.equals(request.getOtp()));
+            return response;
+        });
+    }
+
+    @Override
+    public Mono<BankCardResponse> getCards(HttpHeaders headers) {
+        return Mono.fromSupplier(() -> {
+            BankCardResponse.CardDetail debit = new BankCardResponse.CardDetail("************5678", "Alice Brown", "08/25", true, null, LocalDateTime.now(), Map.of("type", "DEBIT"));
+            BankCardResponse.CardDetail credit = new BankCardResponse.CardDetail("************4321", "John Doe", "12/26", true, null, LocalDateTime.now(), Map.of("type", "CREDIT"));
+            return new BankCardResponse(true, null, null, null, List.of(debit, credit));
+        });
+    }
+
+    @Override
+    public Mono<BankTransactionResponse> cardPayment(PayNowRequest request, HttpHeaders headers) {
+        return Mono.fromSupplier(() -> new BankTransactionResponse(true, "TXN" + System.currentTimeMillis(),
+                ValidationMessages.PAYMENT_SUCCESS, request.getAmount(), request.getCardType()));
+    }
+
+    // ---------------- PAYEES ----------------
+    @Override
+    public Mono<Map<String, Object>> addPayee(Map<String, Object> request, HttpHeaders headers) {
+        return Mono.fromSupplier(() -> {
+            Map<String, Object> response = new HashMap<>(request);
+            response.put("id", System.currentTimeMillis());
+            return response;
+        });
+    }
+
+    @Override
+    public Mono<List<BankPayee>> getPayees(HttpHeaders headers) {
+        return Mono.just(List.of(
+                mockPayee(1, "Leanne Graham", "92998"),
+                mockPayee(2, "Ervin Howell", "90566"),
+                mockPayee(3, "Clementine Bauch", "59590")
+        ));
+    }
+
+    @Override
+    public Mono<Void> updatePayee(Long payeeId, UpdateBeneficiaryDTO request, HttpHeaders headers) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Void> deletePayee(Long payeeId, HttpHeaders headers) {
+        return Mono.empty();
+    }
+
+    // ---------------- STATEMENTS ----------------
+    // MOCK_STATEMENT_ROWS_PER_DAY rows per day; the cursor is the index of the next row
+    @Override
+    public Mono<BankStatementPage> getStatementPage(LocalDate from, LocalDate to, String cursor, int pageSize, HttpHeaders headers) {
+        return Mono.fromSupplier(() -> {
+            long total = (ChronoUnit.DAYS.between(from, to) + 1) * MOCK_STATEMENT_ROWS_PER_DAY;
+            long start = cursor == null ? 0 : Long.parseLong(cursor);
+            long end = Math.min(total, start + pageSize);
+            List<BankStatementEntry> entries = new ArrayList<>((int) Math.max(0, end - start));
+            for (long row = start; row < end; row++) {
+                entries.add(mockStatementEntry(from, row));
+            }
+            return new BankStatementPage(entries, end < total ? String.valueOf(end) : null);
+        });
+    }
+
+    // Rows come in pairs: a credit then a debit of the same amount, so the running balance needs no history
+    private BankStatementEntry mockStatementEntry(LocalDate from, long row) {
+        LocalDateTime postedAt = from.plusDays(row / MOCK_STATEMENT_ROWS_PER_DAY).atStartOfDay()
+                .plusMinutes((row % MOCK_STATEMENT_ROWS_PER_DAY) * (24 * 60 / MOCK_STATEMENT_ROWS_PER_DAY));
+        BigDecimal amount = BigDecimal.valueOf(100 + (row / 2 * 37) % 4900, 0);
+        boolean credit = row % 2 == 0;
+        return new BankStatementEntry(
+                "TXN-MOCK-" + row,
+                postedAt,
+                credit ? "UPI/CR/Salary" : "UPI/DR/shop@upi",
+                credit ? "CREDIT" : "DEBIT",
+                amount,
+                credit ? MOCK_OPENING_BALANCE.add(amount) : MOCK_OPENING_BALANCE);
+    }
+
+    private BankPayee mockPayee(long id, String name, String zipcode) {
+        return new BankPayee(id, name, new BankPayee.Address(zipcode));
+    }
+}
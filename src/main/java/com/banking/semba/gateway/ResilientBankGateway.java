@@ -0,0 +1,205 @@
+package com.banking.semba.gateway;
+
+import com.banking.semba.dto.*;
+import com.banking.semba.dto.response.*;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static com.banking.semba.gateway.BankEndpointGroup.*;
+
+/**
+ * The {@link BankGateway} services get injected. Runs every call of the profile-selected implementation
+ * (qualified {@value #TARGET}) through the circuit breaker and bulkhead of its endpoint group.
+ * Idempotent reads (profile, account, balance, card list) are additionally coalesced per user and hedged;
+ * writes are never.
+ */
+@Primary
+@Component
+public class ResilientBankGateway implements BankGateway {
+
+    public static final String TARGET = "bankGatewayTarget";
+
+    private final BankGateway target;
+    private final BankCallGuard guard;
+    private final BankReadHedger hedger;
+    private final BankSingleFlight singleFlight;
+
+    public ResilientBankGateway(@Qualifier(TARGET) BankGateway target, BankCallGuard guard,
+                                BankReadHedger hedger, BankSingleFlight singleFlight) {
+        this.target = target;
+        this.guard = guard;
+        this.hedger = hedger;
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    public Mono<OtpResponseDTO> sendOtp(OtpSendRequestDTO request, HttpHeaders headers) {
+        return guard.protect(AUTH, target.sendOtp(request, headers));
+    }
+
+    @Override
+    public Mono<BankOtpResponse> verifyOtp(BankOtpRequest request, HttpHeaders headers) {
+        return guard.protect(AUTH, target.verifyOtp(request, headers));
+    }
+
+    @Override
+    public Mono<BankOtpResponse> resendOtp(Map<String, Object> request, HttpHeaders headers) {
+        return guard.protect(AUTH, target.resendOtp(request, headers));
+    }
+
+    @Override
+    public Mono<BankMpinResponse> setMpin(BankMpinRequest request, HttpHeaders headers) {
+        return guard.protect(AUTH, target.setMpin(request, headers));
+    }
+
+    @Override
+    public Mono<BankLoginResponse> login(BankLoginRequest request, HttpHeaders headers) {
+        return guard.protect(AUTH, target.login(request, headers));
+    }
+
+    @Override
+    public Mono<BankProfileResponse> getProfile(HttpHeaders headers) {
+        return singleFlight.execute("getProfile", user(headers),
+                hedger.hedge("getProfile", guard.protect(BALANCE, target.getProfile(headers))));
+    }
+
+    @Override
+    public Mono<BankAccountResponse> getCustomerAccount(Long id, HttpHeaders headers) {
+        return singleFlight.execute("getCustomerAccount", user(headers),
+                hedger.hedge("getCustomerAccount", guard.protect(BALANCE, target.getCustomerAccount(id, headers))), id);
+    }
+
+    @Override
+    public Mono<AccountResponse> getAccount(Long id, HttpHeaders headers) {
+        return singleFlight.execute("getAccount", user(headers),
+                hedger.hedge("getAccount", guard.protect(BALANCE, target.getAccount(id, headers))), id);
+    }
+
+    @Override
+    public Mono<BigDecimal> getBalance(String accountNumber, HttpHeaders headers) {
+        return singleFlight.execute("getBalance", user(headers),
+                hedger.hedge("getBalance", guard.protect(BALANCE, target.getBalance(accountNumber, headers))), accountNumber);
+    }
+
+    @Override
+    public Mono<Double> getLiveBalance(String accountNumber, HttpHeaders headers) {
+        return singleFlight.execute("getLiveBalance", user(headers),
+                hedger.hedge("getLiveBalance", guard.protect(BALANCE, target.getLiveBalance(accountNumber, headers))), accountNumber);
+    }
+
+    @Override
+    public Mono<BankAccountHolder> getAccountHolder(HttpHeaders headers) {
+        return guard.protect(BALANCE, target.getAccountHolder(headers));
+    }
+
+    @Override
+    public Mono<PaymentResponse> transferFunds(FundTransferDTO request, HttpHeaders headers) {
+        return guard.protect(PAYMENTS, target.transferFunds(request, headers));
+    }
+
+    @Override
+    public Mono<FundTransferResponse> initiateTransfer(FundTransferRequestDTO request, HttpHeaders headers) {
+        return guard.protect(PAYMENTS, target.initiateTransfer(request, headers));
+    }
+
+    @Override
+    public Mono<ConfirmPaymentResponseDTO> getTransferDetails(ConfirmPaymentRequestDTO request, HttpHeaders headers) {
+        return guard.protect(PAYMENTS, target.getTransferDetails(request, headers));
+    }
+
+    @Override
+    public Mono<FundVerifyOtpResponse> verifyTransferOtp(OtpVerifyRequestDTO request, HttpHeaders headers) {
+        return guard.protect(PAYMENTS, target.verifyTransferOtp(request, headers));
+    }
+
+    // Details and VPA lookups are already coalesced by their callers, next to the caches they fill
+    @Override
+    public Mono<TransactionDetailsDTO> getTransactionDetails(String transactionId, HttpHeaders headers) {
+        return guard.protect(PAYMENTS, target.getTransactionDetails(transactionId, headers));
+    }
+
+    @Override
+    public Mono<List<BankPaymentRef>> getRecentPayments(int limit, HttpHeaders headers) {
+        return guard.protect(PAYMENTS, target.getRecentPayments(limit, headers));
+    }
+
+    @Override
+    public Mono<Map<String, Object>> resolveVpa(String upiId, HttpHeaders headers) {
+        return guard.protect(PAYEES, target.resolveVpa(upiId, headers));
+    }
+
+    @Override
+    public Mono<Map<String, Object>> scheduleTransfer(FundScheduleRequestDTO request) {
+        return guard.protect(PAYMENTS, target.scheduleTransfer(request));
+    }
+
+    @Override
+    public Mono<FundVerifyResponse> verifyScheduledTransferOtp(OtpVerifyRequestDTO request) {
+        return guard.protect(PAYMENTS, target.verifyScheduledTransferOtp(request));
+    }
+
+    @Override
+    public Mono<Void> executeScheduledTransfer(FundScheduleRequestDTO request) {
+        return guard.protect(PAYMENTS, target.executeScheduledTransfer(request));
+    }
+
+    @Override
+    public Mono<BankCardResponse> addCard(CardRequest request, HttpHeaders headers) {
+        return guard.protect(CARDS, target.addCard(request, headers));
+    }
+
+    @Override
+    public Mono<BankCardResponse> verifyCard(CardOtpRequest request, HttpHeaders headers) {
+        return guard.protect(CARDS, target.verifyCard(request, headers));
+    }
+
+    @Override
+    public Mono<BankCardResponse> getCards(HttpHeaders headers) {
+        return singleFlight.execute("getCards", user(headers),
+                hedger.hedge("getCards", guard.protect(CARDS, target.getCards(headers))));
+    }
+
+    @Override
+    public Mono<BankTransactionResponse> cardPayment(PayNowRequest request, HttpHeaders headers) {
+        return guard.protect(PAYMENTS, target.cardPayment(request, headers));
+    }
+
+    @Override
+    public Mono<Map<String, Object>> addPayee(Map<String, Object> request, HttpHeaders headers) {
+        return guard.protect(PAYEES, target.addPayee(request, headers));
+    }
+
+    @Override
+    public Mono<List<BankPayee>> getPayees(HttpHeaders headers) {
+        return guard.protect(PAYEES, target.getPayees(headers));
+    }
+
+    @Override
+    public Mono<Void> updatePayee(Long payeeId, UpdateBeneficiaryDTO request, HttpHeaders headers) {
+        return guard.protect(PAYEES, target.updatePayee(payeeId, request, headers));
+    }
+
+    @Override
+    public Mono<Void> deletePayee(Long payeeId, HttpHeaders headers) {
+        return guard.protect(PAYEES, target.deletePayee(payeeId, headers));
+    }
+
+    // Pages are fetched one after another by a single export, so there is nothing to coalesce or hedge
+    @Override
+    public Mono<BankStatementPage> getStatementPage(LocalDate from, LocalDate to, String cursor, int pageSize, HttpHeaders headers) {
+        return guard.protect(BALANCE, target.getStatementPage(from, to, cursor, pageSize, headers));
+    }
+
+    // Reads are coalesced per caller; bank headers carry the caller in Authorization
+    private static String user(HttpHeaders headers) {
+        return headers.getFirst(HttpHeaders.AUTHORIZATION);
+    }
+}
@@ -0,0 +1,223 @@
+package com.banking.semba.gateway;
+
+import com.banking.semba.dto.*;
+import com.banking.semba.dto.response.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Mock bank with realistic latency and injected failures, for load-testing the app without a bank sandbox.
+ * Every call waits a log-normally distributed delay (bank.simulator.latency-median / latency-p99) and then
+ * either answers like {@link MockBankGateway} or fails with bank.simulator.error-status at bank.simulator.error-rate.
+ */
+@Slf4j
+@Component
+@Profile("simulated")
+@Qualifier(ResilientBankGateway.TARGET)
+public class SimulatedBankGateway implements BankGateway {
+
+    // z-score of the 99th percentile of a standard normal distribution
+    private static final double Z_P99 = 2.3263;
+
+    private final BankGateway delegate = new MockBankGateway();
+    private final BankSimulatorProperties properties;
+    private final double sigma;
+
+    public SimulatedBankGateway(BankSimulatorProperties properties) {
+        this.properties = properties;
+        double median = Math.max(1, properties.getLatencyMedian().toMillis());
+        double p99 = Math.max(median, properties.getLatencyP99().toMillis());
+        this.sigma = Math.log(p99 / median) / Z_P99;
+        log.info("Simulated bank gateway active | median={}ms | p99={}ms | errorRate={}",
+                (long) median, (long) p99, properties.getErrorRate());
+    }
+
+    @Override
+    public Mono<OtpResponseDTO> sendOtp(OtpSendRequestDTO request, HttpHeaders headers) {
+        return simulate("sendOtp", delegate.sendOtp(request, headers));
+    }
+
+    @Override
+    public Mono<BankOtpResponse> verifyOtp(BankOtpRequest request, HttpHeaders headers) {
+        return simulate("verifyOtp", delegate.verifyOtp(request, headers));
+    }
+
+    @Override
+    public Mono<BankOtpResponse> resendOtp(Map<String, Object> request, HttpHeaders headers) {
+        return simulate("resendOtp", delegate.resendOtp(request, headers));
+    }
+
+    @Override
+    public Mono<BankMpinResponse> setMpin(BankMpinRequest request, HttpHeaders headers) {
+        return simulate("setMpin", delegate.setMpin(request, headers));
+    }
+
+    @Override
+    public Mono<BankLoginResponse> login(BankLoginRequest request, HttpHeaders headers) {
+        return simulate("login", delegate.login(request, headers));
+    }
+
+    @Override
+    public Mono<BankProfileResponse> getProfile(HttpHeaders headers) {
+        return simulate("getProfile", delegate.getProfile(headers));
+    }
+
+    @Override
+    public Mono<BankAccountResponse> getCustomerAccount(Long id, HttpHeaders headers) {
+        return simulate("getCustomerAccount", delegate.getCustomerAccount(id, headers));
+    }
+
+    @Override
+    public Mono<AccountResponse> getAccount(Long id, HttpHeaders headers) {
+        return simulate("getAccount", delegate.getAccount(id, headers));
+    }
+
+    @Override
+    public Mono<BigDecimal> getBalance(String accountNumber, HttpHeaders headers) {
+        return simulate("getBalance", delegate.getBalance(accountNumber, headers));
+    }
+
+    @Override
+    public Mono<PaymentResponse> transferFunds(FundTransferDTO request, HttpHeaders headers) {
+        return simulate("transferFunds", delegate.transferFunds(request, headers));
+    }
+
+    @Override
+    public Mono<FundTransferResponse> initiateTransfer(FundTransferRequestDTO request, HttpHeaders headers) {
+        return simulate("initiateTransfer", delegate.initiateTransfer(request, headers));
+    }
+
+    @Override
+    public Mono<ConfirmPaymentResponseDTO> getTransferDetails(ConfirmPaymentRequestDTO request, HttpHeaders headers) {
+        return simulate("getTransferDetails", delegate.getTransferDetails(request, headers));
+    }
+
+    @Override
+    public Mono<FundVerifyOtpResponse> verifyTransferOtp(OtpVerifyRequestDTO request, HttpHeaders headers) {
+        return simulate("verifyTransferOtp", delegate.verifyTransferOtp(request, headers));
+    }
+
+    @Override
+    public Mono<Map<String, Object>> scheduleTransfer(FundScheduleRequestDTO request) {
+        return simulate("scheduleTransfer", delegate.scheduleTransfer(request));
+    }
+
+    @Override
+    public Mono<FundVerifyResponse> verifyScheduledTransferOtp(OtpVerifyRequestDTO request) {
+        return simulate("verifyScheduledTransferOtp", delegate.verifyScheduledTransferOtp(request));
+    }
+
+    @Override
+    public Mono<Double> getLiveBalance(String accountNumber, HttpHeaders headers) {
+        return simulate("getLiveBalance", delegate.getLiveBalance(accountNumber, headers));
+    }
+
+    @Override
+    public Mono<BankAccountHolder> getAccountHolder(HttpHeaders headers) {
+        return simulate("getAccountHolder", delegate.getAccountHolder(headers));
+    }
+
+    @Override
+    public Mono<TransactionDetailsDTO> getTransactionDetails(String transactionId, HttpHeaders headers) {
+        return simulate("getTransactionDetails", delegate.getTransactionDetails(transactionId, headers));
+    }
+
+    @Override
+    public Mono<List<BankPaymentRef>> getRecentPayments(int limit, HttpHeaders headers) {
+        return simulate("getRecentPayments", delegate.getRecentPayments(limit, headers));
+    }
+
+    @Override
+    public Mono<Map<String, Object>> resolveVpa(String upiId, HttpHeaders headers) {
+        return simulate("resolveVpa", delegate.resolveVpa(upiId, headers));
+    }
+
+    @Override
+    public Mono<Void> executeScheduledTransfer(FundScheduleRequestDTO request) {
+        return simulate("executeScheduledTransfer", delegate.executeScheduledTransfer(request));
+    }
+
+    @Override
+    public Mono<BankCardResponse> addCard(CardRequest request, HttpHeaders headers) {
+        return simulate("addCard", delegate.addCard(request, headers));
+    }
+
+    @Override
+    public Mono<BankCardResponse> verifyCard(CardOtpRequest request, HttpHeaders headers) {
+        return simulate("verifyCard", delegate.verifyCard(request, headers));
+    }
+
+    @Override
+    public Mono<BankCardResponse> getCards(HttpHeaders headers) {
+        return simulate("getCards", delegate.getCards(headers));
+    }
+
+    @Override
+    public Mono<BankTransactionResponse> cardPayment(PayNowRequest request, HttpHeaders headers) {
+        return simulate("cardPayment", delegate.cardPayment(request, headers));
+    }
+
+    @Override
+    public Mono<Map<String, Object>> addPayee(Map<String, Object> request, HttpHeaders headers) {
+        return simulate("addPayee", delegate.addPayee(request, headers));
+    }
+
+    @Override
+    public Mono<List<BankPayee>> getPayees(HttpHeaders headers) {
+        return simulate("getPayees", delegate.getPayees(headers));
+    }
+
+    @Override
+    public Mono<Void> updatePayee(Long payeeId, UpdateBeneficiaryDTO request, HttpHeaders headers) {
+        return simulate("updatePayee", delegate.updatePayee(payeeId, request, headers));
+    }
+
+    @Override
+    public Mono<Void> deletePayee(Long payeeId, HttpHeaders headers) {
+        return simulate("deletePayee", delegate.deletePayee(payeeId, headers));
+    }
+
+    @Override
+    public Mono<BankStatementPage> getStatementPage(LocalDate from, LocalDate to, String cursor, int pageSize, HttpHeaders headers) {
+        return simulate("getStatementPage", delegate.getStatementPage(from, to, cursor, pageSize, headers));
+    }
+
+    // ---------------- SIMULATION ----------------
+    private <T> Mono<T> simulate(String operation, Mono<T> call) {
+        return Mono.defer(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Duration latency = sampleLatency(random);
+            if (random.nextDouble() < properties.getErrorRate()) {
+                return Mono.delay(latency).then(Mono.error(() -> bankError(operation)));
+            }
+            return Mono.delay(latency).then(call);
+        });
+    }
+
+    private Duration sampleLatency(ThreadLocalRandom random) {
+        double millis = properties.getLatencyMedian().toMillis() * Math.exp(sigma * random.nextGaussian());
+        return Duration.ofMillis(Math.round(millis));
+    }
+
+    // Same exception type the real WebClient raises, so services exercise their bank-error handling
+    private WebClientResponseException bankError(String operation) {
+        HttpStatus status = HttpStatus.valueOf(properties.getErrorStatus());
+        log.debug("Simulated bank failure | operation={} | status={}", operation, status.value());
+        return WebClientResponseException.create(status.value(), status.getReasonPhrase(), HttpHeaders.EMPTY,
+                ("Simulated bank failure on " + operation).getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+}
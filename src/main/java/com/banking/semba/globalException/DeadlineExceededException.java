@@ -0,0 +1,15 @@
+package com.banking.semba.globalException;
+
+import com.banking.semba.constants.ValidationMessages;
+import org.springframework.http.HttpStatus;
+
+/**
+ * The caller's own request deadline ran out (504). Says nothing about the bank's health, so it never counts
+ * against a bank circuit breaker; see BankFailurePredicate.
+ */
+public class DeadlineExceededException extends GlobalException {
+
+    public DeadlineExceededException() {
+        super(ValidationMessages.REQUEST_DEADLINE_EXCEEDED, HttpStatus.GATEWAY_TIMEOUT.value());
+    }
+}
@@ -0,0 +1,12 @@
+package com.banking.semba.ifsc;
+
+/**
+ * One branch of the IFSC directory.
+ */
+public record IfscBranch(String ifsc, String bank, String branch, String city, String state, String address) {
+
+    /** The first four characters of an IFSC identify the bank. */
+    public String bankCode() {
+        return ifsc.substring(0, 4);
+    }
+}
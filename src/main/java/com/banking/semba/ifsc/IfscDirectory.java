@@ -0,0 +1,91 @@
+package com.banking.semba.ifsc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Local IFSC directory, so beneficiary adds and transfers resolve bank and branch without a bank call.
+ * The CSV is compiled to a binary index next to the previous one and moved into place, then mapped and swapped
+ * in atomically; a changed CSV (or a replaced index file) is picked up without a restart. Until an index is
+ * loaded the directory reports {@link #isLoaded()} false and callers keep their format-only checks.
+ */
+@Slf4j
+@Component
+public class IfscDirectory {
+
+    private record Loaded(IfscIndex index, FileTime modified) {
+    }
+
+    private final IfscDirectoryProperties properties;
+    private final AtomicReference<Loaded> current = new AtomicReference<>();
+
+    public IfscDirectory(IfscDirectoryProperties properties) {
+        this.properties = properties;
+    }
+
+    public boolean isLoaded() {
+        return current.get() != null;
+    }
+
+    public Optional<IfscBranch> resolve(String ifsc) {
+        Loaded loaded = current.get();
+        return loaded == null ? Optional.empty() : loaded.index().find(ifsc);
+    }
+
+    public List<IfscBranch> branchesOf(String bankCode, int limit) {
+        Loaded loaded = current.get();
+        return loaded == null ? List.of() : loaded.index().findByBankCode(bankCode, limit);
+    }
+
+    // Also performs the initial load, shortly after startup
+    @Scheduled(initialDelay = 0, fixedDelayString = "${semba.ifsc-directory.reload-check-interval:60000}")
+    public void reloadIfChanged() {
+        Path index = properties.getIndexPath();
+        try {
+            Path csv = properties.getCsvPath();
+            if (csv != null && Files.isRegularFile(csv)
+                    && (!Files.exists(index) || Files.getLastModifiedTime(csv).compareTo(Files.getLastModifiedTime(index)) > 0)) {
+                compile(csv, index);
+            }
+            if (!Files.isRegularFile(index)) {
+                return;
+            }
+            FileTime modified = Files.getLastModifiedTime(index);
+            Loaded loaded = current.get();
+            if (loaded == null || !loaded.modified().equals(modified)) {
+                IfscIndex opened = IfscIndex.open(index);
+                current.set(new Loaded(opened, modified));
+                log.info("IFSC directory loaded | branches={} | index={}", opened.size(), index);
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.warn("IFSC directory reload failed, keeping {} | index={} | error={}",
+                    isLoaded() ? "previous index" : "format-only validation", index, ex.getMessage());
+        }
+    }
+
+    // Readers keep their mapping of the old file, so the new one is written aside and renamed over it
+    private void compile(Path csv, Path index) throws IOException {
+        long start = System.nanoTime();
+        Path parent = index.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path staging = Files.createTempFile(parent, index.getFileName().toString(), ".tmp");
+        try {
+            int branches = IfscIndexWriter.compile(csv, staging);
+            Files.move(staging, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("IFSC directory compiled | branches={} | tookMs={} | csv={}",
+                    branches, (System.nanoTime() - start) / 1_000_000, csv);
+        } finally {
+            Files.deleteIfExists(staging);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.banking.semba.ifsc;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * IFSC directory (semba.ifsc-directory.* in application.properties), see {@link IfscDirectory}.
+ */
+@Data
+@ConfigurationProperties(prefix = "semba.ifsc-directory")
+public class IfscDirectoryProperties {
+
+    // RBI-style CSV with a header row (IFSC, BANK, BRANCH, CITY, STATE, ADDRESS); blank = only use an existing index
+    private Path csvPath;
+
+    // Compiled binary index, rebuilt whenever the CSV is newer
+    private Path indexPath = Path.of(System.getProperty("java.io.tmpdir"), "semba-ifsc.idx");
+}
@@ -0,0 +1,171 @@
+package com.banking.semba.ifsc;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Read-only view over a memory-mapped IFSC index written by {@link IfscIndexWriter}. Nothing is copied onto
+ * the heap: lookups read the mapped file with absolute gets, so one instance is safe to share between threads.
+ * <pre>
+ * header   magic, version, count, slotCount, slotsOffset, stringsOffset
+ * records  count x 32 bytes sorted by IFSC: 11 ASCII bytes, 1 pad, 5 string offsets (bank, branch, city, state, address)
+ * slots    slotCount x int open-addressing table of record index + 1 (0 = empty), keyed by IFSC hash
+ * strings  deduplicated [unsigned short length][UTF-8 bytes]
+ * </pre>
+ */
+public final class IfscIndex {
+
+    static final int MAGIC = 0x49465343;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 32;
+    static final int IFSC_LENGTH = 11;
+    static final int BANK_CODE_LENGTH = 4;
+    static final int FIELD_COUNT = 5;
+
+    private final ByteBuffer buffer;
+    private final int count;
+    private final int slotMask;
+    private final int slotsOffset;
+    private final int stringsOffset;
+
+    private IfscIndex(ByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("Not an IFSC index (version " + VERSION + ")");
+        }
+        this.buffer = buffer;
+        this.count = buffer.getInt(8);
+        this.slotMask = buffer.getInt(12) - 1;
+        this.slotsOffset = (int) buffer.getLong(16);
+        this.stringsOffset = (int) buffer.getLong(24);
+    }
+
+    public static IfscIndex open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed, and after the file is replaced on reload
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new IfscIndex(mapped);
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /** Exact lookup, one hash probe sequence in the mapped slot table. */
+    public Optional<IfscBranch> find(String ifsc) {
+        byte[] key = key(ifsc, IFSC_LENGTH);
+        if (key == null) {
+            return Optional.empty();
+        }
+        int slot = hash(key) & slotMask;
+        while (true) {
+            int entry = buffer.getInt(slotsOffset + slot * Integer.BYTES);
+            if (entry == 0) {
+                return Optional.empty();
+            }
+            int record = entry - 1;
+            if (compareIfsc(record, key, IFSC_LENGTH) == 0) {
+                return Optional.of(branchAt(record));
+            }
+            slot = (slot + 1) & slotMask;
+        }
+    }
+
+    /** Branches of one bank (first four IFSC characters), in IFSC order. */
+    public List<IfscBranch> findByBankCode(String bankCode, int limit) {
+        byte[] key = key(bankCode, BANK_CODE_LENGTH);
+        List<IfscBranch> branches = new ArrayList<>();
+        if (key == null) {
+            return branches;
+        }
+        // Records are sorted, so one bank's branches are contiguous: binary search for the first one
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareIfsc(mid, key, BANK_CODE_LENGTH) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int record = low; record < count && branches.size() < limit
+                && compareIfsc(record, key, BANK_CODE_LENGTH) == 0; record++) {
+            branches.add(branchAt(record));
+        }
+        return branches;
+    }
+
+    private IfscBranch branchAt(int record) {
+        int base = HEADER_SIZE + record * RECORD_SIZE;
+        byte[] ifsc = new byte[IFSC_LENGTH];
+        buffer.get(base, ifsc);
+        int fields = base + IFSC_LENGTH + 1;
+        return new IfscBranch(
+                new String(ifsc, StandardCharsets.US_ASCII),
+                string(buffer.getInt(fields)),
+                string(buffer.getInt(fields + 4)),
+                string(buffer.getInt(fields + 8)),
+                string(buffer.getInt(fields + 12)),
+                string(buffer.getInt(fields + 16)));
+    }
+
+    private String string(int offset) {
+        int position = stringsOffset + offset;
+        int length = Short.toUnsignedInt(buffer.getShort(position));
+        byte[] bytes = new byte[length];
+        buffer.get(position + Short.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int compareIfsc(int record, byte[] key, int length) {
+        int base = HEADER_SIZE + record * RECORD_SIZE;
+        for (int i = 0; i < length; i++) {
+            int diff = buffer.get(base + i) - key[i];
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return 0;
+    }
+
+    // Upper-cased ASCII bytes, or null when the code cannot be in the index
+    static byte[] key(String code, int length) {
+        if (code == null) {
+            return null;
+        }
+        String normalized = code.trim().toUpperCase(Locale.ROOT);
+        if (normalized.length() != length) {
+            return null;
+        }
+        byte[] key = new byte[length];
+        for (int i = 0; i < length; i++) {
+            char c = normalized.charAt(i);
+            if (!(c >= 'A' && c <= 'Z') && !(c >= '0' && c <= '9')) {
+                return null;
+            }
+            key[i] = (byte) c;
+        }
+        return key;
+    }
+
+    // FNV-1a
+    static int hash(byte[] key) {
+        int hash = 0x811C9DC5;
+        for (byte b : key) {
+            hash ^= b;
+            hash *= 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
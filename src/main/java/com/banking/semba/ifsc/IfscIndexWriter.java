@@ -0,0 +1,175 @@
+package com.banking.semba.ifsc;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiles an RBI-style IFSC CSV into the binary layout read by {@link IfscIndex}. Columns are matched by header
+ * name, so extra columns and column order do not matter; rows without a well-formed IFSC are skipped.
+ */
+final class IfscIndexWriter {
+
+    private static final String[][] COLUMNS = {
+            {"BANK"}, {"BRANCH"}, {"CITY", "CITY1", "CENTRE"}, {"STATE"}, {"ADDRESS"}
+    };
+
+    private IfscIndexWriter() {
+    }
+
+    /** Returns the number of branches written. */
+    static int compile(Path csv, Path index) throws IOException {
+        List<String[]> rows = readRows(csv);
+        rows.sort(Comparator.comparing(row -> row[0]));
+
+        Map<String, Integer> stringOffsets = new HashMap<>();
+        ByteArrayOutputStream strings = new ByteArrayOutputStream();
+        ByteBuffer records = ByteBuffer.allocate(rows.size() * IfscIndex.RECORD_SIZE);
+        for (String[] row : rows) {
+            records.put(row[0].getBytes(StandardCharsets.US_ASCII)).put((byte) 0);
+            for (int field = 1; field <= IfscIndex.FIELD_COUNT; field++) {
+                records.putInt(intern(row[field], stringOffsets, strings));
+            }
+        }
+
+        // Load factor at most 0.5 keeps probe sequences short
+        int slotCount = Integer.highestOneBit(Math.max(2, rows.size() * 2 - 1)) << 1;
+        ByteBuffer slots = ByteBuffer.allocate(slotCount * Integer.BYTES);
+        for (int record = 0; record < rows.size(); record++) {
+            int slot = IfscIndex.hash(rows.get(record)[0].getBytes(StandardCharsets.US_ASCII)) & (slotCount - 1);
+            while (slots.getInt(slot * Integer.BYTES) != 0) {
+                slot = (slot + 1) & (slotCount - 1);
+            }
+            slots.putInt(slot * Integer.BYTES, record + 1);
+        }
+
+        long slotsOffset = IfscIndex.HEADER_SIZE + (long) records.capacity();
+        long stringsOffset = slotsOffset + slots.capacity();
+        if (stringsOffset + strings.size() > Integer.MAX_VALUE) {
+            throw new IOException("IFSC index would exceed 2 GB");
+        }
+        ByteBuffer header = ByteBuffer.allocate(IfscIndex.HEADER_SIZE)
+                .putInt(IfscIndex.MAGIC)
+                .putInt(IfscIndex.VERSION)
+                .putInt(rows.size())
+                .putInt(slotCount)
+                .putLong(slotsOffset)
+                .putLong(stringsOffset);
+
+        try (OutputStream out = Files.newOutputStream(index)) {
+            out.write(header.array());
+            out.write(records.array());
+            out.write(slots.array());
+            strings.writeTo(out);
+        }
+        return rows.size();
+    }
+
+    // Each row: IFSC followed by the FIELD_COUNT string columns; first occurrence of an IFSC wins
+    private static List<String[]> readRows(Path csv) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                return rows;
+            }
+            List<String> header = parseLine(headerLine.replace("\uFEFF", ""));
+            int ifscColumn = column(header, "IFSC");
+            if (ifscColumn < 0) {
+                throw new IOException("IFSC column missing in " + csv);
+            }
+            int[] columns = Arrays.stream(COLUMNS).mapToInt(names -> column(header, names)).toArray();
+
+            Set<String> seen = new HashSet<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                List<String> values = parseLine(line);
+                byte[] key = IfscIndex.key(value(values, ifscColumn), IfscIndex.IFSC_LENGTH);
+                if (key == null) {
+                    continue;
+                }
+                String ifsc = new String(key, StandardCharsets.US_ASCII);
+                if (!seen.add(ifsc)) {
+                    continue;
+                }
+                String[] row = new String[IfscIndex.FIELD_COUNT + 1];
+                row[0] = ifsc;
+                for (int field = 0; field < columns.length; field++) {
+                    row[field + 1] = value(values, columns[field]);
+                }
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private static int intern(String value, Map<String, Integer> offsets, ByteArrayOutputStream strings) {
+        return offsets.computeIfAbsent(value, v -> {
+            int offset = strings.size();
+            byte[] bytes = v.getBytes(StandardCharsets.UTF_8);
+            int length = Math.min(bytes.length, 0xFFFF);
+            strings.write(length >>> 8);
+            strings.write(length);
+            strings.write(bytes, 0, length);
+            return offset;
+        });
+    }
+
+    private static int column(List<String> header, String... names) {
+        for (String name : names) {
+            for (int i = 0; i < header.size(); i++) {
+                if (header.get(i).trim().toUpperCase(Locale.ROOT).equals(name)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static String value(List<String> values, int column) {
+        return column >= 0 && column < values.size() ? values.get(column).trim() : "";
+    }
+
+    // RFC 4180 fields on one line: commas inside quotes, "" as an escaped quote
+    private static List<String> parseLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
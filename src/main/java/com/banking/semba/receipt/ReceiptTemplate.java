@@ -0,0 +1,222 @@
+package com.banking.semba.receipt;
+
+import com.banking.semba.dto.TransactionDownloadDTO;
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.ExceptionConverter;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.pdf.BaseFont;
+import com.itextpdf.text.pdf.PdfContentByte;
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.PdfWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+/**
+ * Pre-compiled transaction receipt. Everything that does not change per transaction (title, labels, rules,
+ * footer and the rupee sign, the only glyph that needs an embedded Unicode font) is rendered once at startup into
+ * a one-page template PDF. A receipt imports that page, whose embedded font stream is copied as already
+ * compressed bytes, and writes just its variable values at pre-computed positions in the standard Helvetica font,
+ * so nothing is laid out, subset or compressed again per download.
+ */
+@Slf4j
+@Component
+public class ReceiptTemplate {
+
+    private static final DateTimeFormatter GENERATED_ON = DateTimeFormatter.ofPattern("dd MMM yyyy, hh:mm a");
+
+    private static final String TITLE = "Transaction Receipt";
+    private static final String GENERATED_ON_LABEL = "Generated on: ";
+    private static final String FOOTER = "Thank you for using SEMBA Banking Services.";
+    private static final String AMOUNT = "Amount";
+
+    private static final float MARGIN = 48f;
+    private static final float TITLE_SIZE = 18f;
+    private static final float TEXT_SIZE = 11f;
+    private static final float SMALL_SIZE = 9f;
+    private static final float LINE_HEIGHT = 22f;
+    private static final float LABEL_GAP = 16f;
+
+    private record Field(String label, Function<TransactionDownloadDTO, Object> value) {
+    }
+
+    private static final List<Field> FIELDS = List.of(
+            new Field("Transaction ID", TransactionDownloadDTO::getTransactionId),
+            new Field("Payment Type", TransactionDownloadDTO::getPaymentType),
+            new Field("Receiver Name", TransactionDownloadDTO::getReceiverName),
+            new Field("To Account", TransactionDownloadDTO::getToAccount),
+            new Field("From Account", TransactionDownloadDTO::getFromAccount),
+            new Field("Bank Name", TransactionDownloadDTO::getBankName),
+            new Field(AMOUNT, TransactionDownloadDTO::getAmount),
+            new Field("Date", TransactionDownloadDTO::getDate),
+            new Field("Status", TransactionDownloadDTO::getStatus));
+
+    // ---------------- FONTS ----------------
+    private final BaseFont regular = standardFont(BaseFont.HELVETICA);
+    private final BaseFont bold = standardFont(BaseFont.HELVETICA_BOLD);
+    private final BaseFont rupeeFont;
+
+    // ---------------- PRE-COMPUTED LAYOUT ----------------
+    private final float top = PageSize.A4.getTop() - MARGIN;
+    private final float right = PageSize.A4.getRight() - MARGIN;
+    private final float generatedOnX;
+    private final float valueX;
+    private final float[] fieldX;
+    private final float[] fieldY;
+    private final float footerY;
+
+    private final byte[] compiled;
+    // Parsed templates; a reader is not thread-safe, so each one serves a single receipt at a time
+    private final Queue<PdfReader> readers = new ConcurrentLinkedQueue<>();
+
+    public ReceiptTemplate(ReceiptTemplateProperties properties) {
+        this.rupeeFont = loadFont(properties.getFontPath());
+        if (rupeeFont == null) {
+            log.warn("Receipt font unavailable, amounts are prefixed with Rs. | font={}", properties.getFontPath());
+        }
+
+        float labelWidth = 0;
+        for (Field field : FIELDS) {
+            labelWidth = Math.max(labelWidth, bold.getWidthPoint(field.label(), TEXT_SIZE));
+        }
+        this.generatedOnX = MARGIN + regular.getWidthPoint(GENERATED_ON_LABEL, SMALL_SIZE);
+        this.valueX = MARGIN + labelWidth + LABEL_GAP;
+        this.fieldX = new float[FIELDS.size()];
+        this.fieldY = new float[FIELDS.size()];
+        float y = top - TITLE_SIZE - 3 * LINE_HEIGHT;
+        for (int i = 0; i < FIELDS.size(); i++) {
+            fieldX[i] = AMOUNT.equals(FIELDS.get(i).label()) ? valueX + rupeeWidth() : valueX;
+            fieldY[i] = y;
+            y -= LINE_HEIGHT;
+        }
+        this.footerY = y - LINE_HEIGHT;
+        this.compiled = compile();
+    }
+
+    /**
+     * Writes one receipt to {@code out}, leaving the stream open for its owner.
+     */
+    public void write(TransactionDownloadDTO dto, OutputStream out) throws IOException {
+        Document document = new Document(PageSize.A4);
+        PdfReader template = readers.poll();
+        try {
+            if (template == null) {
+                template = new PdfReader(compiled);
+            }
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            writer.setCloseStream(false);
+            document.open();
+            PdfContentByte canvas = writer.getDirectContent();
+            canvas.addTemplate(writer.getImportedPage(template, 1), 0, 0);
+
+            canvas.beginText();
+            text(canvas, regular, SMALL_SIZE, generatedOnX, top - TITLE_SIZE - LINE_HEIGHT,
+                    LocalDateTime.now().format(GENERATED_ON));
+            for (int i = 0; i < fieldY.length; i++) {
+                text(canvas, regular, TEXT_SIZE, fieldX[i], fieldY[i], String.valueOf(FIELDS.get(i).value().apply(dto)));
+            }
+            canvas.endText();
+
+            document.close();
+            // Only a reader whose receipt completed goes back to the pool
+            readers.offer(template);
+        } catch (DocumentException e) {
+            throw new IOException("Error generating PDF: " + e.getMessage(), e);
+        } catch (ExceptionConverter e) {
+            // iText wraps write failures, e.g. the client going away mid-download; surface them as I/O errors
+            if (e.getException() instanceof IOException io) {
+                throw io;
+            }
+            throw e;
+        }
+    }
+
+    // ---------------- TEMPLATE ----------------
+
+    private byte[] compile() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Document document = new Document(PageSize.A4);
+        try {
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            document.open();
+            PdfContentByte canvas = writer.getDirectContent();
+
+            canvas.beginText();
+            text(canvas, bold, TITLE_SIZE, MARGIN, top - TITLE_SIZE, TITLE);
+            text(canvas, regular, SMALL_SIZE, MARGIN, top - TITLE_SIZE - LINE_HEIGHT, GENERATED_ON_LABEL);
+            for (int i = 0; i < FIELDS.size(); i++) {
+                text(canvas, bold, TEXT_SIZE, MARGIN, fieldY[i], FIELDS.get(i).label());
+                if (AMOUNT.equals(FIELDS.get(i).label())) {
+                    text(canvas, rupeeFont != null ? rupeeFont : regular, TEXT_SIZE, valueX, fieldY[i], rupee());
+                }
+            }
+            text(canvas, regular, TEXT_SIZE, MARGIN, footerY, FOOTER);
+            canvas.endText();
+
+            // Rules under the header and above the footer
+            canvas.setLineWidth(0.5f);
+            rule(canvas, top - TITLE_SIZE - 1.6f * LINE_HEIGHT);
+            rule(canvas, footerY + LINE_HEIGHT);
+            canvas.stroke();
+
+            document.close();
+        } catch (DocumentException e) {
+            throw new IllegalStateException("Unable to compile receipt template", e);
+        }
+        return out.toByteArray();
+    }
+
+    private String rupee() {
+        return rupeeFont != null ? "₹" : "Rs. ";
+    }
+
+    private float rupeeWidth() {
+        return (rupeeFont != null ? rupeeFont : regular).getWidthPoint(rupee(), TEXT_SIZE);
+    }
+
+    private static void text(PdfContentByte canvas, BaseFont font, float size, float x, float y, String value) {
+        canvas.setFontAndSize(font, size);
+        canvas.setTextMatrix(x, y);
+        canvas.showText(value);
+    }
+
+    private void rule(PdfContentByte canvas, float y) {
+        canvas.moveTo(MARGIN, y);
+        canvas.lineTo(right, y);
+    }
+
+    // Only glyphs actually used are embedded, i.e. the rupee sign
+    private static BaseFont loadFont(Path path) {
+        if (path == null || !Files.isReadable(path)) {
+            return null;
+        }
+        try {
+            BaseFont font = BaseFont.createFont(path.toString(), BaseFont.IDENTITY_H, BaseFont.EMBEDDED,
+                    false, Files.readAllBytes(path), null);
+            return font.charExists('₹') ? font : null;
+        } catch (IOException | DocumentException e) {
+            log.warn("Unable to load receipt font | path={} | error={}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    private static BaseFont standardFont(String name) {
+        try {
+            return BaseFont.createFont(name, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+        } catch (IOException | DocumentException e) {
+            throw new IllegalStateException("Standard PDF font unavailable: " + name, e);
+        }
+    }
+}
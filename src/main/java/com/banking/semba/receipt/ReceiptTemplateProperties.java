@@ -0,0 +1,17 @@
+package com.banking.semba.receipt;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * Receipt PDF template (semba.receipt.* in application.properties), see {@link ReceiptTemplate}.
+ */
+@Data
+@ConfigurationProperties(prefix = "semba.receipt")
+public class ReceiptTemplateProperties {
+
+    // Unicode TrueType font with the rupee sign (U+20B9); if unreadable, amounts are prefixed with "Rs." instead
+    private Path fontPath = Path.of("/usr/share/fonts/truetype/dejavu/DejaVuSans.ttf");
+}
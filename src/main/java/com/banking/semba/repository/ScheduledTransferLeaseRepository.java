@@ -0,0 +1,45 @@
+package com.banking.semba.repository;
+
+import com.banking.semba.entity.ScheduledTransferLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface ScheduledTransferLeaseRepository extends JpaRepository<ScheduledTransferLease, Integer> {
+
+    /**
+     * Takes (or extends) the lease if it is free, expired or already ours; 0 means another node holds it.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update ScheduledTransferLease l set l.owner = :owner, l.leaseUntil = :until
+            where l.partitionId = :partition
+              and (l.owner = :owner or l.owner is null or l.leaseUntil is null or l.leaseUntil < :now)
+            """)
+    int acquire(@Param("partition") int partition, @Param("owner") String owner,
+                @Param("until") LocalDateTime until, @Param("now") LocalDateTime now);
+
+    /**
+     * Extends every unexpired lease held by {@code owner}; an expired one may already have been taken over.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update ScheduledTransferLease l set l.leaseUntil = :until
+            where l.owner = :owner and l.leaseUntil >= :now
+            """)
+    int renew(@Param("owner") String owner, @Param("until") LocalDateTime until, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update ScheduledTransferLease l set l.owner = null, l.leaseUntil = null
+            where l.partitionId = :partition and l.owner = :owner
+            """)
+    int release(@Param("partition") int partition, @Param("owner") String owner);
+}
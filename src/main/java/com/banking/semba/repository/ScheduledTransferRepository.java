@@ -0,0 +1,86 @@
+package com.banking.semba.repository;
+
+import com.banking.semba.entity.ScheduledTransfer;
+import com.banking.semba.enums.ScheduledTransferStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ScheduledTransferRepository extends JpaRepository<ScheduledTransfer, String> {
+
+    /**
+     * One page of SCHEDULED transfers in the given partitions due by {@code dueBy}, in (dueAt, transactionId)
+     * order after the given key.
+     * Served by the (status, partition_id, due_at) index, one due_at range per owned partition rather than every
+     * partition's rows; keyset rather than offset paging, so rows claimed while paging never shift later rows off
+     * the page.
+     */
+    @Query("""
+            select t from ScheduledTransfer t
+            where t.status = com.banking.semba.enums.ScheduledTransferStatus.SCHEDULED
+              and t.dueAt <= :dueBy
+              and t.partitionId in :partitions
+              and (t.dueAt > :afterDueAt or (t.dueAt = :afterDueAt and t.transactionId > :afterId))
+            order by t.dueAt, t.transactionId
+            """)
+    List<ScheduledTransfer> findDueAfter(@Param("partitions") Collection<Integer> partitions,
+                                         @Param("dueBy") LocalDateTime dueBy,
+                                         @Param("afterDueAt") LocalDateTime afterDueAt,
+                                         @Param("afterId") String afterId,
+                                         Pageable page);
+
+    List<ScheduledTransfer> findByPartitionIdInAndStatusAndUpdatedAtBefore(Collection<Integer> partitions,
+                                                                           ScheduledTransferStatus status,
+                                                                           LocalDateTime cutoff, Pageable page);
+
+    /**
+     * Compare-and-set status change; 0 means another tick or node got there first.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update ScheduledTransfer t set t.status = :to, t.updatedAt = :now
+            where t.transactionId = :id and t.status = :from
+            """)
+    int transition(@Param("id") String transactionId,
+                   @Param("from") ScheduledTransferStatus from,
+                   @Param("to") ScheduledTransferStatus to,
+                   @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update ScheduledTransfer t set t.status = com.banking.semba.enums.ScheduledTransferStatus.EXECUTED,
+                t.executedAt = :now, t.updatedAt = :now, t.lastError = null
+            where t.transactionId = :id and t.status = com.banking.semba.enums.ScheduledTransferStatus.EXECUTING
+            """)
+    int markExecuted(@Param("id") String transactionId, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update ScheduledTransfer t set t.status = com.banking.semba.enums.ScheduledTransferStatus.SCHEDULED,
+                t.attempts = t.attempts + 1, t.dueAt = :retryAt, t.lastError = :error, t.updatedAt = :now
+            where t.transactionId = :id and t.status = com.banking.semba.enums.ScheduledTransferStatus.EXECUTING
+            """)
+    int rescheduleRetry(@Param("id") String transactionId, @Param("retryAt") LocalDateTime retryAt,
+                        @Param("error") String error, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update ScheduledTransfer t set t.status = com.banking.semba.enums.ScheduledTransferStatus.DEAD_LETTERED,
+                t.attempts = t.attempts + :failedAttempts, t.lastError = :error, t.updatedAt = :now
+            where t.transactionId = :id and t.status = :from
+            """)
+    int deadLetter(@Param("id") String transactionId, @Param("from") ScheduledTransferStatus from,
+                   @Param("failedAttempts") int failedAttempts, @Param("error") String error,
+                   @Param("now") LocalDateTime now);
+}
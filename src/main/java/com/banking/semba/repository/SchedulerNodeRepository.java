@@ -0,0 +1,20 @@
+package com.banking.semba.repository;
+
+import com.banking.semba.entity.SchedulerNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface SchedulerNodeRepository extends JpaRepository<SchedulerNode, String> {
+
+    long countByLastSeenGreaterThanEqual(LocalDateTime cutoff);
+
+    @Transactional
+    @Modifying
+    @Query("delete from SchedulerNode n where n.lastSeen < :cutoff")
+    int deleteSeenBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,101 @@
+package com.banking.semba.repository;
+
+import com.banking.semba.entity.StandingInstruction;
+import com.banking.semba.enums.StandingInstructionStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StandingInstructionRepository extends JpaRepository<StandingInstruction, String> {
+
+    List<StandingInstruction> findByMobileOrderByCreatedAtDesc(String mobile);
+
+    Optional<StandingInstruction> findByIdAndMobile(String id, String mobile);
+
+    long countByMobileAndStatusIn(String mobile, Collection<StandingInstructionStatus> statuses);
+
+    /**
+     * Rules in the given partitions and status that are due for a check (ACTIVE: the pending occurrence;
+     * PENDING_VERIFICATION: the OTP deadline); served by the (status, check_at) index.
+     */
+    List<StandingInstruction> findByPartitionIdInAndStatusAndCheckAtLessThanEqualOrderByCheckAt(
+            Collection<Integer> partitions, StandingInstructionStatus status, LocalDateTime now, Pageable page);
+
+    /**
+     * Makes an OTP-verified rule ACTIVE with its first occurrence pending.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update StandingInstruction r set r.status = com.banking.semba.enums.StandingInstructionStatus.ACTIVE,
+                r.sequence = :sequence, r.occurrences = 1, r.pendingTransactionId = :firstId,
+                r.nextRunAt = :nextRunAt, r.checkAt = :checkAt, r.updatedAt = :now
+            where r.id = :id and r.status = com.banking.semba.enums.StandingInstructionStatus.PENDING_VERIFICATION
+            """)
+    int activate(@Param("id") String id, @Param("sequence") long sequence, @Param("firstId") String firstId,
+                 @Param("nextRunAt") LocalDateTime nextRunAt, @Param("checkAt") LocalDateTime checkAt,
+                 @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update StandingInstruction r set r.status = com.banking.semba.enums.StandingInstructionStatus.CANCELLED,
+                r.checkAt = null, r.updatedAt = :now
+            where r.id = :id and r.status = com.banking.semba.enums.StandingInstructionStatus.PENDING_VERIFICATION
+            """)
+    int expireUnverified(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    /**
+     * Moves an ACTIVE rule from the occurrence that just finished to the next one. Compare-and-set on the pending
+     * occurrence, so when two nodes see the same completion only one creates the next occurrence.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update StandingInstruction r set r.sequence = :sequence, r.occurrences = r.occurrences + 1,
+                r.pendingTransactionId = :nextId, r.nextRunAt = :nextRunAt, r.checkAt = :checkAt, r.updatedAt = :now
+            where r.id = :id and r.pendingTransactionId = :currentId
+              and r.status = com.banking.semba.enums.StandingInstructionStatus.ACTIVE
+            """)
+    int advance(@Param("id") String id, @Param("currentId") String currentId, @Param("sequence") long sequence,
+                @Param("nextId") String nextId, @Param("nextRunAt") LocalDateTime nextRunAt,
+                @Param("checkAt") LocalDateTime checkAt, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update StandingInstruction r set r.status = com.banking.semba.enums.StandingInstructionStatus.COMPLETED,
+                r.pendingTransactionId = null, r.nextRunAt = null, r.checkAt = null, r.updatedAt = :now
+            where r.id = :id and r.pendingTransactionId = :currentId
+              and r.status = com.banking.semba.enums.StandingInstructionStatus.ACTIVE
+            """)
+    int complete(@Param("id") String id, @Param("currentId") String currentId, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update StandingInstruction r set r.status = com.banking.semba.enums.StandingInstructionStatus.CANCELLED,
+                r.nextRunAt = null, r.checkAt = null, r.updatedAt = :now
+            where r.id = :id and r.mobile = :mobile
+              and r.status in (com.banking.semba.enums.StandingInstructionStatus.PENDING_VERIFICATION,
+                               com.banking.semba.enums.StandingInstructionStatus.ACTIVE)
+            """)
+    int cancel(@Param("id") String id, @Param("mobile") String mobile, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update StandingInstruction r set r.checkAt = :checkAt
+            where r.id = :id and r.pendingTransactionId = :currentId
+            """)
+    int deferCheck(@Param("id") String id, @Param("currentId") String currentId,
+                   @Param("checkAt") LocalDateTime checkAt);
+}
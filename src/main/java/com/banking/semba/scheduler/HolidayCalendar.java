@@ -0,0 +1,76 @@
+package com.banking.semba.scheduler;
+
+import com.banking.semba.enums.HolidayRoll;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+
+/**
+ * Business days for standing instructions: every day except the configured weekend days and bank holidays.
+ */
+@Component
+public final class HolidayCalendar {
+
+    private final Set<DayOfWeek> weekend;
+    private final Set<LocalDate> holidays;
+    // Longest run of consecutive closed days, so no roll moves a date further than this
+    private final int longestClosure;
+
+    public HolidayCalendar(StandingInstructionProperties properties) {
+        if (properties.getWeekend().size() >= DayOfWeek.values().length) {
+            throw new IllegalArgumentException("semba.standing-instructions.weekend must leave at least one business day");
+        }
+        this.weekend = Set.copyOf(properties.getWeekend());
+        this.holidays = Set.copyOf(properties.getHolidays());
+        this.longestClosure = longestClosure();
+    }
+
+    public boolean isBusinessDay(LocalDate date) {
+        return !weekend.contains(date.getDayOfWeek()) && !holidays.contains(date);
+    }
+
+    public LocalDate roll(LocalDate date, HolidayRoll roll) {
+        return switch (roll) {
+            case NONE -> date;
+            case FOLLOWING -> step(date, 1);
+            case PRECEDING -> step(date, -1);
+            case MODIFIED_FOLLOWING -> {
+                LocalDate following = step(date, 1);
+                yield following.getMonth() == date.getMonth() ? following : step(date, -1);
+            }
+        };
+    }
+
+    /**
+     * Upper bound on how many days {@link #roll} moves a date.
+     */
+    public int maxShiftDays() {
+        return longestClosure;
+    }
+
+    private LocalDate step(LocalDate date, int days) {
+        while (!isBusinessDay(date)) {
+            date = date.plusDays(days);
+        }
+        return date;
+    }
+
+    private int longestClosure() {
+        int longest = weekend.size();
+        for (LocalDate holiday : holidays) {
+            LocalDate first = holiday;
+            while (!isBusinessDay(first.minusDays(1))) {
+                first = first.minusDays(1);
+            }
+            LocalDate last = holiday;
+            while (!isBusinessDay(last.plusDays(1))) {
+                last = last.plusDays(1);
+            }
+            longest = (int) Math.max(longest, ChronoUnit.DAYS.between(first, last) + 1);
+        }
+        return longest;
+    }
+}
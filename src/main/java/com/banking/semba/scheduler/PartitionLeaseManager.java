@@ -0,0 +1,188 @@
+package com.banking.semba.scheduler;
+
+import com.banking.semba.entity.ScheduledTransferLease;
+import com.banking.semba.entity.SchedulerNode;
+import com.banking.semba.repository.ScheduledTransferLeaseRepository;
+import com.banking.semba.repository.SchedulerNodeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Splits scheduled transfers between the nodes of a cluster. Transfer ids hash into a fixed number of partitions,
+ * each guarded by a lease row. On every heartbeat a node renews its leases, gives up any above its fair share
+ * (partitions divided by live nodes, rounded up) and takes free or expired ones up to it, so a new node is handed
+ * work within a couple of heartbeats and a dead node's partitions move once its leases run out.
+ * <p>
+ * Leases decide which node loads and fires a partition. Exactly-once execution still rests on the
+ * SCHEDULED -> EXECUTING claim, so a node that lost a lease during a long pause cannot run a transfer twice.
+ */
+@Slf4j
+@Component
+public class PartitionLeaseManager {
+
+    private final ScheduledTransferProperties properties;
+    private final ScheduledTransferLeaseRepository leaseRepository;
+    private final SchedulerNodeRepository nodeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId;
+
+    // Partitions held by this node, trusted until ownedUntil (the last successful renewal plus the lease
+    // duration, on the local clock) so a node cut off from the store stops firing when its leases lapse
+    private volatile Set<Integer> owned = Set.of();
+    private volatile long ownedUntil;
+
+    public PartitionLeaseManager(ScheduledTransferProperties properties,
+                                 ScheduledTransferLeaseRepository leaseRepository,
+                                 SchedulerNodeRepository nodeRepository,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.properties = properties;
+        this.leaseRepository = leaseRepository;
+        this.nodeRepository = nodeRepository;
+        this.eventPublisher = eventPublisher;
+        this.nodeId = properties.getNodeId() == null || properties.getNodeId().isBlank()
+                ? hostName() + "-" + UUID.randomUUID().toString().substring(0, 8)
+                : properties.getNodeId();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Fixed for the lifetime of the table: changing the partition count moves existing rows to other partitions.
+     */
+    public int partitionOf(String transactionId) {
+        return Math.floorMod(transactionId.hashCode(), properties.getPartitions());
+    }
+
+    public Set<Integer> ownedPartitions() {
+        return System.currentTimeMillis() < ownedUntil ? owned : Set.of();
+    }
+
+    public boolean owns(int partition) {
+        return ownedPartitions().contains(partition);
+    }
+
+    // ---------------- HEARTBEAT ----------------
+    @Scheduled(fixedRateString = "${semba.scheduled-transfers.lease-renew-interval:5000}")
+    public void heartbeat() {
+        long started = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(properties.getLeaseDuration());
+        try {
+            nodeRepository.save(new SchedulerNode(nodeId, now));
+            leaseRepository.renew(nodeId, until, now);
+            long liveNodes = Math.max(1, nodeRepository.countByLastSeenGreaterThanEqual(now.minus(properties.getLeaseDuration())));
+            int fairShare = (int) ((properties.getPartitions() + liveNodes - 1) / liveNodes);
+
+            Set<Integer> mine = new TreeSet<>();
+            List<Integer> free = new ArrayList<>();
+            for (ScheduledTransferLease lease : leases()) {
+                boolean live = lease.getLeaseUntil() != null && !lease.getLeaseUntil().isBefore(now);
+                if (nodeId.equals(lease.getOwner()) && live) {
+                    mine.add(lease.getPartitionId());
+                } else if (lease.getOwner() == null || !live) {
+                    free.add(lease.getPartitionId());
+                }
+            }
+
+            // Surplus goes back first, so a node that just joined can take it on its next heartbeat
+            for (Integer partition : new ArrayList<>(mine).reversed()) {
+                if (mine.size() <= fairShare) {
+                    break;
+                }
+                leaseRepository.release(partition, nodeId);
+                mine.remove(partition);
+            }
+            // Shuffled so nodes starting together do not all race for the same partitions
+            Collections.shuffle(free);
+            for (Integer partition : free) {
+                if (mine.size() >= fairShare) {
+                    break;
+                }
+                if (leaseRepository.acquire(partition, nodeId, until, now) == 1) {
+                    mine.add(partition);
+                }
+            }
+
+            nodeRepository.deleteSeenBefore(now.minus(properties.getLeaseDuration().multipliedBy(10)));
+            update(Set.copyOf(mine), started + properties.getLeaseDuration().toMillis());
+        } catch (DataAccessException e) {
+            log.warn("Partition lease heartbeat failed, holding current leases until they lapse | node={} | error={}",
+                    nodeId, e.getMessage());
+        }
+    }
+
+    // All lease rows, creating any missing ones; another node creating the same row first is fine
+    private List<ScheduledTransferLease> leases() {
+        List<ScheduledTransferLease> leases = leaseRepository.findAll();
+        if (leases.size() >= properties.getPartitions()) {
+            return leases.stream().filter(lease -> lease.getPartitionId() < properties.getPartitions()).toList();
+        }
+        Set<Integer> existing = new TreeSet<>();
+        leases.forEach(lease -> existing.add(lease.getPartitionId()));
+        for (int partition = 0; partition < properties.getPartitions(); partition++) {
+            if (!existing.contains(partition)) {
+                try {
+                    leaseRepository.save(new ScheduledTransferLease(partition));
+                } catch (DataIntegrityViolationException e) {
+                    log.debug("Lease row created concurrently | partition={}", partition);
+                }
+            }
+        }
+        return leaseRepository.findAll().stream().filter(lease -> lease.getPartitionId() < properties.getPartitions()).toList();
+    }
+
+    private void update(Set<Integer> current, long validUntil) {
+        Set<Integer> previous = ownedPartitions();
+        owned = current;
+        ownedUntil = validUntil;
+        if (current.equals(previous)) {
+            return;
+        }
+        Set<Integer> acquired = new TreeSet<>(current);
+        acquired.removeAll(previous);
+        Set<Integer> released = new TreeSet<>(previous);
+        released.removeAll(current);
+        log.info("Scheduled transfer partitions reassigned | node={} | owned={} | acquired={} | released={}",
+                nodeId, current.size(), acquired, released);
+        eventPublisher.publishEvent(new PartitionsReassignedEvent(acquired, released));
+    }
+
+    // Hands partitions over at once on a clean shutdown instead of after the lease expires
+    @PreDestroy
+    void releaseAll() {
+        Set<Integer> held = owned;
+        owned = Set.of();
+        try {
+            held.forEach(partition -> leaseRepository.release(partition, nodeId));
+            nodeRepository.deleteById(nodeId);
+            log.info("Scheduled transfer partitions released | node={} | count={}", nodeId, held.size());
+        } catch (DataAccessException e) {
+            log.warn("Partition leases not released, they lapse on expiry | node={} | error={}", nodeId, e.getMessage());
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "node";
+        }
+    }
+}
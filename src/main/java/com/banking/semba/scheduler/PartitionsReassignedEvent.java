@@ -0,0 +1,10 @@
+package com.banking.semba.scheduler;
+
+import java.util.Set;
+
+/**
+ * Published when this node takes or gives up scheduled-transfer partitions, so upcoming transfers of the new
+ * ones are armed straight away and those of the lost ones are dropped.
+ */
+public record PartitionsReassignedEvent(Set<Integer> acquired, Set<Integer> released) {
+}
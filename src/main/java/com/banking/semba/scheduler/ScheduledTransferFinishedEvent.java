@@ -0,0 +1,11 @@
+package com.banking.semba.scheduler;
+
+import com.banking.semba.entity.ScheduledTransfer;
+import com.banking.semba.enums.ScheduledTransferStatus;
+
+/**
+ * Published once a scheduled transfer reaches a final status (EXECUTED or DEAD_LETTERED), so the standing
+ * instruction it belongs to, if any, can move on to its next occurrence.
+ */
+public record ScheduledTransferFinishedEvent(ScheduledTransfer transfer, ScheduledTransferStatus status) {
+}
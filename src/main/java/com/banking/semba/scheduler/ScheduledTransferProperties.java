@@ -0,0 +1,59 @@
+package com.banking.semba.scheduler;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Scheduled transfer polling (semba.scheduled-transfers.* in application.properties), see FundSchedulerService.
+ */
+@Data
+@ConfigurationProperties(prefix = "semba.scheduled-transfers")
+public class ScheduledTransferProperties {
+
+    // Rows fetched per query when loading the look-ahead window
+    private int pageSize = 200;
+
+    // Each poll arms the transfers due within this window on the timing wheel; longer than the poll interval, so
+    // nothing becomes due between polls without being armed
+    private Duration lookAhead = Duration.ofSeconds(60);
+
+    // Wheel resolution in ms, also how often it is advanced: a transfer fires at most about two ticks late
+    private long tick = 250;
+
+    // Buckets per wheel level (a power of two); 256 x 250ms covers the look-ahead window in the first level
+    private int wheelSize = 256;
+
+    // Cap on armed transfers; beyond it the nearest ones are armed and the rest wait for a later poll
+    private int maxArmed = 100_000;
+
+    // Due transfers queued per receiving bank and transfer type before its lane refuses more; refused ones stay
+    // in the store for the next poll
+    private int laneQueueCapacity = 5000;
+
+    // Concurrent bank calls per transfer type across all receiving banks, kept under the bank-payments bulkhead so
+    // interactive payments still get through; each bank's rate is its own copy of the resilience4j rate limiter
+    // scheduled-imps, scheduled-neft or scheduled-rtgs
+    private Map<String, Integer> maxConcurrent = new HashMap<>(Map.of("IMPS", 10, "NEFT", 5, "RTGS", 5));
+    private int defaultMaxConcurrent = 2;
+
+    // Share of those calls one receiving bank may hold, so its backlog leaves slots for the others
+    private int maxConcurrentPerBank = 4;
+
+    // Transfer ids hash into this many partitions, each leased to one node; must match across the cluster and
+    // stay fixed once transfers are stored
+    private int partitions = 64;
+
+    // This node's name in the lease table; blank = host name plus a random suffix
+    private String nodeId;
+
+    // Leases are renewed every lease-renew-interval; a node that misses renewals for this long loses its partitions
+    private Duration leaseDuration = Duration.ofSeconds(15);
+
+    // A transfer still EXECUTING after this (e.g. the node died mid-call) has an unknown outcome and is
+    // dead-lettered for manual follow-up rather than executed again
+    private Duration executionTimeout = Duration.ofMinutes(10);
+}
@@ -0,0 +1,39 @@
+package com.banking.semba.scheduler;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Standing instructions (semba.standing-instructions.* in application.properties), see StandingInstructionService.
+ */
+@Data
+@ConfigurationProperties(prefix = "semba.standing-instructions")
+public class StandingInstructionProperties {
+
+    // ACTIVE or unverified rules a user may hold at once
+    private int maxActivePerUser = 20;
+
+    // Largest "every n days/weeks/months"
+    private int maxInterval = 366;
+
+    // Days no business is done on, plus the dated bank holidays; used by the holiday roll rules
+    private Set<DayOfWeek> weekend = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+    private Set<LocalDate> holidays = new HashSet<>();
+
+    // A rule whose occurrence is still pending this long after its due time is checked by the sweep, in case the
+    // completion that advances it was missed (e.g. the node died in between)
+    private Duration checkGrace = Duration.ofMinutes(5);
+
+    // A rule whose OTP is not verified within this is cancelled
+    private Duration verificationTimeout = Duration.ofMinutes(15);
+
+    // Rules looked at per sweep
+    private int sweepBatchSize = 200;
+}
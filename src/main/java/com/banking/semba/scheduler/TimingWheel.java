@@ -0,0 +1,206 @@
+package com.banking.semba.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel. Level 0 has {@code wheelSize} buckets of one tick each; every level above covers
+ * {@code wheelSize} buckets of a whole lower wheel, and levels are added as later deadlines arrive. A timeout is
+ * placed in the lowest level whose span reaches its deadline and cascades down a level each time that level's
+ * bucket comes up, so insert and cancel are O(1) and an advance only touches the buckets whose time has come.
+ * <p>
+ * Timeouts fire on the first {@link #advance} at or after the end of their tick, so never early; with advance called
+ * once per tick a timeout fires at most about two ticks after its deadline (the rest of its own tick, then up to one
+ * tick until the next advance). Not thread-safe: callers serialize access.
+ */
+public final class TimingWheel<T> {
+
+    /**
+     * Handle of a pending task, used to cancel it.
+     */
+    public static final class Timeout<T> {
+        private final T task;
+        private final long deadline;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        public T task() {
+            return task;
+        }
+
+        public long deadline() {
+            return deadline;
+        }
+
+        public boolean isPending() {
+            return bucket != null;
+        }
+    }
+
+    // Intrusive doubly linked list, so a cancelled timeout unlinks itself without a search
+    private static final class Bucket<T> {
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        Timeout<T> drain() {
+            Timeout<T> first = head;
+            for (Timeout<T> t = first; t != null; t = t.next) {
+                t.bucket = null;
+            }
+            head = null;
+            tail = null;
+            return first;
+        }
+    }
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final int mask;
+    // levels.get(l) has buckets of tickMillis * wheelSize^l
+    private final List<List<Bucket<T>>> levels = new ArrayList<>();
+    private final List<Long> levelTicks = new ArrayList<>();
+    // Past deadlines, fired on the next advance
+    private final Bucket<T> overdue = new Bucket<>();
+    // Start of the tick that has not fired yet; every earlier deadline has fired
+    private long time;
+    private int size;
+
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize a power of two >= 2");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.mask = wheelSize - 1;
+        this.time = Math.floorDiv(startMillis, tickMillis) * tickMillis;
+        addLevel();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Schedules {@code task} for {@code deadlineMillis}; a deadline already passed fires on the next advance.
+     */
+    public Timeout<T> schedule(T task, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(task, deadlineMillis);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Removes a pending timeout; false if it already fired or was cancelled.
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout.bucket == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Moves the wheel to {@code nowMillis}, handing every task whose tick has ended to {@code expired}.
+     */
+    public void advance(long nowMillis, Consumer<T> expired) {
+        fire(overdue.drain(), expired);
+        while (time + tickMillis <= nowMillis) {
+            fire(levels.get(0).get(index(time, tickMillis)).drain(), expired);
+            time += tickMillis;
+            // Highest level first, so a timeout cascading two levels reaches level 0 in the same step
+            for (int level = levels.size() - 1; level > 0; level--) {
+                long levelTick = levelTicks.get(level);
+                if (time % levelTick == 0) {
+                    for (Timeout<T> t = levels.get(level).get(index(time, levelTick)).drain(), next; t != null; t = next) {
+                        next = t.next;
+                        place(t);
+                    }
+                }
+            }
+        }
+    }
+
+    private void fire(Timeout<T> first, Consumer<T> expired) {
+        for (Timeout<T> t = first, next; t != null; t = next) {
+            next = t.next;
+            t.prev = null;
+            t.next = null;
+            size--;
+            expired.accept(t.task);
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        if (timeout.deadline < time) {
+            overdue.add(timeout);
+            return;
+        }
+        for (int level = 0; ; level++) {
+            long levelTick = levelTicks.get(level);
+            // This level covers wheelSize buckets from the start of its current bucket
+            long levelStart = time - Math.floorMod(time, levelTick);
+            // The top level takes whatever is left once a wider one would overflow a long (millions of years)
+            if (timeout.deadline - levelStart < levelTick * wheelSize || (level == levels.size() - 1 && !addLevel())) {
+                levels.get(level).get(index(timeout.deadline, levelTick)).add(timeout);
+                return;
+            }
+        }
+    }
+
+    private int index(long millis, long levelTick) {
+        return (int) (Math.floorDiv(millis, levelTick) & mask);
+    }
+
+    // False once the next level's span (its tick times wheelSize) would no longer fit in a long
+    private boolean addLevel() {
+        long levelTick = levels.isEmpty() ? tickMillis : levelTicks.get(levels.size() - 1) * wheelSize;
+        if (levelTick > Long.MAX_VALUE / wheelSize / wheelSize) {
+            return false;
+        }
+        List<Bucket<T>> buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new Bucket<>());
+        }
+        levels.add(buckets);
+        levelTicks.add(levelTick);
+        return true;
+    }
+}
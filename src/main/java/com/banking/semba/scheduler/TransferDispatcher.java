@@ -0,0 +1,181 @@
+package com.banking.semba.scheduler;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounded parallel pipeline for due scheduled transfers. Each receiving bank (IFSC bank code) and transfer type
+ * (IMPS, NEFT, RTGS) has its own lane, so a slow RTGS rail cannot hold up IMPS and one bank's backlog cannot hold
+ * up transfers to the others. A lane is a bounded queue drained in two steps:
+ * <ol>
+ *     <li>pacing: each transfer reserves a permit from the lane's own resilience4j rate limiter (configured by
+ *     {@code scheduled-<type>}) and waits for it on a timer, holding no execution slot, so a 09:00 peak goes out
+ *     at the configured rate rather than at the rate slots happen to free up;</li>
+ *     <li>execution: at most {@code maxConcurrentPerBank} at a time per lane, within {@code maxConcurrent} slots
+ *     shared by every lane of the type, which keeps the total under the bank-payments bulkhead.</li>
+ * </ol>
+ * Only a full lane refuses work; the caller then leaves the transfer in the store for a later poll, which is the
+ * backpressure to the fetcher.
+ */
+@Slf4j
+@Component
+public class TransferDispatcher {
+
+    // How often a transfer waiting for one of its type's shared slots checks again
+    private static final Duration SLOT_RETRY = Duration.ofMillis(20);
+
+    private final class Lane {
+        private final String type;
+        private final String bank;
+        private final Queue<Supplier<Mono<Void>>> queue;
+        private final Sinks.Many<Supplier<Mono<Void>>> sink;
+        private final RateLimiter rateLimiter;
+        private final Semaphore typeSlots;
+        private final Timer lag;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Disposable pipeline;
+
+        private Lane(String type, String bank) {
+            this.type = type;
+            this.bank = bank;
+            this.queue = new ArrayBlockingQueue<>(properties.getLaneQueueCapacity());
+            this.sink = Sinks.many().unicast().onBackpressureBuffer(queue);
+            String limiter = "scheduled-" + type.toLowerCase(Locale.ROOT);
+            this.rateLimiter = rateLimiterRegistry.rateLimiter(limiter + "-" + bank.toLowerCase(Locale.ROOT),
+                    rateLimiterRegistry.rateLimiter(limiter).getRateLimiterConfig());
+            this.typeSlots = slots.computeIfAbsent(type, t ->
+                    new Semaphore(properties.getMaxConcurrent().getOrDefault(t, properties.getDefaultMaxConcurrent())));
+            this.lag = Timer.builder("semba.scheduled-transfers.lag")
+                    .description("Delay between a scheduled transfer's due time and its bank call")
+                    .tag("type", type)
+                    .tag("bank", bank)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+            Gauge.builder("semba.scheduled-transfers.queued", queue, Queue::size)
+                    .description("Due scheduled transfers waiting for a rate permit or a concurrency slot")
+                    .tag("type", type)
+                    .tag("bank", bank)
+                    .register(meterRegistry);
+            Gauge.builder("semba.scheduled-transfers.in-flight", inFlight, AtomicInteger::get)
+                    .description("Scheduled transfers past the rate limiter and being executed")
+                    .tag("type", type)
+                    .tag("bank", bank)
+                    .register(meterRegistry);
+            // Pacing only pulls the next transfer once execution has room for it, so permits are not reserved
+            // for work that could not start anyway
+            int concurrency = Math.max(1, properties.getMaxConcurrentPerBank());
+            this.pipeline = sink.asFlux()
+                    .concatMap(this::pace, 1)
+                    .flatMap(this::run, concurrency, 1)
+                    .subscribe();
+        }
+
+        // Emits the work once its reserved permit is due; nothing is claimed before that
+        private Mono<Supplier<Mono<Void>>> pace(Supplier<Mono<Void>> work) {
+            return Mono.defer(() -> {
+                long waitNanos = rateLimiter.reservePermission();
+                if (waitNanos < 0) {
+                    // Permits are booked beyond the limiter's timeout-duration; try again a period later
+                    return Mono.delay(rateLimiter.getRateLimiterConfig().getLimitRefreshPeriod()).then(pace(work));
+                }
+                return waitNanos == 0 ? Mono.just(work) : Mono.delay(Duration.ofNanos(waitNanos)).thenReturn(work);
+            });
+        }
+
+        private Mono<Void> run(Supplier<Mono<Void>> work) {
+            return Mono.usingWhen(typeSlot(), slot -> Mono.defer(work), slot -> Mono.fromRunnable(typeSlots::release))
+                    .onErrorResume(ex -> {
+                        log.error("Scheduled transfer execution failed | type={} | bank={} | error={}", type, bank, ex.getMessage(), ex);
+                        return Mono.empty();
+                    });
+        }
+
+        // Completes once one of the type's shared slots is taken
+        private Mono<Boolean> typeSlot() {
+            return Mono.fromCallable(typeSlots::tryAcquire)
+                    .filter(Boolean::booleanValue)
+                    .repeatWhenEmpty(attempts -> attempts.delayElements(SLOT_RETRY));
+        }
+    }
+
+    private final ScheduledTransferProperties properties;
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final MeterRegistry meterRegistry;
+    // Keyed by "TYPE/BANK"
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    // Concurrency shared by all lanes of a transfer type
+    private final Map<String, Semaphore> slots = new ConcurrentHashMap<>();
+
+    public TransferDispatcher(ScheduledTransferProperties properties, RateLimiterRegistry rateLimiterRegistry,
+                              MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.rateLimiterRegistry = rateLimiterRegistry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Queues {@code work} (claim, bank call, outcome) on the lane of {@code bankCode} and {@code transferType};
+     * {@code dueAt} is only used for the lag metric. False when the lane's queue is full.
+     *
+     * @param bankCode first four IFSC characters of the receiving branch, or null when not known
+     */
+    public boolean submit(String bankCode, String transferType, Instant dueAt, Supplier<Mono<Void>> work) {
+        Lane lane = lane(bankCode, transferType);
+        Supplier<Mono<Void>> timed = () -> {
+            Duration lag = Duration.between(dueAt, Instant.now());
+            lane.lag.record(lag.isNegative() ? Duration.ZERO : lag);
+            lane.inFlight.incrementAndGet();
+            return Mono.defer(work).doFinally(signal -> lane.inFlight.decrementAndGet());
+        };
+        while (true) {
+            Sinks.EmitResult result = lane.sink.tryEmitNext(timed);
+            if (result.isSuccess()) {
+                return true;
+            }
+            // Another thread is emitting to this lane; anything else (overflow, shut down) is a refusal
+            if (result != Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+                return false;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * How many more transfers the lane of {@code bankCode} and {@code transferType} can queue; the poll arms no
+     * more overdue ones than this instead of firing them into a full lane.
+     */
+    public int remainingCapacity(String bankCode, String transferType) {
+        return Math.max(0, properties.getLaneQueueCapacity() - lane(bankCode, transferType).queue.size());
+    }
+
+    private Lane lane(String bankCode, String transferType) {
+        String type = transferType == null ? "UNKNOWN" : transferType.toUpperCase(Locale.ROOT);
+        String bank = bankCode == null || bankCode.isBlank() ? "UNKNOWN" : bankCode.toUpperCase(Locale.ROOT);
+        return lanes.computeIfAbsent(type + "/" + bank, key -> new Lane(type, bank));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        lanes.values().forEach(lane -> lane.pipeline.dispose());
+    }
+}
@@ -0,0 +1,147 @@
+package com.banking.semba.scheduler;
+
+import com.banking.semba.gateway.BankFailurePredicate;
+import com.banking.semba.util.TokenBudget;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * Tracks failed scheduled-transfer executions. Instead of sleeping, a failed transfer is re-queued with an
+ * exponential, fully jittered backoff; the scheduler picks it up again once {@link #isReady} says so.
+ * Retries draw from a {@link TokenBudget} so a bank outage cannot turn into a retry storm, and transfers that
+ * fail permanently (non-retryable error or maxAttempts reached) are reported as dead-lettered.
+ * <p>
+ * State is per node. The store holds what has to survive: the attempt count and next due time of a waiting
+ * retry, and the DEAD_LETTERED status with its last error. The budget is split by partition lease rather than
+ * shared: each node earns retries from its own first attempts and gets its partitions' share of the trickle and
+ * burst cap, so the cluster as a whole stays within the configured budget. The backoff state only covers
+ * transfers in this node's partitions and is dropped when they move, the new owner resuming from the stored
+ * attempt count.
+ */
+@Slf4j
+@Component
+public class TransferRetryEngine {
+
+    public enum Outcome { RETRY_SCHEDULED, DEAD_LETTERED }
+
+    private record RetryState(int attempts, Instant nextAttemptAt) {
+    }
+
+    private final TransferRetryProperties properties;
+    private final TokenBudget budget;
+    private final BankFailurePredicate retryable = new BankFailurePredicate();
+    private final Map<String, RetryState> retries = new ConcurrentHashMap<>();
+    private final Counter retriesScheduled;
+    private final Counter retriesDeferred;
+    private final Counter deadLettered;
+
+    public TransferRetryEngine(TransferRetryProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.budget = new TokenBudget(properties.getBudgetRatio(), properties.getBudgetMaxBurst(),
+                properties.getBudgetMinPerSecond());
+        this.retriesScheduled = Counter.builder("semba.transfer.retry.scheduled")
+                .description("Failed scheduled transfers re-queued for another attempt")
+                .register(meterRegistry);
+        this.retriesDeferred = Counter.builder("semba.transfer.retry.deferred")
+                .description("Due retries postponed because the retry budget was exhausted")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("semba.transfer.retry.dead.lettered")
+                .description("Scheduled transfers given up on after a permanent failure")
+                .register(meterRegistry);
+        Gauge.builder("semba.transfer.retry.pending", retries, Map::size)
+                .description("Scheduled transfers waiting for a retry")
+                .register(meterRegistry);
+    }
+
+    /**
+     * True if the transfer may be executed now: either it never failed, or its backoff has elapsed and the
+     * retry budget allows another attempt. A first attempt earns budget for later retries.
+     */
+    public boolean isReady(String txnId, Instant now) {
+        RetryState state = retries.get(txnId);
+        if (state == null) {
+            budget.deposit();
+            return true;
+        }
+        if (now.isBefore(state.nextAttemptAt())) {
+            return false;
+        }
+        if (!budget.tryAcquire()) {
+            retriesDeferred.increment();
+            return false;
+        }
+        return true;
+    }
+
+    public void onSuccess(String txnId) {
+        retries.remove(txnId);
+    }
+
+    /**
+     * Drops the retry state of transfers this node no longer handles: dead-lettered elsewhere, or in partitions
+     * handed to another node.
+     */
+    public void forget(Predicate<String> txnIds) {
+        retries.keySet().removeIf(txnIds);
+    }
+
+    /**
+     * Gives this node the part of the retry budget that matches the partitions it leases.
+     */
+    public void onPartitionsOwned(int owned, int partitions) {
+        budget.setShare(partitions == 0 ? 0.0 : (double) owned / partitions);
+    }
+
+    /**
+     * Re-seeds the attempt count of a persisted transfer that already failed before a restart, so its next
+     * execution is treated (and budgeted) as a retry and counts towards maxAttempts.
+     */
+    public void resume(String txnId, int attempts) {
+        if (attempts > 0) {
+            retries.putIfAbsent(txnId, new RetryState(attempts, Instant.EPOCH));
+        }
+    }
+
+    /**
+     * When the transfer's backoff ends, or null if it is not waiting for a retry.
+     */
+    public Instant nextAttemptAt(String txnId) {
+        RetryState state = retries.get(txnId);
+        return state == null ? null : state.nextAttemptAt();
+    }
+
+    public Outcome onFailure(String txnId, Throwable error) {
+        int attempts = retries.getOrDefault(txnId, new RetryState(0, Instant.EPOCH)).attempts() + 1;
+
+        if (!retryable.test(error) || attempts >= properties.getMaxAttempts()) {
+            retries.remove(txnId);
+            deadLettered.increment();
+            log.error("Scheduled transfer dead-lettered | txnId={} | attempts={} | error={}", txnId, attempts, error.getMessage());
+            return Outcome.DEAD_LETTERED;
+        }
+
+        Duration backoff = backoff(attempts);
+        retries.put(txnId, new RetryState(attempts, Instant.now().plus(backoff)));
+        retriesScheduled.increment();
+        log.warn("Scheduled transfer failed, retrying | txnId={} | attempt={} | retryIn={}s | error={}",
+                txnId, attempts, backoff.toSeconds(), error.getMessage());
+        return Outcome.RETRY_SCHEDULED;
+    }
+
+    // Full jitter: uniformly random up to the capped exponential backoff
+    private Duration backoff(int attempts) {
+        double ceiling = properties.getInitialBackoff().toMillis() * Math.pow(properties.getMultiplier(), attempts - 1);
+        long cappedMillis = (long) Math.min(properties.getMaxBackoff().toMillis(), ceiling);
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(cappedMillis + 1));
+    }
+}
@@ -0,0 +1,29 @@
+package com.banking.semba.scheduler;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Retry policy for scheduled transfer execution (semba.transfer.retry.* in application.properties),
+ * see {@link TransferRetryEngine}.
+ */
+@Data
+@ConfigurationProperties(prefix = "semba.transfer.retry")
+public class TransferRetryProperties {
+
+    // Total executions including the first one before a transfer is dead-lettered
+    private int maxAttempts = 6;
+
+    // Backoff before retry n is a random value in [0, min(maxBackoff, initialBackoff * multiplier^(n-1))]
+    private Duration initialBackoff = Duration.ofSeconds(30);
+    private Duration maxBackoff = Duration.ofMinutes(30);
+    private double multiplier = 2.0;
+
+    // Retries allowed per first execution, plus a floor so a quiet scheduler can still retry; the budget is kept
+    // per node, so the cluster-wide limit is this times the number of nodes
+    private double budgetRatio = 0.2;
+    private double budgetMaxBurst = 20;
+    private double budgetMinPerSecond = 0.1;
+}
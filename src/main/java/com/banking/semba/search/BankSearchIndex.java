@@ -0,0 +1,385 @@
+package com.banking.semba.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable search index over one bank directory snapshot. Results are ranked:
+ * <ol>
+ *     <li>name starts with the query ("hdfc b" -> HDFC Bank)</li>
+ *     <li>a word of the name starts with the query ("bar" -> Bank of Baroda)</li>
+ *     <li>name contains the query anywhere ("dfc" -> HDFC Bank)</li>
+ *     <li>every query word is within one or two edits of a name word ("hfdc" -> HDFC Bank, "kotk" -> Kotak)</li>
+ * </ol>
+ * Prefix ranks walk a trie; contains and fuzzy candidates come from trigram posting lists and only those
+ * candidates are checked, so a query never scans the whole directory.
+ */
+public final class BankSearchIndex {
+
+    private static final int[] NO_IDS = new int[0];
+    // Shorter queries are still being typed; a typo allowance there matches almost everything
+    private static final int MIN_FUZZY_LENGTH = 4;
+
+    private final List<Object> entries;
+    private final String[] names;
+    private final String[][] words;
+    private final Trie nameTrie = new Trie();
+    private final Trie wordTrie = new Trie();
+    // Unpadded trigrams of the whole name, for substring search
+    private final Map<String, int[]> nameTrigrams;
+    // Boundary-padded trigrams of each word, for fuzzy search
+    private final Map<String, int[]> wordTrigrams;
+
+    private BankSearchIndex(List<Object> entries, List<String> names) {
+        this.entries = entries;
+        this.names = names.toArray(new String[0]);
+        this.words = new String[this.names.length][];
+
+        Map<String, List<Integer>> namePostings = new HashMap<>();
+        Map<String, List<Integer>> wordPostings = new HashMap<>();
+        for (int id = 0; id < this.names.length; id++) {
+            String name = this.names[id];
+            words[id] = name.split(" ");
+            nameTrie.insert(name, id);
+            for (String word : words[id]) {
+                wordTrie.insert(word, id);
+                addPostings(wordPostings, paddedTrigrams(word), id);
+            }
+            addPostings(namePostings, trigrams(name), id);
+        }
+        this.nameTrigrams = toArrays(namePostings);
+        this.wordTrigrams = toArrays(wordPostings);
+    }
+
+    /**
+     * Indexes every entry of a raw directory payload that has a bank name: either a map of entries keyed by
+     * code, or a {@code data} list, with the name under {@code BANK} or {@code name}.
+     */
+    public static BankSearchIndex build(Object directory) {
+        List<Object> entries = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (Object entry : directoryEntries(directory)) {
+            if (entry instanceof Map<?, ?> map) {
+                Object name = map.get("BANK") != null ? map.get("BANK") : map.get("name");
+                String normalized = name == null ? "" : normalize(name.toString());
+                if (!normalized.isEmpty()) {
+                    entries.add(entry);
+                    names.add(normalized);
+                }
+            }
+        }
+        return new BankSearchIndex(entries, names);
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public List<Object> search(String query, int limit) {
+        String q = normalize(query == null ? "" : query);
+        if (q.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Set<Integer> hits = new LinkedHashSet<>();
+        nameTrie.collect(q, hits, limit);
+        if (hits.size() < limit && q.indexOf(' ') < 0) {
+            wordTrie.collect(q, hits, limit);
+        }
+        if (hits.size() < limit && q.length() >= 3) {
+            addContains(q, hits, limit);
+        }
+        if (hits.size() < limit && q.length() >= MIN_FUZZY_LENGTH) {
+            addFuzzy(q.split(" "), hits, limit);
+        }
+
+        List<Object> results = new ArrayList<>(hits.size());
+        for (int id : hits) {
+            results.add(entries.get(id));
+        }
+        return results;
+    }
+
+    // ---------------- CONTAINS ----------------
+    private void addContains(String q, Set<Integer> hits, int limit) {
+        int[] candidates = null;
+        for (String trigram : trigrams(q)) {
+            int[] posting = nameTrigrams.getOrDefault(trigram, NO_IDS);
+            candidates = candidates == null ? posting : intersect(candidates, posting);
+            if (candidates.length == 0) {
+                return;
+            }
+        }
+        for (int id : candidates) {
+            if (hits.size() >= limit) {
+                return;
+            }
+            if (names[id].contains(q)) {
+                hits.add(id);
+            }
+        }
+    }
+
+    // ---------------- FUZZY ----------------
+    private void addFuzzy(String[] queryWords, Set<Integer> hits, int limit) {
+        int totalTrigrams = 0;
+        int totalEdits = 0;
+        Map<Integer, Integer> shared = new HashMap<>();
+        for (String queryWord : queryWords) {
+            List<String> grams = paddedTrigrams(queryWord);
+            totalTrigrams += grams.size();
+            totalEdits += maxEdits(queryWord);
+            for (String gram : grams) {
+                for (int id : wordTrigrams.getOrDefault(gram, NO_IDS)) {
+                    shared.merge(id, 1, Integer::sum);
+                }
+            }
+        }
+        // Each edit destroys at most three trigrams, a transposition four
+        int minShared = Math.max(1, totalTrigrams - 4 * totalEdits);
+
+        List<int[]> matches = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> candidate : shared.entrySet()) {
+            int id = candidate.getKey();
+            if (candidate.getValue() < minShared || hits.contains(id)) {
+                continue;
+            }
+            int distance = distance(queryWords, words[id]);
+            if (distance >= 0) {
+                matches.add(new int[]{id, distance});
+            }
+        }
+        matches.sort(Comparator.<int[]>comparingInt(m -> m[1]).thenComparing(m -> names[m[0]]));
+        for (int[] match : matches) {
+            if (hits.size() >= limit) {
+                return;
+            }
+            hits.add(match[0]);
+        }
+    }
+
+    // Sum of the best distance of each query word to some name word, or -1 if any word is too far off
+    private static int distance(String[] queryWords, String[] nameWords) {
+        int total = 0;
+        for (String queryWord : queryWords) {
+            int max = maxEdits(queryWord);
+            int best = Integer.MAX_VALUE;
+            for (String nameWord : nameWords) {
+                best = Math.min(best, boundedDistance(queryWord, nameWord, max));
+                // Still typing: compare against the start of longer words too
+                if (nameWord.length() > queryWord.length()) {
+                    best = Math.min(best, boundedDistance(queryWord, nameWord.substring(0, queryWord.length()), max));
+                }
+            }
+            if (best > max) {
+                return -1;
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    private static int maxEdits(String word) {
+        return word.length() < 3 ? 0 : word.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Edit distance counting an adjacent transposition as one edit ("hfdc" -> "hdfc"), or {@code max + 1} as
+     * soon as it is known to exceed {@code max}.
+     */
+    static int boundedDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+
+    // ---------------- TEXT ----------------
+    static String normalize(String text) {
+        StringBuilder out = new StringBuilder(text.length());
+        boolean space = true;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                out.append(c);
+                space = false;
+            } else if (!space) {
+                out.append(' ');
+                space = true;
+            }
+        }
+        int end = out.length();
+        if (end > 0 && out.charAt(end - 1) == ' ') {
+            out.setLength(end - 1);
+        }
+        return out.toString();
+    }
+
+    private static List<String> trigrams(String text) {
+        List<String> grams = new ArrayList<>();
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private static List<String> paddedTrigrams(String word) {
+        return trigrams("  " + word + " ");
+    }
+
+    private static Collection<Object> directoryEntries(Object directory) {
+        if (directory instanceof Map<?, ?> map) {
+            if (map.get("data") instanceof List<?> data) {
+                return new ArrayList<>(data);
+            }
+            return new ArrayList<>(map.values());
+        }
+        if (directory instanceof List<?> list) {
+            return new ArrayList<>(list);
+        }
+        return List.of();
+    }
+
+    // ---------------- POSTINGS ----------------
+    private static void addPostings(Map<String, List<Integer>> postings, List<String> grams, int id) {
+        for (String gram : grams) {
+            List<Integer> ids = postings.computeIfAbsent(gram, g -> new ArrayList<>());
+            // Ids arrive in ascending order, so a repeat can only be the last element
+            if (ids.isEmpty() || ids.get(ids.size() - 1) != id) {
+                ids.add(id);
+            }
+        }
+    }
+
+    private static Map<String, int[]> toArrays(Map<String, List<Integer>> postings) {
+        Map<String, int[]> arrays = new HashMap<>(postings.size() * 2);
+        postings.forEach((gram, ids) -> arrays.put(gram, ids.stream().mapToInt(Integer::intValue).toArray()));
+        return arrays;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                out[n++] = a[i];
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    // ---------------- TRIE ----------------
+    private static final class Trie {
+        private final Node root = new Node();
+
+        void insert(String key, int id) {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.childOrCreate(key.charAt(i));
+            }
+            node.addId(id);
+        }
+
+        // Ids under the prefix in alphabetical order of key, until limit
+        void collect(String prefix, Set<Integer> out, int limit) {
+            Node node = root;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.child(prefix.charAt(i));
+            }
+            if (node != null) {
+                collect(node, out, limit);
+            }
+        }
+
+        private void collect(Node node, Set<Integer> out, int limit) {
+            for (int i = 0; i < node.idCount && out.size() < limit; i++) {
+                out.add(node.ids[i]);
+            }
+            for (int i = 0; i < node.childCount && out.size() < limit; i++) {
+                collect(node.children[i], out, limit);
+            }
+        }
+    }
+
+    // Children kept sorted by label in small parallel arrays; bank names only use [a-z0-9 ]
+    private static final class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private int childCount;
+        private int[] ids = NO_IDS;
+        private int idCount;
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, 0, childCount, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node childOrCreate(char label) {
+            int index = Arrays.binarySearch(labels, 0, childCount, label);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            if (childCount == labels.length) {
+                int capacity = Math.max(2, childCount * 2);
+                labels = Arrays.copyOf(labels, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(labels, insertAt, labels, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+            Node child = new Node();
+            labels[insertAt] = label;
+            children[insertAt] = child;
+            childCount++;
+            return child;
+        }
+
+        void addId(int id) {
+            if (idCount > 0 && ids[idCount - 1] == id) {
+                return;
+            }
+            if (idCount == ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(2, idCount * 2));
+            }
+            ids[idCount++] = id;
+        }
+    }
+}
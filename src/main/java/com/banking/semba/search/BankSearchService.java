@@ -0,0 +1,80 @@
+package com.banking.semba.search;
+
+import com.banking.semba.cache.BankDirectoryCache;
+import com.banking.semba.cache.BankDirectoryProperties;
+import com.banking.semba.cache.BankDirectoryRefreshedEvent;
+import com.banking.semba.cache.BankDirectorySnapshot;
+import com.banking.semba.constants.LogMessages;
+import com.banking.semba.constants.ValidationMessages;
+import com.banking.semba.globalException.CustomException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bank name search over the cached bank directory. A {@link BankSearchIndex} is built per directory snapshot
+ * on a background thread when the directory refreshes; searches keep using the previous index until the new
+ * one is swapped in, and only the very first search waits for a build.
+ */
+@Slf4j
+@Component
+public class BankSearchService {
+
+    private record IndexedSnapshot(BankDirectorySnapshot source, BankSearchIndex index) {
+    }
+
+    private final BankDirectoryCache bankDirectoryCache;
+    private final BankDirectoryProperties properties;
+    private final AtomicReference<IndexedSnapshot> current = new AtomicReference<>();
+
+    public BankSearchService(BankDirectoryCache bankDirectoryCache, BankDirectoryProperties properties) {
+        this.bankDirectoryCache = bankDirectoryCache;
+        this.properties = properties;
+    }
+
+    public Mono<List<Object>> search(String bankName) {
+        return bankDirectoryCache.getSnapshot()
+                .flatMap(this::indexFor)
+                .filter(index -> index.size() > 0)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.warn(LogMessages.FETCH_BANKS_NULL);
+                    return new CustomException(
+                            ValidationMessages.NO_BANKS_FOUND,
+                            ValidationMessages.ERROR_CODE_NO_BANKS
+                    );
+                }))
+                .map(index -> index.search(bankName, properties.getMaxSearchResults()));
+    }
+
+    @EventListener
+    public void onDirectoryRefreshed(BankDirectoryRefreshedEvent event) {
+        build(event.snapshot()).subscribe(
+                index -> { },
+                ex -> log.warn("Bank search index rebuild failed, keeping previous index | error={}", ex.getMessage()));
+    }
+
+    private Mono<BankSearchIndex> indexFor(BankDirectorySnapshot snapshot) {
+        IndexedSnapshot indexed = current.get();
+        return indexed == null ? build(snapshot) : Mono.just(indexed.index());
+    }
+
+    private Mono<BankSearchIndex> build(BankDirectorySnapshot snapshot) {
+        return Mono.fromCallable(() -> {
+                    long start = System.nanoTime();
+                    BankSearchIndex index = BankSearchIndex.build(snapshot.banks());
+                    // A slow build for an older snapshot must not replace a newer index
+                    IndexedSnapshot swapped = current.accumulateAndGet(new IndexedSnapshot(snapshot, index),
+                            (previous, next) -> previous != null
+                                    && previous.source().fetchedAt().isAfter(next.source().fetchedAt()) ? previous : next);
+                    log.info("Bank search index built | banks={} | tookMs={}",
+                            index.size(), (System.nanoTime() - start) / 1_000_000);
+                    return swapped.index();
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -4,9 +4,9 @@ import com.banking.semba.globalException.GlobalException;
 import com.banking.semba.constants.LogMessages;
 import com.banking.semba.constants.ValidationMessages;
 import com.banking.semba.dto.*;
-import com.banking.semba.dto.response.BankLoginResponse;
 import com.banking.semba.dto.response.BankMpinResponse;
 import com.banking.semba.dto.response.BankOtpResponse;
+import com.banking.semba.gateway.BankGateway;
 import com.banking.semba.security.JwtTokenService;
 import com.banking.semba.util.UserServiceUtils;
 import com.banking.semba.util.ValidationUtil;
@@ -15,7 +15,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
@@ -27,32 +26,21 @@ import java.util.Map;
 @Service
 public class AuthService {
 
-    private final WebClient bankWebClient;
+    private final BankGateway bankGateway;
     private final ValidationUtil validationUtil;
     private final UserServiceUtils userUtils;
     private final JwtTokenService jwtTokenService;
     private final OtpService otpService;
 
-    private static final boolean USE_MOCK = true; // Switch mock/real
-
-    public AuthService(WebClient bankWebClient, ValidationUtil validationUtil, UserServiceUtils userUtils, 
+    public AuthService(BankGateway bankGateway, ValidationUtil validationUtil, UserServiceUtils userUtils,
                        JwtTokenService jwtTokenService,OtpService otpService) {
-        this.bankWebClient = bankWebClient;
+        this.bankGateway = bankGateway;
         this.validationUtil = validationUtil;
         this.userUtils = userUtils;
         this.jwtTokenService = jwtTokenService;
         this.otpService = otpService;
     }
 
-    // ---------------- Bank Request DTOs ----------------
-    private record BankOtpRequest(String mobile, String otp, String referralCode, String ip, String deviceId,
-                                  Double latitude, Double longitude) {
-    }
-
-    private record BankLoginRequest(String mobile, String mpin, String ip, String deviceId,
-                                    Double latitude, Double longitude) {
-    }
-
     // ---------------- COMMON VALIDATION ----------------
     private void validateCommon(String mobile, String ip, String deviceId, Double latitude, Double longitude) {
         userUtils.validateMobileNotBlank(mobile);
@@ -81,19 +69,6 @@ public class AuthService {
         String mobile = req.getMobile().trim();
         validateCommon(mobile, req.getIp(), req.getDeviceId(), req.getLatitude(), req.getLongitude());
 
-        if (USE_MOCK) {
-            return Mono.fromSupplier(() -> {
-                log.info("[MOCK] Signup OTP sent for mobile={}", mobile);
-                Map<String, Object> mockData = Map.of(
-                        "mobile", mobile,
-                        "transactionId", "TXN-MOCK-123456",
-                        "message", ValidationMessages.OTP_SENT_SUCCESS
-                );
-                return new ApiResponseDTO<>(ValidationMessages.STATUS_OK, HttpStatus.CREATED.value(),
-                        ValidationMessages.OTP_SENT_SUCCESS, mockData);
-            });
-        }
-
         // --- Prepare OTP Request DTO ---
         OtpSendRequestDTO otpRequest = OtpSendRequestDTO.builder()
                 .mobile(mobile)
@@ -102,17 +77,16 @@ public class AuthService {
                 .build();
 
         // --- Trigger OTP via OtpService ---
-        return Mono.fromSupplier(() -> {
-                    HttpResponseDTO otpResponse = otpService.sendOtp(
-                            null, // pre-login, no auth
-                            req.getIp(),
-                            req.getDeviceId(),
-                            req.getLatitude(),
-                            req.getLongitude(),
-                            otpRequest,
-                            true
-                    );
-
+        return Mono.defer(() -> otpService.sendOtp(
+                        null, // pre-login, no auth
+                        req.getIp(),
+                        req.getDeviceId(),
+                        req.getLatitude(),
+                        req.getLongitude(),
+                        otpRequest,
+                        true
+                ))
+                .map(otpResponse -> {
                     log.info("OTP triggered successfully for signup | mobile={} | refId={}",
                             mobile, otpRequest.getReferenceId());
 
@@ -144,30 +118,17 @@ public class AuthService {
         validateCommon(mobile, req.getIp(), req.getDeviceId(), req.getLatitude(), req.getLongitude());
         userUtils.validateOtpNotBlank(otp, mobile);
 
-        if (USE_MOCK) {
-            return Mono.fromSupplier(() -> {
-                BankOtpResponse response = new BankOtpResponse();
-                if ("1234".equals(otp)) {
-                    response.setOtpValid(true);
-                    response.setTransactionId("TXN-MOCK-VERIFY-123");
-                    log.info("OTP verified successfully (MOCK) for mobile: {}. Transaction ID: {}", mobile, response.getTransactionId());
-                    return new ApiResponseDTO<>(ValidationMessages.STATUS_OK, HttpStatus.OK.value(), ValidationMessages.OTP_VERIFIED_SUCCESS, response);
-                } else {
-                    response.setOtpValid(false);
-                    log.warn("{\"event\":\"otp_invalid_attempt\",\"mobile\":\"{}\"}",mobile);
-                    throw new GlobalException(ValidationMessages.OTP_INVALID, HttpStatus.BAD_REQUEST.value());
-                }
-            });
-        }
-
         BankOtpRequest bankRequest = new BankOtpRequest(mobile, otp, null, req.getIp(), req.getDeviceId(), req.getLatitude(), req.getLongitude());
 
-        return bankWebClient.post()
-                .uri("/bank/verify-otp")
-                .headers(h -> h.addAll(buildHeaders(mobile, req.getIp(), req.getDeviceId(), req.getLatitude(), req.getLongitude())))
-                .bodyValue(bankRequest)
-                .retrieve()
-                .bodyToMono(BankOtpResponse.class)
+        return bankGateway.verifyOtp(bankRequest, buildHeaders(mobile, req.getIp(), req.getDeviceId(), req.getLatitude(), req.getLongitude()))
+                .onErrorResume(WebClientResponseException.class, ex -> {
+                    log.error("BANK API ERROR during OTP verification for mobile: {}. Status: {}, ResponseBody: {}", mobile, ex.getStatusCode().value(), ex.getResponseBodyAsString(), ex);
+                    return Mono.error(new GlobalException(ValidationMessages.BANKING_FAILED + ": " + ex.getResponseBodyAsString(), ex.getStatusCode().value()));
+                })
+                .onErrorResume(ex -> !(ex instanceof GlobalException), ex -> {
+                    log.error("Unexpected exception during OTP verification for mobile: {}. Error: {}", mobile, ex.getMessage(), ex);
+                    return Mono.error(new GlobalException(ValidationMessages.ERROR_CALL_API + ": " + ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR.value()));
+                })
                 .map(resp -> {
                     if (resp.getOtpValid() == null || !resp.getOtpValid()) {
                         log.warn("{\"event\":\"otp_verification_failed\",\"mobile\":\"{}\",\"transactionId\":\"{}\"}",mobile, resp.getTransactionId());
@@ -180,14 +141,6 @@ public class AuthService {
                             ValidationMessages.STATUS_OK,
                             HttpStatus.OK.value(),
                             ValidationMessages.OTP_VERIFIED_SUCCESS, resp);
-                })
-                .onErrorResume(WebClientResponseException.class, ex -> {
-                    log.error("BANK API ERROR during OTP verification for mobile: {}. Status: {}, ResponseBody: {}", mobile, ex.getStatusCode().value(), ex.getResponseBodyAsString(), ex);
-                    return Mono.error(new GlobalException(ValidationMessages.BANKING_FAILED + ": " + ex.getResponseBodyAsString(), ex.getStatusCode().value()));
-                })
-                .onErrorResume(Exception.class, ex -> {
-                    log.error("Unexpected exception during OTP verification for mobile: {}. Error: {}", mobile, ex.getMessage(), ex);
-                    return Mono.error(new GlobalException(ValidationMessages.ERROR_CALL_API + ": " + ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR.value()));
                 });
     }
     // ---------------- RESEND OTP ----------------
@@ -196,21 +149,6 @@ public class AuthService {
 
         validateCommon(mobile, req.getIp(), req.getDeviceId(), req.getLatitude(), req.getLongitude());
 
-        if (USE_MOCK) {
-            return Mono.fromSupplier(() -> {
-                BankOtpResponse response = new BankOtpResponse();
-                response.setOtpValid(true);
-                response.setTransactionId("TXN-MOCK-RESEND-" + System.currentTimeMillis());
-                log.info("OTP resent successfully (MOCK) for mobile: {}. Transaction ID: {}", mobile, response.getTransactionId());
-                return new ApiResponseDTO<>(
-                        ValidationMessages.STATUS_OK,
-                        HttpStatus.OK.value(),
-                        "OTP resent successfully (mock)",
-                        response
-                );
-            });
-        }
-
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("mobile", mobile);
         requestBody.put("deviceId", req.getDeviceId());
@@ -218,12 +156,7 @@ public class AuthService {
         requestBody.put("latitude", req.getLatitude());
         requestBody.put("longitude", req.getLongitude());
 
-        return bankWebClient.post()
-                .uri("/bank/resend-otp")
-                .headers(h -> h.addAll(buildHeaders(mobile, req.getIp(), req.getDeviceId(), req.getLatitude(), req.getLongitude())))
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(BankOtpResponse.class)
+        return bankGateway.resendOtp(requestBody, buildHeaders(mobile, req.getIp(), req.getDeviceId(), req.getLatitude(), req.getLongitude()))
                 .map(resp -> {
                     log.info("OTP resent successfully for mobile: {}. Transaction ID: {}", mobile, resp.getTransactionId());
                     return new ApiResponseDTO<>(
@@ -258,24 +191,9 @@ public class AuthService {
             throw new GlobalException(ValidationMessages.MPIN_NOT_MATCH, HttpStatus.BAD_REQUEST.value());
         }
 
-        if (USE_MOCK) {
-            return Mono.fromSupplier(() -> {
-                BankMpinResponse response = new BankMpinResponse();
-                response.setTransactionId("TXN-MOCK-MPIN-123");
-                response.setMessage(ValidationMessages.MPIN_SET_SUCCESS);
-                log.info("Mock MPIN set successfully for mobile: {}. Transaction ID: {}", mobile, response.getTransactionId());
-                return new ApiResponseDTO<>(ValidationMessages.STATUS_OK, HttpStatus.OK.value(), ValidationMessages.MPIN_SET_SUCCESS, response);
-            });
-        }
-
         BankMpinRequest bankRequest = new BankMpinRequest(mobile, mpin, confirmMpin, req.getDeviceId(), req.getIp(), req.getLatitude(), req.getLongitude());
 
-        return bankWebClient.post()
-                .uri("/bank/set-mpin")
-                .headers(h -> h.addAll(buildHeaders(mobile, req.getIp(), req.getDeviceId(), req.getLatitude(), req.getLongitude())))
-                .bodyValue(bankRequest)
-                .retrieve()
-                .bodyToMono(BankMpinResponse.class)
+        return bankGateway.setMpin(bankRequest, buildHeaders(mobile, req.getIp(), req.getDeviceId(), req.getLatitude(), req.getLongitude()))
                 .map(resp -> {
                     log.info("MPIN set successfully for mobile: {}. Transaction ID: {}", mobile, resp.getTransactionId());
                     return new ApiResponseDTO<>(
@@ -303,31 +221,17 @@ public class AuthService {
         validateCommon(mobile, req.getIp(), req.getDeviceId(), req.getLatitude(), req.getLongitude());
         userUtils.validateMpinNotBlank(mpin, mobile);
 
-        if (USE_MOCK) {
-            return Mono.fromSupplier(() -> {
-                if (!"1234".equals(mpin)) {
-                      log.warn("{\"event\":\"login_failed\",\"mobile\":\"{}\"}", mobile);
-                    throw new GlobalException(ValidationMessages.MPIN_INVALID, HttpStatus.UNAUTHORIZED.value());
-                }
-
-                String accessToken = jwtTokenService.generateAccessToken(Map.of("mobile", mobile, "deviceId", req.getDeviceId()), mobile);
-                Map<String, Object> data = new HashMap<>();
-                data.put("accessToken", accessToken);
-                data.put("bankJwt", "MOCK_BANK_JWT_" + mobile);
-
-                log.info("Mock login successful for mobile: {}", mobile);
-                return new ApiResponseDTO<>(ValidationMessages.STATUS_OK, HttpStatus.OK.value(), ValidationMessages.LOGIN_SUCCESS, data);
-            });
-        }
-
-        BankLoginRequest bankRequest = new BankLoginRequest(mobile, mpin, req.getIp(), req.getDeviceId(), req.getLatitude(), req.getLongitude());
+        BankLoginRequest bankRequest = new BankLoginRequest(mobile, mpin, req.getDeviceId(), req.getIp(), req.getLatitude(), req.getLongitude());
 
-        return bankWebClient.post()
-                .uri("/bank/login")
-                .headers(h -> h.addAll(buildHeaders(mobile, req.getIp(), req.getDeviceId(), req.getLatitude(), req.getLongitude())))
-                .bodyValue(bankRequest)
-                .retrieve()
-                .bodyToMono(BankLoginResponse.class)
+        return bankGateway.login(bankRequest, buildHeaders(mobile, req.getIp(), req.getDeviceId(), req.getLatitude(), req.getLongitude()))
+                .onErrorResume(WebClientResponseException.class, ex -> {
+                    log.error("BANK API ERROR during login for mobile: {}. Status: {}, ResponseBody: {}", mobile, ex.getStatusCode().value(), ex.getResponseBodyAsString(), ex);
+                    return Mono.error(new GlobalException(ValidationMessages.BANKING_FAILED + ": " + ex.getResponseBodyAsString(), ex.getStatusCode().value()));
+                })
+                .onErrorResume(ex -> !(ex instanceof GlobalException), ex -> {
+                    log.error("Unexpected exception during login for mobile: {}. Error: {}", mobile, ex.getMessage(), ex);
+                    return Mono.error(new GlobalException(ValidationMessages.ERROR_CALL_API + ": " + ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR.value()));
+                })
                 .flatMap(bankResp -> {
                     if (!bankResp.isSuccess()) {
                         log.warn("{\"event\":\"login_failed\",\"mobile\":\"{}\",\"bankMessage\":\"{}\"}",mobile, bankResp.getMessage());
@@ -341,14 +245,6 @@ public class AuthService {
 
                     log.info("Login successful for mobile: {}. Bank JWT received.", mobile);
                     return Mono.just(new ApiResponseDTO<>(ValidationMessages.STATUS_OK, HttpStatus.OK.value(), ValidationMessages.LOGIN_SUCCESS, data));
-                })
-                .onErrorResume(WebClientResponseException.class, ex -> {
-                    log.error("BANK API ERROR during login for mobile: {}. Status: {}, ResponseBody: {}", mobile, ex.getStatusCode().value(), ex.getResponseBodyAsString(), ex);
-                    return Mono.error(new GlobalException(ValidationMessages.BANKING_FAILED + ": " + ex.getResponseBodyAsString(), ex.getStatusCode().value()));
-                })
-                .onErrorResume(Exception.class, ex -> {
-                    log.error("Unexpected exception during login for mobile: {}. Error: {}", mobile, ex.getMessage(), ex);
-                    return Mono.error(new GlobalException(ValidationMessages.ERROR_CALL_API + ": " + ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR.value()));
                 });
     }
 }
\ No newline at end of file
@@ -1,25 +1,29 @@
 package com.banking.semba.service;
 
+import com.banking.semba.cache.PayeeCache;
 import com.banking.semba.globalException.CustomException;
-import com.banking.semba.globalException.GlobalException;
 import com.banking.semba.globalException.GlobalExceptionHandler;
 import com.banking.semba.constants.ValidationMessages;
 import com.banking.semba.dto.BeneficiaryDTO;
 import com.banking.semba.dto.HttpResponseDTO;
 import com.banking.semba.dto.PayeeDTO;
 import com.banking.semba.dto.UpdateBeneficiaryDTO;
+import com.banking.semba.dto.response.BankPayee;
+import com.banking.semba.gateway.BankGateway;
+import com.banking.semba.ifsc.IfscBranch;
+import com.banking.semba.ifsc.IfscDirectory;
 import com.banking.semba.util.UserServiceUtils;
 import com.banking.semba.util.ValidationUtil;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static com.banking.semba.globalException.GlobalExceptionHandler.badRequest;
@@ -35,14 +39,18 @@ public class BeneficiaryService {
     );
     private final ValidationUtil validationUtil;
     private final UserServiceUtils userUtils;
-    private final WebClient webClient;
+    private final BankGateway bankGateway;
     private final AuthService authService;
+    private final IfscDirectory ifscDirectory;
+    private final PayeeCache payeeCache;
 
-    public BeneficiaryService(ValidationUtil validationUtil, UserServiceUtils userUtils, WebClient webClient, AuthService authService) {
+    public BeneficiaryService(ValidationUtil validationUtil, UserServiceUtils userUtils, BankGateway bankGateway, AuthService authService, IfscDirectory ifscDirectory, PayeeCache payeeCache) {
         this.validationUtil = validationUtil;
         this.userUtils = userUtils;
-        this.webClient = webClient;
+        this.bankGateway = bankGateway;
         this.authService = authService;
+        this.ifscDirectory = ifscDirectory;
+        this.payeeCache = payeeCache;
     }
 
     private void checkDeviceInfo(String mobile, String ip, String deviceId, Double latitude, Double longitude) {
@@ -55,137 +63,121 @@ public class BeneficiaryService {
         }
     }
 
-    public ResponseEntity<HttpResponseDTO> addBeneficiary(
+    public Mono<ResponseEntity<HttpResponseDTO>> addBeneficiary(
             String mobile, String ip, String deviceId,
             Double latitude, Double longitude,
             BeneficiaryDTO beneficiaryDTO) {
 
-        String externalUrl = "https://jsonplaceholder.typicode.com/posts";
-
         checkDeviceInfo(mobile, ip, deviceId, latitude, longitude);
 
         if (beneficiaryDTO.getBeneficiaryName() == null || beneficiaryDTO.getBeneficiaryName().isBlank()) {
-            return badRequest(ValidationMessages.BENEFICIARY_NAME_REQUIRED);
+            return Mono.just(badRequest(ValidationMessages.BENEFICIARY_NAME_REQUIRED));
         }
 
         if (beneficiaryDTO.getBeneficiaryAccountNumber() == null ||
                 !beneficiaryDTO.getBeneficiaryAccountNumber().matches("^\\d{9,18}$")) {
-            return badRequest(ValidationMessages.ACCOUNT_NUMBER_REQUIRED);
+            return Mono.just(badRequest(ValidationMessages.ACCOUNT_NUMBER_REQUIRED));
         }
 
         if (!beneficiaryDTO.getBeneficiaryAccountNumber()
                 .equals(beneficiaryDTO.getConfirmBeneficiaryAccountNumber())) {
-            return badRequest(ValidationMessages.ACCOUNT_NUMBER_MISMATCH);
+            return Mono.just(badRequest(ValidationMessages.ACCOUNT_NUMBER_MISMATCH));
         }
 
         if (beneficiaryDTO.getBeneficiaryMobileNumber() == null ||
                 !beneficiaryDTO.getBeneficiaryMobileNumber().matches("^[6-9]\\d{9}$")) {
-            return badRequest(ValidationMessages.INVALID_MOBILE_FORMAT);
+            return Mono.just(badRequest(ValidationMessages.INVALID_MOBILE_FORMAT));
         }
 
         if (beneficiaryDTO.getIfscCode() == null ||
                 !beneficiaryDTO.getIfscCode().matches("^[A-Z]{4}0[A-Z0-9]{6}$")) {
-            return badRequest(ValidationMessages.INVALID_IFSC);
+            return Mono.just(badRequest(ValidationMessages.INVALID_IFSC));
         }
 
-        if (beneficiaryDTO.getBankId() == null || !BANKS.contains(beneficiaryDTO.getBankId())) {
-            return badRequest(ValidationMessages.BANK_ID_REQUIRED);
+        // Resolved locally when the IFSC directory is loaded, otherwise the bank validates the branch
+        Optional<IfscBranch> branch = ifscDirectory.resolve(beneficiaryDTO.getIfscCode());
+        if (ifscDirectory.isLoaded() && branch.isEmpty()) {
+            return Mono.just(badRequest(ValidationMessages.IFSC_NOT_FOUND));
         }
 
-        try {
-            Map<String, Object> requestBody = Map.of(
-                    "beneficiaryName", beneficiaryDTO.getBeneficiaryName(),
-                    "accountNumber", beneficiaryDTO.getBeneficiaryAccountNumber(),
-                    "mobile", beneficiaryDTO.getBeneficiaryMobileNumber(),
-                    "ifscCode", beneficiaryDTO.getIfscCode(),
-                    "bankName", beneficiaryDTO.getBankId()
-            );
-            HttpHeaders headers = authService.buildHeaders(mobile, ip, deviceId, latitude, longitude);
-
-            Map<String, Object> response = webClient.post()
-                    .uri(externalUrl)
-                    .headers(httpHeaders -> httpHeaders.addAll(headers))
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
-                    })
-                    .block();
-
-            HttpResponseDTO apiResponse = new HttpResponseDTO(ValidationMessages.STATUS_OK, HttpStatus.OK.value(), ValidationMessages.BENEFICIARY_ADDED_SUCCESSFULLY, response);
-            return ResponseEntity.ok(apiResponse);
-
-        } catch (Exception ex) {
-            log.error("Error calling external bank API", ex);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new HttpResponseDTO("FAILURE",
-                            HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                            "Failed to connect to bank API"));
+        if (beneficiaryDTO.getBankId() == null || !BANKS.contains(beneficiaryDTO.getBankId())) {
+            return Mono.just(badRequest(ValidationMessages.BANK_ID_REQUIRED));
         }
+
+        Map<String, Object> requestBody = new HashMap<>(Map.of(
+                "beneficiaryName", beneficiaryDTO.getBeneficiaryName(),
+                "accountNumber", beneficiaryDTO.getBeneficiaryAccountNumber(),
+                "mobile", beneficiaryDTO.getBeneficiaryMobileNumber(),
+                "ifscCode", beneficiaryDTO.getIfscCode(),
+                "bankName", beneficiaryDTO.getBankId()
+        ));
+        branch.ifPresent(resolved -> {
+            requestBody.put("branchName", resolved.branch());
+            requestBody.put("branchCity", resolved.city());
+        });
+        HttpHeaders headers = authService.buildHeaders(mobile, ip, deviceId, latitude, longitude);
+
+        return bankGateway.addPayee(requestBody, headers)
+                .doOnNext(response -> cacheAddedPayee(mobile, requestBody, response))
+                .doOnError(ex -> payeeCache.invalidate(mobile))
+                .map(response -> ResponseEntity.ok(new HttpResponseDTO(ValidationMessages.STATUS_OK, HttpStatus.OK.value(), ValidationMessages.BENEFICIARY_ADDED_SUCCESSFULLY, response)))
+                .onErrorResume(ex -> {
+                    log.error("Error calling external bank API", ex);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(new HttpResponseDTO("FAILURE",
+                                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                                    "Failed to connect to bank API")));
+                });
     }
 
-    public ResponseEntity<HttpResponseDTO> getAllPayees(String mobile, String ip, String deviceId,
-                                                        Double latitude, Double longitude) {
+    public Mono<ResponseEntity<HttpResponseDTO>> getAllPayees(String mobile, String ip, String deviceId,
+                                                              Double latitude, Double longitude) {
         checkDeviceInfo(mobile, ip, deviceId, latitude, longitude);
         HttpHeaders headers = authService.buildHeaders(mobile, ip, deviceId, latitude, longitude);
 
-        try {
-
-            List<Map<String, Object>> apiResponse = webClient.get()
-                    .uri("/users")
-                    .headers(httpHeaders -> httpHeaders.addAll(headers))
-                    .retrieve()
-                    .onStatus(HttpStatusCode::is4xxClientError, response ->
-                            Mono.error(new RuntimeException("Client error while calling dummy API")))
-                    .onStatus(HttpStatusCode::is5xxServerError, response ->
-                            Mono.error(new RuntimeException("Server error while calling dummy API")))
-                    .bodyToFlux(new org.springframework.core.ParameterizedTypeReference<Map<String, Object>>() {
-                    })
-                    .collectList()
-                    .block();
-
-            if (apiResponse == null || apiResponse.isEmpty()) {
-                HttpResponseDTO response = new HttpResponseDTO(
-                        ValidationMessages.FAILURE,
-                        HttpStatus.NOT_FOUND.value(),
-                        ValidationMessages.NO_PAYEES_FOUND,
-                        null
-                );
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
-            }
-
-            List<PayeeDTO> payees = apiResponse.stream()
-                    .map(user -> PayeeDTO.builder()
-                            .beneficiaryName((String) user.get("name"))
-                            .beneficiaryAccountNumber(String.valueOf(user.get("id")))
-                            .ifscCode("IFSC" + user.get("id"))
-                            .bankId("BANK" + user.get("id"))
-                            .beneficiaryMobileNumber(
-                                    ((Map<String, Object>) user.get("address")).get("zipcode").toString()
-                            )
-                            .build())
-                    .collect(Collectors.toList());
-
-            HttpResponseDTO response = new HttpResponseDTO(
-                    ValidationMessages.STATUS_OK,
-                    HttpStatus.OK.value(),
-                    ValidationMessages.MSG_PAYEES_FETCHED,
-                    payees
-            );
-
-            return ResponseEntity.ok(response);
-
-        } catch (Exception e) {
-            HttpResponseDTO response = new HttpResponseDTO(
-                    ValidationMessages.FAILURE,
-                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                    "Error fetching payees: " + e.getMessage(),
-                    null
-            );
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        return payeeCache.get(mobile, () -> bankGateway.getPayees(headers))
+                .map(apiResponse -> {
+                    if (apiResponse.isEmpty()) {
+                        HttpResponseDTO response = new HttpResponseDTO(
+                                ValidationMessages.FAILURE,
+                                HttpStatus.NOT_FOUND.value(),
+                                ValidationMessages.NO_PAYEES_FOUND,
+                                null
+                        );
+                        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+                    }
+
+                    List<PayeeDTO> payees = apiResponse.stream()
+                            .map(payee -> PayeeDTO.builder()
+                                    .beneficiaryName(payee.name())
+                                    .beneficiaryAccountNumber(String.valueOf(payee.id()))
+                                    .ifscCode("IFSC" + payee.id())
+                                    .bankId("BANK" + payee.id())
+                                    .beneficiaryMobileNumber(payee.address() != null ? payee.address().zipcode() : null)
+                                    .build())
+                            .collect(Collectors.toList());
+
+                    HttpResponseDTO response = new HttpResponseDTO(
+                            ValidationMessages.STATUS_OK,
+                            HttpStatus.OK.value(),
+                            ValidationMessages.MSG_PAYEES_FETCHED,
+                            payees
+                    );
+
+                    return ResponseEntity.ok(response);
+                })
+                .onErrorResume(e -> {
+                    HttpResponseDTO response = new HttpResponseDTO(
+                            ValidationMessages.FAILURE,
+                            HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                            "Error fetching payees: " + e.getMessage(),
+                            null
+                    );
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response));
+                });
     }
 
-    public ResponseEntity<HttpResponseDTO> updatePayee(
+    public Mono<ResponseEntity<HttpResponseDTO>> updatePayee(
             String mobile, String ip, String deviceId,
             Double latitude, Double longitude, Long payeeId,
             UpdateBeneficiaryDTO updateBeneficiaryDTO) {
@@ -194,93 +186,78 @@ public class BeneficiaryService {
         HttpHeaders headers = authService.buildHeaders(mobile, ip, deviceId, latitude, longitude);
 
         if (updateBeneficiaryDTO.getBeneficiaryName() == null || updateBeneficiaryDTO.getBeneficiaryName().isBlank()) {
-            return GlobalExceptionHandler.badRequest(ValidationMessages.BENEFICIARY_NAME_REQUIRED);
+            return Mono.just(GlobalExceptionHandler.badRequest(ValidationMessages.BENEFICIARY_NAME_REQUIRED));
         }
 
-        try {
-            String externalApiUrl = "https://dummyjson.com/users/" + payeeId;
-            webClient.put()
-                    .uri(externalApiUrl)
-                    .headers(httpHeaders -> httpHeaders.addAll(headers))
-                    .bodyValue(updateBeneficiaryDTO)
-                    .retrieve()
-                    .bodyToMono(Void.class)
-                    .block();
-
-            UpdateBeneficiaryDTO responseDto = new UpdateBeneficiaryDTO();
-            responseDto.setBeneficiaryName(updateBeneficiaryDTO.getBeneficiaryName());
-
-            return ResponseEntity.ok(new HttpResponseDTO(
-                    ValidationMessages.STATUS_OK,
-                    HttpStatus.OK.value(),
-                    ValidationMessages.UPDATED_SUCCESSFULLY,
-                    responseDto
-            ));
-        } catch (WebClientResponseException e) {
-            throw new CustomException(
-                    String.valueOf(e.getStatusCode().value()),
-                    ValidationMessages.EXTERNAL_API_ERROR + ": " + e.getResponseBodyAsString()
-            );
-
-        } catch (Exception ex) {
-            throw new CustomException(
-                    String.valueOf(HttpStatus.INTERNAL_SERVER_ERROR.value()),
-                    ValidationMessages.INTERNAL_SERVER_ERROR + ": " + ex.getMessage()
-            );
-        }
+        return bankGateway.updatePayee(payeeId, updateBeneficiaryDTO, headers)
+                .doOnSuccess(ignored -> payeeCache.renamed(mobile, payeeId, updateBeneficiaryDTO.getBeneficiaryName()))
+                .doOnError(ex -> payeeCache.invalidate(mobile))
+                .then(Mono.fromSupplier(() -> {
+                    UpdateBeneficiaryDTO responseDto = new UpdateBeneficiaryDTO();
+                    responseDto.setBeneficiaryName(updateBeneficiaryDTO.getBeneficiaryName());
+
+                    return ResponseEntity.ok(new HttpResponseDTO(
+                            ValidationMessages.STATUS_OK,
+                            HttpStatus.OK.value(),
+                            ValidationMessages.UPDATED_SUCCESSFULLY,
+                            responseDto
+                    ));
+                }))
+                .onErrorMap(ex -> {
+                    if (ex instanceof WebClientResponseException e) {
+                        return new CustomException(
+                                String.valueOf(e.getStatusCode().value()),
+                                ValidationMessages.EXTERNAL_API_ERROR + ": " + e.getResponseBodyAsString()
+                        );
+                    }
+                    return new CustomException(
+                            String.valueOf(HttpStatus.INTERNAL_SERVER_ERROR.value()),
+                            ValidationMessages.INTERNAL_SERVER_ERROR + ": " + ex.getMessage()
+                    );
+                });
     }
 
-    public ResponseEntity<HttpResponseDTO> deletePayee(
+    public Mono<ResponseEntity<HttpResponseDTO>> deletePayee(
             String mobile, String ip, String deviceId,
             Double latitude, Double longitude, Long payeeId) {
 
         checkDeviceInfo(mobile, ip, deviceId, latitude, longitude);
         HttpHeaders headers = authService.buildHeaders(mobile, ip, deviceId, latitude, longitude);
 
-        try {
-            String uri = "/users/" + payeeId;
-
-            webClient.delete()
-                    .uri(uri)
-                    .headers(httpHeaders -> httpHeaders.addAll(headers))
-                    .retrieve()
-                    .onStatus(HttpStatusCode::is4xxClientError, response -> {
-                        log.error("Client error while deleting payee | payeeId={} | status={}", payeeId, response.statusCode());
-                        return Mono.error(new GlobalException(
-                                HttpStatus.BAD_REQUEST.value(),
-                                ValidationMessages.CLIENT_ERROR
-                        ));
-                    })
-                    .onStatus(HttpStatusCode::is5xxServerError, response -> {
-                        log.error("Server error while deleting payee | payeeId={} | status={}", payeeId, response.statusCode());
-                        return Mono.error(new GlobalException(
-                                HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                                ValidationMessages.SERVER_ERROR
-                        ));
-                    })
-                    .toBodilessEntity()
-                    .block();
-
-            log.info("Successfully deleted payee | payeeId={} | mobile={}", payeeId, mobile);
-
-            HttpResponseDTO successResponse = new HttpResponseDTO(
-                    ValidationMessages.STATUS_OK,
-                    HttpStatus.OK.value(),
-                    ValidationMessages.MSG_PAYEE_DELETED_SUCCESS,
-                    ValidationMessages.DELETED_PAYEE + " " + payeeId
-            );
-
-            return ResponseEntity.ok(successResponse);
-
-        } catch (Exception e) {
-            HttpResponseDTO response = new HttpResponseDTO(
-                    ValidationMessages.FAILURE,
-                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                    ValidationMessages.FAILED_TO_DELETE + e.getMessage(),
-                    null
-            );
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        return bankGateway.deletePayee(payeeId, headers)
+                .doOnSuccess(ignored -> payeeCache.deleted(mobile, payeeId))
+                .doOnError(ex -> payeeCache.invalidate(mobile))
+                .then(Mono.fromSupplier(() -> {
+                    log.info("Successfully deleted payee | payeeId={} | mobile={}", payeeId, mobile);
+
+                    HttpResponseDTO successResponse = new HttpResponseDTO(
+                            ValidationMessages.STATUS_OK,
+                            HttpStatus.OK.value(),
+                            ValidationMessages.MSG_PAYEE_DELETED_SUCCESS,
+                            ValidationMessages.DELETED_PAYEE + " " + payeeId
+                    );
+
+                    return ResponseEntity.ok(successResponse);
+                }))
+                .onErrorResume(e -> {
+                    HttpResponseDTO response = new HttpResponseDTO(
+                            ValidationMessages.FAILURE,
+                            HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                            ValidationMessages.FAILED_TO_DELETE + e.getMessage(),
+                            null
+                    );
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response));
+                });
     }
 
+    // The bank echoes the new payee with its id; without one the cached list cannot be patched
+    private void cacheAddedPayee(String mobile, Map<String, Object> request, Map<String, Object> response) {
+        if (response.get("id") instanceof Number id) {
+            payeeCache.added(mobile, new BankPayee(id.longValue(),
+                    (String) request.get("beneficiaryName"),
+                    new BankPayee.Address((String) request.get("mobile"))));
+        } else {
+            payeeCache.invalidate(mobile);
+        }
+    }
 }
@@ -4,8 +4,9 @@ import com.banking.semba.globalException.GlobalException;
 import com.banking.semba.constants.LogMessages;
 import com.banking.semba.constants.ValidationMessages;
 import com.banking.semba.dto.ApiResponseDTO;
-import com.banking.semba.dto.response.BankAccountResponse;
 import com.banking.semba.dto.response.BankProfileResponse;
+import com.banking.semba.dto.response.BankAccountResponse;
+import com.banking.semba.gateway.BankGateway;
 import com.banking.semba.util.JwtUtil;
 import com.banking.semba.util.UserServiceUtils;
 import com.banking.semba.util.ValidationUtil;
@@ -14,7 +15,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
@@ -25,130 +25,89 @@ import java.util.Map;
 @Service
 public class CustomerService {
 
-    private final WebClient bankWebClient;
+    private final BankGateway bankGateway;
     private final JwtUtil jwtUtil;
     private final UserServiceUtils userUtils;
     private final ValidationUtil validationUtil;
 
-    private final boolean useMock = true; //  false = production (bank call)
-    private static final String BANK_PROFILE_URL = "/user/profile";
-    private static final String BANK_ACCOUNT_URL = "/user/account/";
-
-    public CustomerService(WebClient bankWebClient, JwtUtil jwtUtil,
+    public CustomerService(BankGateway bankGateway, JwtUtil jwtUtil,
                            UserServiceUtils userUtils, ValidationUtil validationUtil) {
-        this.bankWebClient = bankWebClient;
+        this.bankGateway = bankGateway;
         this.jwtUtil = jwtUtil;
         this.userUtils = userUtils;
         this.validationUtil = validationUtil;
     }
 
     // ---------------- PROFILE ----------------
-    public ApiResponseDTO<Map<String, Object>> getProfile(
+    public Mono<ApiResponseDTO<Map<String, Object>>> getProfile(
             String authHeader, String ip, String deviceId, Double latitude, Double longitude) {
 
         String mobile = jwtUtil.getMobileFromHeader(authHeader);
         log.info(LogMessages.PROFILE_FETCH_START, mobile);
         validateRequest(mobile, ip, deviceId, latitude, longitude);
 
-        if (useMock) {
-            // Mock for local testing
-            Map<String, Object> mockProfile = Map.of(
-                    "mobile", mobile,
-                    "fullName", "John Doe",
-                    "email", "john.doe@example.com",
-                    "accountType", "SAVINGS",
-                    "balance", 50000.00
-            );
-            return new ApiResponseDTO<>("SUCCESS", 200, ValidationMessages.PROFILE_FETCH_SUCCESS,
-                    Map.of("profile", mockProfile));
-        }
-
-        try {
-            BankProfileResponse bankResponse = bankWebClient.get()
-                    .uri(BANK_PROFILE_URL)
-                    .headers(h -> setBankHeaders(h, authHeader, ip, deviceId, latitude, longitude))
-                    .retrieve()
-                    .onStatus(status -> !status.is2xxSuccessful(),
-                            clientResponse -> Mono.error(new GlobalException(
-                                    ValidationMessages.BANK_API_FAILED,
-                                    clientResponse.statusCode().value())))
-                    .bodyToMono(BankProfileResponse.class)
-                    .block();
-
-            if (bankResponse == null || !bankResponse.isSuccess())
-                throw new GlobalException(
+        return bankGateway.getProfile(bankHeaders(authHeader, ip, deviceId, latitude, longitude))
+                .filter(BankProfileResponse::isSuccess)
+                .switchIfEmpty(Mono.error(() -> new GlobalException(
                         ValidationMessages.PROFILE_FETCH_FAILED,
-                        HttpStatus.BAD_REQUEST.value());
-
-            Map<String, Object> data = new HashMap<>();
-            data.put("profile", bankResponse.getProfile());
-            log.info(LogMessages.PROFILE_FETCH_SUCCESS, mobile);
-            return new ApiResponseDTO<>(
-                    ValidationMessages.STATUS_OK,
-                    HttpStatus.OK.value(),
-                    ValidationMessages.PROFILE_FETCH_SUCCESS,
-                    data);
-
-        } catch (WebClientResponseException ex) {
-            log.error("Bank API Error: {}", ex.getResponseBodyAsString());
-            throw new GlobalException("Bank API Error", ex.getStatusCode().value());
-        } catch (Exception ex) {
-            throw new GlobalException("Unexpected error: " + ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR.value());
-        }
+                        HttpStatus.BAD_REQUEST.value())))
+                .map(bankResponse -> {
+                    Map<String, Object> data = new HashMap<>();
+                    data.put("profile", bankResponse.getProfile());
+                    log.info(LogMessages.PROFILE_FETCH_SUCCESS, mobile);
+                    return new ApiResponseDTO<>(
+                            ValidationMessages.STATUS_OK,
+                            HttpStatus.OK.value(),
+                            ValidationMessages.PROFILE_FETCH_SUCCESS,
+                            data);
+                })
+                .onErrorMap(ex -> {
+                    if (ex instanceof GlobalException) {
+                        return ex;
+                    }
+                    if (ex instanceof WebClientResponseException wex) {
+                        log.error("Bank API Error: {}", wex.getResponseBodyAsString());
+                        return new GlobalException("Bank API Error", wex.getStatusCode().value());
+                    }
+                    return new GlobalException("Unexpected error: " + ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR.value());
+                });
     }
 
     // ---------------- ACCOUNT DETAILS ----------------
-    public ApiResponseDTO<Map<String, Object>> getAccountById(
+    public Mono<ApiResponseDTO<Map<String, Object>>> getAccountById(
             Long id, String authHeader, String deviceId, String ip, Double latitude, Double longitude) {
 
         String mobile = jwtUtil.getMobileFromHeader(authHeader);
         validateRequest(mobile, ip, deviceId, latitude, longitude);
 
-        if (useMock) {
-            Map<String, Object> mockAccount = Map.of(
-                    "accountId", id,
-                    "accountNumber", "XXXXXX8901",
-                    "balance", 75000.0,
-                    "ifsc", "HDFC000123",
-                    "type", "SAVINGS"
-            );
-            return new ApiResponseDTO<>("SUCCESS", 200, "Mock account fetched", Map.of("account", mockAccount));
-        }
-
-        try {
-            BankAccountResponse bankResponse = bankWebClient.get()
-                    .uri(BANK_ACCOUNT_URL + id)
-                    .headers(h -> setBankHeaders(h, authHeader, ip, deviceId, latitude, longitude))
-                    .retrieve()
-                    .bodyToMono(BankAccountResponse.class)
-                    .block();
-
-            if (bankResponse == null || !bankResponse.isSuccess())
-                throw new GlobalException(ValidationMessages.ACCOUNT_FETCH_ERROR, HttpStatus.BAD_REQUEST.value());
-
-            Map<String, Object> data = new HashMap<>();
-            data.put("account", bankResponse.getAccount());
-            log.info(LogMessages.ACCOUNT_FETCH_SUCCESS, id);
-
-            return new ApiResponseDTO<>(
-                    ValidationMessages.STATUS_OK,
-                    HttpStatus.OK.value(),
-                    ValidationMessages.ACCOUNT_FETCH_SUCCESS,
-                    data);
-
-        } catch (Exception ex) {
-            throw new GlobalException(ValidationMessages.ACCOUNT_FETCH_ERROR + ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR.value());
-        }
+        return bankGateway.getCustomerAccount(id, bankHeaders(authHeader, ip, deviceId, latitude, longitude))
+                .filter(BankAccountResponse::isSuccess)
+                .switchIfEmpty(Mono.error(() -> new GlobalException(ValidationMessages.ACCOUNT_FETCH_ERROR, HttpStatus.BAD_REQUEST.value())))
+                .map(bankResponse -> {
+                    Map<String, Object> data = new HashMap<>();
+                    data.put("account", bankResponse.getAccount());
+                    log.info(LogMessages.ACCOUNT_FETCH_SUCCESS, id);
+
+                    return new ApiResponseDTO<>(
+                            ValidationMessages.STATUS_OK,
+                            HttpStatus.OK.value(),
+                            ValidationMessages.ACCOUNT_FETCH_SUCCESS,
+                            data);
+                })
+                .onErrorMap(ex -> ex instanceof GlobalException ? ex
+                        : new GlobalException(ValidationMessages.ACCOUNT_FETCH_ERROR + ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR.value()));
     }
 
     // ---------------- HELPERS ----------------
-    private void setBankHeaders(HttpHeaders headers, String auth, String ip, String deviceId, Double lat, Double lon) {
+    private HttpHeaders bankHeaders(String auth, String ip, String deviceId, Double lat, Double lon) {
+        HttpHeaders headers = new HttpHeaders();
         headers.set(HttpHeaders.AUTHORIZATION, auth);
         headers.set("X-Device-Id", deviceId);
         headers.set("X-IP", ip);
         if (lat != null) headers.set("X-Latitude", lat.toString());
         if (lon != null) headers.set("X-Longitude", lon.toString());
         headers.set(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+        return headers;
     }
 
     private void validateRequest(String mobile, String ip, String deviceId, Double lat, Double lon) {
@@ -0,0 +1,253 @@
+package com.banking.semba.service;
+
+import com.banking.semba.constants.LogMessages;
+import com.banking.semba.constants.ValidationMessages;
+import com.banking.semba.dto.ApiResponseDTO;
+import com.banking.semba.dto.ReceiptExportRequestDTO;
+import com.banking.semba.dto.StatementExportRequestDTO;
+import com.banking.semba.dto.TransactionDownloadDTO;
+import com.banking.semba.dto.response.ExportJobResponse;
+import com.banking.semba.export.ExportJob;
+import com.banking.semba.export.ExportJobProperties;
+import com.banking.semba.export.ExportJobQueue;
+import com.banking.semba.export.ExportJobStatus;
+import com.banking.semba.globalException.GlobalException;
+import com.banking.semba.security.JwtTokenService;
+import com.banking.semba.util.UserServiceUtils;
+import com.banking.semba.util.ValidationUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Asynchronous exports: a ZIP of transaction receipts or a full account statement is rendered by
+ * {@link ExportJobQueue} while the client polls the job (or is notified through its finished event), then the
+ * file is downloaded once, directly from disk.
+ */
+@Slf4j
+@Service
+public class ExportJobService {
+
+    private static final String DOWNLOAD_PATH = "/semba/api/transactions/exports/%s/file";
+
+    // Tomcat sends the file itself once the response is committed (FileChannel.transferTo into the socket)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ExportJobQueue exportJobQueue;
+    private final ExportJobProperties properties;
+    private final TransactionDownloadService transactionDownloadService;
+    private final StatementService statementService;
+    private final AuthService authService;
+    private final ValidationUtil validationUtil;
+    private final UserServiceUtils userUtils;
+    private final JwtTokenService jwtTokenService;
+
+    public ExportJobService(ExportJobQueue exportJobQueue, ExportJobProperties properties,
+                            TransactionDownloadService transactionDownloadService, StatementService statementService,
+                            AuthService authService, ValidationUtil validationUtil, UserServiceUtils userUtils,
+                            JwtTokenService jwtTokenService) {
+        this.exportJobQueue = exportJobQueue;
+        this.properties = properties;
+        this.transactionDownloadService = transactionDownloadService;
+        this.statementService = statementService;
+        this.authService = authService;
+        this.validationUtil = validationUtil;
+        this.userUtils = userUtils;
+        this.jwtTokenService = jwtTokenService;
+    }
+
+    private void checkDeviceInfo(String mobile, String ip, String deviceId, Double latitude, Double longitude) {
+        userUtils.validateDeviceInfo(ip, deviceId, latitude, longitude, mobile);
+        validationUtil.validateIpFormat(ip, mobile);
+        validationUtil.validateDeviceIdFormat(deviceId, mobile);
+
+        if (latitude != null && longitude != null) {
+            validationUtil.validateLocation(latitude, String.valueOf(longitude), mobile);
+        }
+    }
+
+    // ---------------- SUBMIT ----------------
+    public Mono<ApiResponseDTO<ExportJobResponse>> submitReceipts(String auth, String ip, String deviceId,
+                                                                  Double latitude, Double longitude,
+                                                                  ReceiptExportRequestDTO request) {
+        return Mono.defer(() -> {
+            String mobile = authenticatedMobile(auth);
+            checkDeviceInfo(mobile, ip, deviceId, latitude, longitude);
+
+            Set<String> transactionIds = new LinkedHashSet<>();
+            for (String transactionId : request.getTransactionIds() == null ? List.<String>of() : request.getTransactionIds()) {
+                if (transactionId != null && !transactionId.isBlank()) {
+                    transactionIds.add(transactionId.trim());
+                }
+            }
+            if (transactionIds.isEmpty()) {
+                throw new GlobalException(ValidationMessages.EXPORT_TRANSACTIONS_REQUIRED, HttpStatus.BAD_REQUEST.value());
+            }
+            if (transactionIds.size() > properties.getMaxTransactionsPerJob()) {
+                throw new GlobalException(ValidationMessages.EXPORT_TOO_MANY_TRANSACTIONS, HttpStatus.BAD_REQUEST.value());
+            }
+
+            String format = "csv".equalsIgnoreCase(request.getFormat()) ? "csv" : "pdf";
+            ExportJob job = exportJobQueue.submit(mobile, "RECEIPTS", "Receipts_" + transactionIds.size() + ".zip",
+                    "application/zip",
+                    out -> writeReceiptsZip(auth, ip, deviceId, latitude, longitude, transactionIds, format, out));
+            return Mono.just(accepted(job));
+        }).onErrorResume(GlobalException.class, this::failed);
+    }
+
+    public Mono<ApiResponseDTO<ExportJobResponse>> submitStatement(String auth, String ip, String deviceId,
+                                                                   Double latitude, Double longitude,
+                                                                   StatementExportRequestDTO request) {
+        return Mono.defer(() -> {
+            String mobile = authenticatedMobile(auth);
+            checkDeviceInfo(mobile, ip, deviceId, latitude, longitude);
+            if (!StatementService.isValidRange(request.getFrom(), request.getTo())) {
+                throw new GlobalException(ValidationMessages.INVALID_STATEMENT_RANGE, HttpStatus.BAD_REQUEST.value());
+            }
+
+            String format = "pdf".equalsIgnoreCase(request.getFormat()) ? "pdf" : "csv";
+            HttpHeaders bankHeaders = authService.buildHeaders(auth, ip, deviceId, latitude, longitude);
+            ExportJob job = exportJobQueue.submit(mobile, "STATEMENT",
+                    StatementService.statementFileName(request.getFrom(), request.getTo(), format),
+                    "pdf".equals(format) ? MediaType.APPLICATION_PDF_VALUE : MediaType.TEXT_PLAIN_VALUE,
+                    out -> statementService.writeStatement(bankHeaders, request.getFrom(), request.getTo(), format, out));
+            return Mono.just(accepted(job));
+        }).onErrorResume(GlobalException.class, this::failed);
+    }
+
+    // Runs on an export worker, so blocking on each transaction fetch is fine here
+    private void writeReceiptsZip(String auth, String ip, String deviceId, Double latitude, Double longitude,
+                                  Set<String> transactionIds, String format, OutputStream out) throws IOException {
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            // Receipt PDFs are already compressed; don't spend CPU deflating them again
+            zip.setLevel(Deflater.BEST_SPEED);
+            for (String transactionId : transactionIds) {
+                TransactionDownloadDTO dto = transactionDownloadService
+                        .fetchTransactionDetails(auth, ip, deviceId, latitude, longitude, transactionId)
+                        .map(ApiResponseDTO::getData)
+                        .block();
+                if (dto == null) {
+                    throw new IOException("Transaction details unavailable: " + transactionId);
+                }
+                zip.putNextEntry(new ZipEntry(TransactionDownloadService.receiptFileName(transactionId, format)));
+                transactionDownloadService.writeReceipt(dto, format, zip);
+                zip.closeEntry();
+            }
+        }
+    }
+
+    // ---------------- STATUS ----------------
+    public Mono<ApiResponseDTO<ExportJobResponse>> getJob(String auth, String jobId) {
+        return Mono.defer(() -> {
+            ExportJob job = ownedJob(authenticatedMobile(auth), jobId);
+            return Mono.just(new ApiResponseDTO<>(ValidationMessages.STATUS_OK, HttpStatus.OK.value(),
+                    "Export job " + job.status(), toResponse(job)));
+        }).onErrorResume(GlobalException.class, this::failed);
+    }
+
+    // ---------------- DOWNLOAD ----------------
+
+    /**
+     * Serves a READY export from disk. On Tomcat's NIO connector the file is handed to sendfile, so it goes from
+     * the page cache to the socket without being copied through the JVM; otherwise it is transferred through the
+     * response stream with {@link FileChannel#transferTo}.
+     */
+    public ResponseEntity<?> download(String auth, String jobId, HttpServletRequest request) {
+        ExportJob job;
+        try {
+            job = ownedJob(authenticatedMobile(auth), jobId);
+            if (job.status() == ExportJobStatus.EXPIRED
+                    || (job.status() == ExportJobStatus.READY && !Files.isRegularFile(exportJobQueue.fileOf(job)))) {
+                throw new GlobalException(ValidationMessages.EXPORT_EXPIRED, HttpStatus.GONE.value());
+            }
+            if (job.status() != ExportJobStatus.READY) {
+                throw new GlobalException(ValidationMessages.EXPORT_NOT_READY, HttpStatus.CONFLICT.value());
+            }
+        } catch (GlobalException gex) {
+            ApiResponseDTO<ExportJobResponse> body = new ApiResponseDTO<>(ValidationMessages.STATUS_FAILED,
+                    gex.getStatus(), gex.getMessage(), null);
+            return ResponseEntity.status(gex.getStatus()).body(body);
+        }
+
+        Path file = exportJobQueue.fileOf(job);
+        long size = job.sizeBytes();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(job.contentType()));
+        headers.setContentDispositionFormData("attachment", job.fileName());
+        headers.setContentLength(size);
+        log.info("Export download | jobId={} | bytes={}", job.jobId(), size);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return new ResponseEntity<>(headers, HttpStatus.OK);
+        }
+        StreamingResponseBody body = out -> transferFile(file, size, out);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    private static void transferFile(Path file, long size, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+        }
+    }
+
+    // ---------------- HELPERS ----------------
+    private String authenticatedMobile(String auth) {
+        String mobile = jwtTokenService.extractMobileFromHeader(auth);
+        if (mobile == null || mobile.isEmpty()) {
+            log.warn(LogMessages.UPIID_VALIDATION_UNAUTHORIZED, ValidationMessages.INVALID_JWT);
+            throw new GlobalException(ValidationMessages.INVALID_JWT, HttpStatus.UNAUTHORIZED.value());
+        }
+        return mobile;
+    }
+
+    private ExportJob ownedJob(String mobile, String jobId) {
+        return exportJobQueue.find(mobile, jobId)
+                .orElseThrow(() -> new GlobalException(ValidationMessages.EXPORT_JOB_NOT_FOUND, HttpStatus.NOT_FOUND.value()));
+    }
+
+    private ApiResponseDTO<ExportJobResponse> accepted(ExportJob job) {
+        return new ApiResponseDTO<>(ValidationMessages.STATUS_OK, HttpStatus.ACCEPTED.value(),
+                "Export job queued", toResponse(job));
+    }
+
+    private static ExportJobResponse toResponse(ExportJob job) {
+        return ExportJobResponse.of(job, DOWNLOAD_PATH.formatted(job.jobId()));
+    }
+
+    private Mono<ApiResponseDTO<ExportJobResponse>> failed(GlobalException gex) {
+        String status = gex.getStatus() == HttpStatus.UNAUTHORIZED.value()
+                ? ValidationMessages.STATUS_UNAUTHORIZED : ValidationMessages.STATUS_FAILED;
+        return Mono.just(new ApiResponseDTO<>(status, gex.getStatus(), gex.getMessage(), null));
+    }
+}
@@ -5,255 +5,449 @@ import com.banking.semba.constants.ValidationMessages;
 import com.banking.semba.dto.FundScheduleRequestDTO;
 import com.banking.semba.dto.HttpResponseDTO;
 import com.banking.semba.dto.OtpVerifyRequestDTO;
-import com.banking.semba.dto.response.FundVerifyResponse;
+import com.banking.semba.entity.ScheduledTransfer;
+import com.banking.semba.enums.ScheduledTransferStatus;
+import com.banking.semba.gateway.BankGateway;
+import com.banking.semba.ifsc.IfscDirectory;
+import com.banking.semba.repository.ScheduledTransferRepository;
+import com.banking.semba.scheduler.PartitionLeaseManager;
+import com.banking.semba.scheduler.PartitionsReassignedEvent;
+import com.banking.semba.scheduler.ScheduledTransferFinishedEvent;
+import com.banking.semba.scheduler.ScheduledTransferProperties;
+import com.banking.semba.scheduler.TimingWheel;
+import com.banking.semba.scheduler.TransferDispatcher;
+import com.banking.semba.scheduler.TransferRetryEngine;
 import com.banking.semba.util.UserServiceUtils;
 import com.banking.semba.util.ValidationUtil;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Slf4j
 @Service
 public class FundSchedulerService {
 
-    private final WebClient bankWebClient;
+    private final BankGateway bankGateway;
     private final UserServiceUtils userUtils;
     private final ValidationUtil validationUtil;
+    private final TransferRetryEngine retryEngine;
+    // Transfers acknowledged by the bank, awaiting their trigger time; survives restarts
+    private final ScheduledTransferRepository scheduledTransferRepository;
+    private final ScheduledTransferProperties properties;
+    // Which partitions of the stored transfers this node loads and fires
+    private final PartitionLeaseManager leaseManager;
+    // Runs fired transfers in parallel, capped per transfer type and rate limited per receiving bank and type
+    private final TransferDispatcher dispatcher;
+    // Announces finished transfers, e.g. to advance their standing instruction
+    private final ApplicationEventPublisher eventPublisher;
+    private final IfscDirectory ifscDirectory;
+    // Transfers due within the look-ahead window, fired by the tick; the map finds a transfer's pending timeout.
+    // Both are guarded by wheelLock
+    private final TimingWheel<ScheduledTransfer> wheel;
+    private final Map<String, TimingWheel.Timeout<ScheduledTransfer>> armed = new HashMap<>();
+    private final ReentrantLock wheelLock = new ReentrantLock();
 
-    private static final boolean USE_MOCK = true; //Toggle mock vs real bank
-    private static final String BANK_SCHEDULE_URL = "/bank/transfer/schedule";
-    private static final String BANK_EXECUTE_URL = "/bank/transfer/execute";
-    private static final String BANK_VERIFY_OTP_URL = "/bank/transfer/verify-otp";
-
-    // Mock store for in-memory testing
-    private final Map<String, FundScheduleRequestDTO> scheduledTransfers = new ConcurrentHashMap<>();
-    private final Set<String> executedTransfers = Collections.synchronizedSet(new HashSet<>());
     private static final List<String> ALLOWED_TRANSFER_TYPES = List.of("IMPS", "NEFT", "RTGS");
-
-    public FundSchedulerService(WebClient bankWebClient, UserServiceUtils userUtils, ValidationUtil validationUtil) {
-        this.bankWebClient = bankWebClient;
+    // Keyset paging starts before any due time
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final int MAX_ERROR_LENGTH = 512;
+    private static final String OUTCOME_UNKNOWN = "Execution interrupted, outcome unknown";
+
+    public FundSchedulerService(BankGateway bankGateway, UserServiceUtils userUtils, ValidationUtil validationUtil,
+                                TransferRetryEngine retryEngine, ScheduledTransferRepository scheduledTransferRepository,
+                                ScheduledTransferProperties properties, PartitionLeaseManager leaseManager,
+                                TransferDispatcher dispatcher, ApplicationEventPublisher eventPublisher,
+                                IfscDirectory ifscDirectory) {
+        this.bankGateway = bankGateway;
         this.userUtils = userUtils;
         this.validationUtil = validationUtil;
+        this.retryEngine = retryEngine;
+        this.scheduledTransferRepository = scheduledTransferRepository;
+        this.properties = properties;
+        this.leaseManager = leaseManager;
+        this.dispatcher = dispatcher;
+        this.eventPublisher = eventPublisher;
+        this.ifscDirectory = ifscDirectory;
+        this.wheel = new TimingWheel<>(properties.getTick(), properties.getWheelSize(), System.currentTimeMillis());
     }
 
     // ---------------- SCHEDULE TRANSFER ----------------
-    public HttpResponseDTO scheduleTransfer(String mobile, String ip, String deviceId,
-                                            Double latitude, Double longitude, FundScheduleRequestDTO req) {
+    public Mono<HttpResponseDTO> scheduleTransfer(String mobile, String ip, String deviceId,
+                                                  Double latitude, Double longitude, FundScheduleRequestDTO req) {
         log.info("Scheduling transfer | mobile={} | from={} | to={} | amount={} | type={} | date={} | time={}",
                 mobile, req.getFromAccountNumber(), req.getToAccountNumber(),
                 req.getAmount(), req.getTransferType(), req.getScheduledDate(), req.getScheduledTime());
 
-        try {
-            //Common header + location validation
-            userUtils.validateDeviceInfo(ip, deviceId, latitude, longitude, mobile);
-            validationUtil.validateIpFormat(ip, mobile);
-            validationUtil.validateDeviceIdFormat(deviceId, mobile);
-
-            //Business-level validations
-            validateScheduleRequest(req);
-
-            // Generate transaction ID
-            String txnId = "SCHED-" + System.currentTimeMillis();
-
-            if (USE_MOCK) {
-                scheduledTransfers.put(txnId, req);
-                log.info("MOCK: Transfer scheduled successfully | txnId={}", txnId);
-
-                return new HttpResponseDTO(
-                        ValidationMessages.STATUS_OK,
-                        HttpStatus.OK.value(),
-                        "Scheduled transfer created successfully. Please verify OTP.",
-                        Map.of("transactionId", txnId, "status", "PENDING")
-                );
-            }
-
-            // Real Bank API call
-            Object bankResponse = bankWebClient.post()
-                    .uri(BANK_SCHEDULE_URL)
-                    .bodyValue(req)
-                    .retrieve()
-                    .bodyToMono(Object.class)
-                    .block();
-
-            return new HttpResponseDTO(
-                    ValidationMessages.STATUS_OK,
-                    HttpStatus.OK.value(),
-                    ValidationMessages.TRANSFER_INITIATED,
-                    bankResponse
-            );
-
-        } catch (GlobalException ex) {
-            log.warn("Validation failed during scheduling | reason={} | mobile={}", ex.getMessage(), mobile);
-            return new HttpResponseDTO(ValidationMessages.STATUS_FAILED, ex.getStatus(), ex.getMessage(), null);
-
-        } catch (WebClientResponseException ex) {
-            log.error("Bank API failed during scheduling | status={} | body={}", ex.getStatusCode(), ex.getResponseBodyAsString());
-            throw new GlobalException(ValidationMessages.BANK_API_FAILED, ex.getStatusCode().value());
-
-        } catch (Exception ex) {
-            log.error("Unexpected error during scheduling | mobile={} | error={}", mobile, ex.getMessage(), ex);
-            throw new GlobalException(ValidationMessages.UNKNOWN_ERROR, HttpStatus.INTERNAL_SERVER_ERROR.value());
-        }
+        return Mono.defer(() -> {
+                    //Common header + location validation
+                    userUtils.validateDeviceInfo(ip, deviceId, latitude, longitude, mobile);
+                    validationUtil.validateIpFormat(ip, mobile);
+                    validationUtil.validateDeviceIdFormat(deviceId, mobile);
+
+                    //Business-level validations
+                    validateScheduleRequest(req);
+
+                    return bankGateway.scheduleTransfer(req)
+                            .flatMap(ack -> {
+                                Object bankTxnId = ack.get("transactionId");
+                                // Primary key of the stored transfer, so the fallback must not collide
+                                String txnId = bankTxnId != null ? bankTxnId.toString() : "SCHED-" + UUID.randomUUID();
+                                ScheduledTransfer transfer = ScheduledTransfer.of(txnId, leaseManager.partitionOf(txnId), mobile, req,
+                                        LocalDateTime.now());
+
+                                // JDBC is blocking; keep it off the WebClient event loop
+                                return Mono.fromCallable(() -> scheduledTransferRepository.save(transfer))
+                                        .subscribeOn(Schedulers.boundedElastic())
+                                        .map(saved -> {
+                                            arm(saved);
+                                            log.info("Transfer scheduled successfully | txnId={} | dueAt={}", txnId, saved.getDueAt());
+
+                                            return new HttpResponseDTO(
+                                                    ValidationMessages.STATUS_OK,
+                                                    HttpStatus.OK.value(),
+                                                    "Scheduled transfer created successfully. Please verify OTP.",
+                                                    Map.of("transactionId", txnId, "status", ack.getOrDefault("status", "PENDING"))
+                                            );
+                                        });
+                            });
+                })
+                .onErrorResume(ex -> {
+                    if (ex instanceof GlobalException gex) {
+                        log.warn("Validation failed during scheduling | reason={} | mobile={}", gex.getMessage(), mobile);
+                        return Mono.just(new HttpResponseDTO(ValidationMessages.STATUS_FAILED, gex.getStatus(), gex.getMessage(), null));
+                    }
+                    if (ex instanceof WebClientResponseException wex) {
+                        log.error("Bank API failed during scheduling | status={} | body={}", wex.getStatusCode(), wex.getResponseBodyAsString());
+                        return Mono.error(new GlobalException(ValidationMessages.BANK_API_FAILED, wex.getStatusCode().value()));
+                    }
+                    log.error("Unexpected error during scheduling | mobile={} | error={}", mobile, ex.getMessage(), ex);
+                    return Mono.error(new GlobalException(ValidationMessages.UNKNOWN_ERROR, HttpStatus.INTERNAL_SERVER_ERROR.value()));
+                });
     }
 
     // ---------------- VERIFY OTP ----------------
-    public HttpResponseDTO verifyOtp(String mobile, String ip, String deviceId,
-                                     Double latitude, Double longitude, OtpVerifyRequestDTO otpRequest) {
+    public Mono<HttpResponseDTO> verifyOtp(String mobile, String ip, String deviceId,
+                                           Double latitude, Double longitude, OtpVerifyRequestDTO otpRequest) {
         log.info("Verifying OTP for scheduled transfer | mobile={} | txnId={}", mobile, otpRequest.getTransactionId());
 
+        return Mono.defer(() -> {
+                    // Validate device info
+                    userUtils.validateDeviceInfo(ip, deviceId, latitude, longitude, mobile);
+
+                    //  Validate request params
+                    if (otpRequest.getTransactionId() == null || otpRequest.getTransactionId().isBlank()) {
+                        throw new GlobalException(ValidationMessages.MISSING_TRANSACTION_ID, HttpStatus.BAD_REQUEST.value());
+                    }
+
+                    //  Validate OTP not blank
+                    userUtils.validateOtpNotBlank(otpRequest.getOtpCode(), mobile);
+
+                    return bankGateway.verifyScheduledTransferOtp(otpRequest)
+                            .map(bankResponse -> {
+                                log.info("Bank OTP verification success | txnId={}", bankResponse.getTransactionId());
+
+                                return new HttpResponseDTO(
+                                        ValidationMessages.STATUS_OK,
+                                        HttpStatus.OK.value(),
+                                        ValidationMessages.OTP_VERIFIED_SUCCESS,
+                                        bankResponse
+                                );
+                            });
+                })
+                .onErrorResume(ex -> {
+                    if (ex instanceof WebClientResponseException wex) {
+                        log.error("Bank API error | status={} | body={}", wex.getStatusCode(), wex.getResponseBodyAsString());
+                        return Mono.just(new HttpResponseDTO(
+                                ValidationMessages.STATUS_FAILED,
+                                wex.getStatusCode().value(),
+                                "Bank API failed: " + wex.getResponseBodyAsString(),
+                                null
+                        ));
+                    }
+                    if (ex instanceof GlobalException gex) {
+                        log.warn("Business validation failed | msg={} | mobile={}", gex.getMessage(), mobile);
+                        return Mono.just(new HttpResponseDTO(
+                                ValidationMessages.STATUS_FAILED,
+                                gex.getStatus(),
+                                gex.getMessage(),
+                                null
+                        ));
+                    }
+                    log.error("Unexpected error verifying OTP: {}", ex.getMessage(), ex);
+                    return Mono.just(new HttpResponseDTO(
+                            ValidationMessages.STATUS_FAILED,
+                            HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                            ValidationMessages.UNKNOWN_ERROR,
+                            null
+                    ));
+                });
+    }
+    // ---------------- SCHEDULER JOB ----------------
+    // The store is polled for transfers in this node's partitions due within the look-ahead window (a bounded
+    // keyset read of the (status, partition_id, due_at) index), which are armed on the timing wheel; the tick then
+    // fires each one on time
+    @Scheduled(fixedRateString = "${semba.scheduled-transfers.poll-interval:30000}")
+    public void loadUpcomingTransfers() {
+        Set<Integer> partitions = leaseManager.ownedPartitions();
+        if (partitions.isEmpty()) {
+            return;
+        }
         try {
-            // Validate device info
-            userUtils.validateDeviceInfo(ip, deviceId, latitude, longitude, mobile);
+            deadLetterStaleExecutions(partitions);
+            armUpcomingTransfers(partitions);
+        } catch (DataAccessException e) {
+            log.warn("Scheduled transfer poll skipped, store unavailable | error={}", e.getMessage());
+        }
+    }
 
-            //  Validate request params
-            if (otpRequest.getTransactionId() == null || otpRequest.getTransactionId().isBlank()) {
-                throw new GlobalException(ValidationMessages.MISSING_TRANSACTION_ID, HttpStatus.BAD_REQUEST.value());
+    @EventListener
+    public void onPartitionsReassigned(PartitionsReassignedEvent event) {
+        retryEngine.onPartitionsOwned(leaseManager.ownedPartitions().size(), properties.getPartitions());
+        if (!event.released().isEmpty()) {
+            wheelLock.lock();
+            try {
+                armed.values().removeIf(timeout -> event.released().contains(timeout.task().getPartitionId())
+                        && wheel.cancel(timeout));
+            } finally {
+                wheelLock.unlock();
             }
-
-            //  Validate OTP not blank
-            userUtils.validateOtpNotBlank(otpRequest.getOtpCode(), mobile);
-
-            //  MOCK mode
-            if (USE_MOCK) {
-                if ("1234".equals(otpRequest.getOtpCode())) {
-                    FundVerifyResponse response = FundVerifyResponse.builder()
-                            .transactionId("INBDGH6757575757575")
-                            .toName("Joya")
-                            .toAccountNumber("232323454545")
-                            .fromName("Shivangi")
-                            .fromAccountNumber("232323454545")
-                            .paymentMode("NEFT")
-                            .amount(1000.00)
-                            .remark("Scheduled Payment")
-                            .scheduledDateTime(LocalDateTime.of(2025, 8, 25, 17, 36))
-                            .scheduledDate(LocalDate.of(2025, 8, 26))
-                            .build();
-
-                    log.info("MOCK: OTP verified successfully | txnId={}", otpRequest.getTransactionId());
-                    return new HttpResponseDTO(
-                            ValidationMessages.STATUS_OK,
-                            HttpStatus.OK.value(),
-                            ValidationMessages.OTP_VERIFIED_SUCCESS,
-                            response
-                    );
-                } else {
-                    log.warn("Invalid OTP for txnId={} | mobile={}", otpRequest.getTransactionId(), mobile);
-                    throw new GlobalException(ValidationMessages.INVALID_OTP, HttpStatus.BAD_REQUEST.value());
-                }
+            // The new owner resumes from the attempt count in the store
+            retryEngine.forget(txnId -> event.released().contains(leaseManager.partitionOf(txnId)));
+        }
+        if (!event.acquired().isEmpty()) {
+            try {
+                armUpcomingTransfers(event.acquired());
+            } catch (DataAccessException e) {
+                log.warn("Acquired partitions not loaded, left to the next poll | error={}", e.getMessage());
             }
+        }
+    }
 
-            // REAL BANK CALL
-            FundVerifyResponse bankResponse = bankWebClient.post()
-                    .uri(BANK_VERIFY_OTP_URL)
-                    .bodyValue(otpRequest)
-                    .retrieve()
-                    .bodyToMono(FundVerifyResponse.class)
-                    .block();
-
-            assert bankResponse != null;
-            log.info("Bank OTP verification success | txnId={}", bankResponse.getTransactionId());
-
-            return new HttpResponseDTO(
-                    ValidationMessages.STATUS_OK,
-                    HttpStatus.OK.value(),
-                    ValidationMessages.OTP_VERIFIED_SUCCESS,
-                    bankResponse
-            );
-
-        } catch (WebClientResponseException ex) {
-            log.error("Bank API error | status={} | body={}", ex.getStatusCode(), ex.getResponseBodyAsString());
-            return new HttpResponseDTO(
-                    ValidationMessages.STATUS_FAILED,
-                    ex.getStatusCode().value(),
-                    "Bank API failed: " + ex.getResponseBodyAsString(),
-                    null
-            );
-
-        } catch (GlobalException ex) {
-            log.warn("Business validation failed | msg={} | mobile={}", ex.getMessage(), mobile);
-            return new HttpResponseDTO(
-                    ValidationMessages.STATUS_FAILED,
-                    ex.getStatus(),
-                    ex.getMessage(),
-                    null
-            );
-
-        } catch (Exception ex) {
-            log.error("Unexpected error verifying OTP: {}", ex.getMessage(), ex);
-            return new HttpResponseDTO(
-                    ValidationMessages.STATUS_FAILED,
-                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                    ValidationMessages.UNKNOWN_ERROR,
-                    null
-            );
+    @Scheduled(fixedRateString = "${semba.scheduled-transfers.tick:250}")
+    public void fireDueTransfers() {
+        List<ScheduledTransfer> due = new ArrayList<>();
+        wheelLock.lock();
+        try {
+            wheel.advance(System.currentTimeMillis(), transfer -> {
+                armed.remove(transfer.getTransactionId());
+                due.add(transfer);
+            });
+        } finally {
+            wheelLock.unlock();
+        }
+        int refused = 0;
+        for (ScheduledTransfer transfer : due) {
+            Instant dueAt = transfer.getDueAt().atZone(ZoneId.systemDefault()).toInstant();
+            if (!dispatcher.submit(transfer.getToBankCode(), transfer.getTransferType(), dueAt, () -> execute(transfer))) {
+                refused++;
+            }
+        }
+        if (refused > 0) {
+            // Not claimed, so still SCHEDULED in the store; a later poll arms them again
+            log.warn("Scheduled transfer lanes full, transfers left for a later poll | refused={}", refused);
         }
     }
-    // ---------------- MOCK SCHEDULER JOB ----------------
-    @Scheduled(fixedRate = 30000)
-    public void executeScheduledTransfers() {
-        if (scheduledTransfers.isEmpty()) return;
+
+    private void armUpcomingTransfers(Set<Integer> partitions) {
         LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizon = now.plus(properties.getLookAhead());
+        Pageable page = PageRequest.of(0, properties.getPageSize());
+        LocalDateTime afterDueAt = KEYSET_START;
+        String afterId = "";
+        // Overdue transfers reach the dispatcher on the next tick, so no more are armed than their lane has room
+        // for; the rest stay in the store until the lane drains (backpressure to this fetcher)
+        Map<String, Integer> laneRoom = new HashMap<>();
+
+        while (true) {
+            List<ScheduledTransfer> upcoming = scheduledTransferRepository.findDueAfter(partitions, horizon,
+                    afterDueAt, afterId, page);
+            for (ScheduledTransfer transfer : upcoming) {
+                if (!transfer.getDueAt().isAfter(now)) {
+                    String lane = transfer.getTransferType() + "/" + transfer.getToBankCode();
+                    int room = laneRoom.computeIfAbsent(lane,
+                            key -> dispatcher.remainingCapacity(transfer.getToBankCode(), transfer.getTransferType()));
+                    if (room <= 0) {
+                        continue;
+                    }
+                    laneRoom.put(lane, room - 1);
+                }
+                if (!arm(transfer)) {
+                    // Nearest first, so what is left waits for a later poll
+                    log.warn("Timing wheel full, remaining scheduled transfers wait for the next poll | armed={}",
+                            properties.getMaxArmed());
+                    return;
+                }
+            }
+            if (upcoming.size() < page.getPageSize()) {
+                return;
+            }
+            ScheduledTransfer last = upcoming.get(upcoming.size() - 1);
+            afterDueAt = last.getDueAt();
+            afterId = last.getTransactionId();
+        }
+    }
 
-        scheduledTransfers.forEach((txnId, req) -> {
-            LocalDateTime triggerTime = req.getScheduledDate().atTime(req.getScheduledTime());
-            if (now.isAfter(triggerTime) && !executedTransfers.contains(txnId)) {
-                log.info("Triggering scheduled transfer | txnId={}", txnId);
-                executeTransfer(txnId, req);
+    /**
+     * Puts a SCHEDULED transfer on the wheel if it is in one of this node's partitions and falls due within the
+     * look-ahead window; one already armed for another due time (e.g. rescheduled by a retry) is moved. False
+     * only when the wheel is full.
+     */
+    boolean arm(ScheduledTransfer transfer) {
+        long dueAt = transfer.getDueAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (!leaseManager.owns(transfer.getPartitionId())
+                || dueAt > System.currentTimeMillis() + properties.getLookAhead().toMillis()) {
+            return true;
+        }
+        wheelLock.lock();
+        try {
+            TimingWheel.Timeout<ScheduledTransfer> pending = armed.get(transfer.getTransactionId());
+            if (pending != null && pending.deadline() == dueAt) {
+                return true;
+            }
+            if (pending != null) {
+                wheel.cancel(pending);
+            } else if (armed.size() >= properties.getMaxArmed()) {
+                return false;
             }
-        });
+            armed.put(transfer.getTransactionId(), wheel.schedule(transfer, dueAt));
+            return true;
+        } finally {
+            wheelLock.unlock();
+        }
     }
 
-    // ---------------- EXECUTE TRANSFER ----------------
-    private void executeTransfer(String txnId, FundScheduleRequestDTO req) {
+    // Runs in a dispatcher lane once a concurrency slot and rate limit permit are free; completes when the
+    // outcome is recorded, so the slot covers the whole bank call
+    private Mono<Void> execute(ScheduledTransfer transfer) {
+        // Claiming writes to the store, which blocks
+        return Mono.fromCallable(() -> claim(transfer))
+                .subscribeOn(Schedulers.boundedElastic())
+                .filter(Boolean::booleanValue)
+                .flatMap(claimed -> executeTransfer(transfer));
+    }
+
+    private boolean claim(ScheduledTransfer transfer) {
+        String txnId = transfer.getTransactionId();
+        // Partition moved to another node since it was armed; that node loads it from the store
+        if (!leaseManager.owns(transfer.getPartitionId())) {
+            return false;
+        }
+        retryEngine.resume(txnId, transfer.getAttempts());
+        // Out of retry budget: the row stays due and is re-armed by the next poll
+        if (!retryEngine.isReady(txnId, Instant.now())) {
+            return false;
+        }
         try {
-            if (USE_MOCK) {
-                log.info("MOCK EXECUTED: {} -> {} ₹{} | Type={}", req.getFromAccountNumber(),
-                        req.getToAccountNumber(), req.getAmount(), req.getTransferType());
-                executedTransfers.add(txnId);
-                return;
+            // The status flip is the claim: a transfer is executed exactly once, even if armed twice or by two
+            // nodes around a lease handover
+            if (scheduledTransferRepository.transition(txnId, ScheduledTransferStatus.SCHEDULED,
+                    ScheduledTransferStatus.EXECUTING, LocalDateTime.now()) == 1) {
+                log.info("Triggering scheduled transfer | txnId={} | dueAt={}", txnId, transfer.getDueAt());
+                return true;
             }
+        } catch (DataAccessException e) {
+            log.warn("Scheduled transfer not claimed, store unavailable | txnId={} | error={}", txnId, e.getMessage());
+        }
+        return false;
+    }
 
-            bankWebClient.post()
-                    .uri(BANK_EXECUTE_URL)
-                    .bodyValue(req)
-                    .retrieve()
-                    .toBodilessEntity()
-                    .block();
-
-            executedTransfers.add(txnId);
-            log.info(" Real transfer executed successfully | txnId={}", txnId);
-
-        } catch (WebClientResponseException ex) {
-            log.error("Bank execution failed | txnId={} | status={} | body={}", txnId, ex.getStatusCode(), ex.getResponseBodyAsString());
-            retryFailedTransfer(txnId, req);
-        } catch (Exception ex) {
-            log.error("Execution failed | txnId={} | {}", txnId, ex.getMessage());
+    // Never re-executed automatically: the bank may already have moved the money
+    private void deadLetterStaleExecutions(Set<Integer> partitions) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ScheduledTransfer> stale = scheduledTransferRepository.findByPartitionIdInAndStatusAndUpdatedAtBefore(
+                partitions, ScheduledTransferStatus.EXECUTING, now.minus(properties.getExecutionTimeout()),
+                PageRequest.of(0, properties.getPageSize()));
+        for (ScheduledTransfer transfer : stale) {
+            if (scheduledTransferRepository.deadLetter(transfer.getTransactionId(), ScheduledTransferStatus.EXECUTING,
+                    0, OUTCOME_UNKNOWN, now) == 1) {
+                retryEngine.forget(transfer.getTransactionId()::equals);
+                log.error("Scheduled transfer dead-lettered, execution outcome unknown | txnId={} | claimedAt={}",
+                        transfer.getTransactionId(), transfer.getUpdatedAt());
+                eventPublisher.publishEvent(new ScheduledTransferFinishedEvent(transfer, ScheduledTransferStatus.DEAD_LETTERED));
+            }
         }
     }
 
+    // ---------------- EXECUTE TRANSFER ----------------
+    // Non-blocking: a slow or failing transfer only holds its own lane slot
+    private Mono<Void> executeTransfer(ScheduledTransfer transfer) {
+        String txnId = transfer.getTransactionId();
+        FundScheduleRequestDTO req = transfer.toRequest();
+        return bankGateway.executeScheduledTransfer(req)
+                // Outcomes are written to the store, which blocks; not on the WebClient event loop
+                .publishOn(Schedulers.boundedElastic())
+                // Failure handling sits above the success hook, so nothing thrown while recording success can
+                // send an executed transfer back for a retry
+                .doOnError(ex -> onExecutionFailed(transfer, ex))
+                .doOnSuccess(ignored -> {
+                    retryEngine.onSuccess(txnId);
+                    try {
+                        if (scheduledTransferRepository.markExecuted(txnId, LocalDateTime.now()) == 1) {
+                            eventPublisher.publishEvent(new ScheduledTransferFinishedEvent(transfer, ScheduledTransferStatus.EXECUTED));
+                        }
+                    } catch (DataAccessException e) {
+                        log.error("Executed transfer could not be recorded | txnId={} | error={}", txnId, e.getMessage());
+                    }
+                    log.info("Scheduled transfer executed | txnId={} | {} -> {} ₹{} | Type={}", txnId,
+                            req.getFromAccountNumber(), req.getToAccountNumber(), req.getAmount(), req.getTransferType());
+                })
+                .onErrorResume(ex -> Mono.empty());
+    }
+
     // ---------------- RETRY LOGIC ----------------
-    private void retryFailedTransfer(String txnId, FundScheduleRequestDTO req) {
-        log.warn("Retrying failed transfer | txnId={}", txnId);
+    // Re-queued with backoff by the retry engine (persisted as the new due time); permanent failures are dead-lettered
+    private void onExecutionFailed(ScheduledTransfer transfer, Throwable ex) {
+        String txnId = transfer.getTransactionId();
+        if (ex instanceof WebClientResponseException wex) {
+            log.error("Bank execution failed | txnId={} | status={} | body={}", txnId, wex.getStatusCode(), wex.getResponseBodyAsString());
+        }
+        String error = ex.getMessage() == null ? ex.getClass().getSimpleName()
+                : ex.getMessage().substring(0, Math.min(ex.getMessage().length(), MAX_ERROR_LENGTH));
+        LocalDateTime now = LocalDateTime.now();
         try {
-            Thread.sleep(5000); // Wait before retry
-            executeTransfer(txnId, req);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("Retry interrupted | txnId={}", txnId);
+            if (retryEngine.onFailure(txnId, ex) == TransferRetryEngine.Outcome.DEAD_LETTERED) {
+                if (scheduledTransferRepository.deadLetter(txnId, ScheduledTransferStatus.EXECUTING, 1, error, now) == 1) {
+                    eventPublisher.publishEvent(new ScheduledTransferFinishedEvent(transfer, ScheduledTransferStatus.DEAD_LETTERED));
+                }
+            } else {
+                Instant retryAt = retryEngine.nextAttemptAt(txnId);
+                LocalDateTime dueAt = retryAt == null ? now : LocalDateTime.ofInstant(retryAt, ZoneId.systemDefault());
+                if (scheduledTransferRepository.rescheduleRetry(txnId, dueAt, error, now) == 1) {
+                    // A short backoff would otherwise wait for the next poll
+                    transfer.setDueAt(dueAt);
+                    transfer.setAttempts(transfer.getAttempts() + 1);
+                    arm(transfer);
+                }
+            }
+        } catch (DataAccessException e) {
+            log.error("Failed transfer could not be recorded | txnId={} | error={}", txnId, e.getMessage());
         }
     }
 
     // ---------------- VALIDATION ----------------
-    private void validateScheduleRequest(FundScheduleRequestDTO req) {
+    void validateScheduleRequest(FundScheduleRequestDTO req) {
         if (req.getFromAccountNumber() == null || req.getFromAccountNumber().isBlank())
             throw new GlobalException(ValidationMessages.FROM_ACCOUNT_REQUIRED, HttpStatus.BAD_REQUEST.value());
 
@@ -274,5 +468,13 @@ public class FundSchedulerService {
 
         if (req.getScheduledDate().isEqual(LocalDate.now()) && req.getScheduledTime().isBefore(LocalTime.now()))
             throw new GlobalException("Scheduled time must be in future", HttpStatus.BAD_REQUEST.value());
+
+        if (req.getToIfscCode() != null && !req.getToIfscCode().isBlank()) {
+            if (!req.getToIfscCode().matches("^[A-Z]{4}0[A-Z0-9]{6}$"))
+                throw new GlobalException(ValidationMessages.INVALID_IFSC, HttpStatus.BAD_REQUEST.value());
+
+            if (ifscDirectory.isLoaded() && ifscDirectory.resolve(req.getToIfscCode()).isEmpty())
+                throw new GlobalException(ValidationMessages.IFSC_NOT_FOUND, HttpStatus.BAD_REQUEST.value());
+        }
     }
 }
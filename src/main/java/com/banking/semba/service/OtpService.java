@@ -12,8 +12,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -27,10 +27,9 @@ public class OtpService {
     private final UserServiceUtils userUtils;
 
     private final Map<String, OtpResponseDTO> otpStore = new ConcurrentHashMap<>();
-    private static final boolean USE_MOCK = false;
 
     // Send OTP (pre-login or post-login)
-    public HttpResponseDTO sendOtp(String auth, String ip, String deviceId,
+    public Mono<HttpResponseDTO> sendOtp(String auth, String ip, String deviceId,
                                    Double latitude, Double longitude,
                                    OtpSendRequestDTO request, boolean isPreLogin) {
         String mobile = isPreLogin
@@ -43,30 +42,16 @@ public class OtpService {
         // Device info validation
         userUtils.validateDeviceInfo(ip, deviceId, latitude, longitude, mobile);
 
-        if (USE_MOCK) {
-            OtpResponseDTO mock = OtpResponseDTO.builder()
-                    .mobile(mobile)
-                    .otpCode("123456")
-                    .message(otpUtil.buildOtpMessage(request.getContext(), "123456"))
-                    .sentAt(LocalDateTime.now())
-                    .expirySeconds(300)
-                    .success(true)
-                    .build();
-
-            otpStore.put(mobile + "_" + request.getContext(), mock);
-            return new HttpResponseDTO("SUCCESS", 200, "Mock OTP sent successfully.", mock);
-        }
-
-        // Real bank call
         var headers = otpUtil.buildHeaders(mobile, ip, deviceId, latitude, longitude, !isPreLogin);
-        OtpResponseDTO bankResp = otpUtil.sendOtpViaBank(request, headers);
-        otpStore.put(mobile + "_" + request.getContext(), bankResp);
-
-        return new HttpResponseDTO(
-                ValidationMessages.STATUS_OK,
-                HttpStatus.OK.value(),
-                ValidationMessages.OTP_SENT_SUCCESS,
-                bankResp);
+        return otpUtil.sendOtp(request, headers)
+                .map(bankResp -> {
+                    otpStore.put(mobile + "_" + request.getContext(), bankResp);
+                    return new HttpResponseDTO(
+                            ValidationMessages.STATUS_OK,
+                            HttpStatus.OK.value(),
+                            ValidationMessages.OTP_SENT_SUCCESS,
+                            bankResp);
+                });
     }
 
 //    // Verify OTP
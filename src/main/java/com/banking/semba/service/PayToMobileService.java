@@ -6,17 +6,15 @@ import com.banking.semba.constants.LogMessages;
 import com.banking.semba.constants.ValidationMessages;
 import com.banking.semba.dto.ApiResponseDTO;
 import com.banking.semba.dto.RecentPaymentsDTO;
+import com.banking.semba.gateway.BankGateway;
 import com.banking.semba.security.JwtTokenService;
 import com.banking.semba.util.UserServiceUtils;
 import com.banking.semba.util.ValidationUtil;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.HttpStatusCode;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
@@ -32,14 +30,16 @@ public class PayToMobileService {
     private final JwtTokenService jwtTokenService;
     private final UserServiceUtils userUtils;
     private final ValidationUtil validationUtil;
-    private final WebClient webClient;
+    private final BankGateway bankGateway;
     private final AuthService authService;
 
-    public PayToMobileService(JwtTokenService jwtTokenService, UserServiceUtils userUtils, ValidationUtil validationUtil, WebClient webClient, AuthService authService) {
+    private static final int RECENT_PAYMENTS_LIMIT = 5;
+
+    public PayToMobileService(JwtTokenService jwtTokenService, UserServiceUtils userUtils, ValidationUtil validationUtil, BankGateway bankGateway, AuthService authService) {
         this.jwtTokenService = jwtTokenService;
         this.userUtils = userUtils;
         this.validationUtil = validationUtil;
-        this.webClient = webClient;
+        this.bankGateway = bankGateway;
         this.authService = authService;
     }
 
@@ -139,57 +139,40 @@ public class PayToMobileService {
         );
     }
 
-    public ApiResponseDTO<List<RecentPaymentsDTO>> getRecentPayments(
+    public Mono<ApiResponseDTO<List<RecentPaymentsDTO>>> getRecentPayments(
             String auth, String ip, String deviceId, Double latitude, Double longitude
     ) {
         String mobile = jwtTokenService.extractMobileFromHeader(auth);
         checkDeviceInfo(mobile, ip, deviceId, latitude, longitude);
 
-        List<RecentPaymentsDTO> dtoList;
         HttpHeaders headers = authService.buildHeaders(mobile, ip, deviceId, latitude, longitude);
 
-        try {
-            List<Map<String, Object>> dummyPayments = webClient.get()
-                    .uri("https://jsonplaceholder.typicode.com/posts")
-                    .accept(MediaType.APPLICATION_JSON)
-                    .headers(httpHeaders -> httpHeaders.addAll(headers))
-                    .retrieve()
-                    .onStatus(HttpStatusCode::isError, response ->
-                            response.bodyToMono(String.class)
-                                    .flatMap(error -> Mono.error(
-                                            new CustomException("External API failed: " + error, "Error")
-                                    ))
-                    )
-                    .bodyToMono(new ParameterizedTypeReference<List<Map<String, Object>>>() {
-                    })
-                    .block();
-
-            if (dummyPayments == null) dummyPayments = List.of();
-
-            dtoList = dummyPayments.stream().limit(5)
-                    .map(p -> new RecentPaymentsDTO(
-                            (Integer) p.get("id"),
-                            mobile,
-                            "0700000000",
-                            1000.0,
-                            "SUCCESS",
-                            LocalDateTime.now()
-                    ))
-                    .collect(Collectors.toList());
-
-        } catch (Exception ex) {
-            return new ApiResponseDTO<>(
-                    "ERROR",
-                    HttpStatus.BAD_GATEWAY.value(),
-                    "External API failed: " + ex.getMessage(),
-                    null
-            );
-        }
-        return new ApiResponseDTO<>("Success",
-                HttpStatus.OK.value(),
-                ValidationMessages.RECENT_PAYMENTS_FETCHED,
-                dtoList
-        );
+        return bankGateway.getRecentPayments(RECENT_PAYMENTS_LIMIT, headers)
+                .onErrorMap(WebClientResponseException.class,
+                        ex -> new CustomException("External API failed: " + ex.getResponseBodyAsString(), "Error"))
+                .flatMapIterable(payments -> payments)
+                .map(payment -> new RecentPaymentsDTO(
+                        payment.id(),
+                        mobile,
+                        "0700000000",
+                        1000.0,
+                        "SUCCESS",
+                        LocalDateTime.now()
+                ))
+                .collectList()
+                .map(dtoList -> {
+                    return new ApiResponseDTO<>("Success",
+                            HttpStatus.OK.value(),
+                            ValidationMessages.RECENT_PAYMENTS_FETCHED,
+                            dtoList
+                    );
+                })
+                .onErrorResume(ex -> Mono.just(new ApiResponseDTO<>(
+                        "ERROR",
+                        HttpStatus.BAD_GATEWAY.value(),
+                        "External API failed: " + ex.getMessage(),
+                        null
+                )));
     }
 
 
@@ -0,0 +1,474 @@
+package com.banking.semba.service;
+
+import com.banking.semba.constants.ValidationMessages;
+import com.banking.semba.dto.FundScheduleRequestDTO;
+import com.banking.semba.dto.HttpResponseDTO;
+import com.banking.semba.dto.OtpVerifyRequestDTO;
+import com.banking.semba.dto.StandingInstructionRequestDTO;
+import com.banking.semba.dto.response.StandingInstructionResponse;
+import com.banking.semba.entity.ScheduledTransfer;
+import com.banking.semba.entity.StandingInstruction;
+import com.banking.semba.enums.HolidayRoll;
+import com.banking.semba.enums.ScheduledTransferStatus;
+import com.banking.semba.enums.StandingInstructionStatus;
+import com.banking.semba.gateway.BankGateway;
+import com.banking.semba.globalException.GlobalException;
+import com.banking.semba.repository.ScheduledTransferRepository;
+import com.banking.semba.repository.StandingInstructionRepository;
+import com.banking.semba.scheduler.HolidayCalendar;
+import com.banking.semba.scheduler.PartitionLeaseManager;
+import com.banking.semba.scheduler.ScheduledTransferFinishedEvent;
+import com.banking.semba.scheduler.StandingInstructionProperties;
+import com.banking.semba.util.UserServiceUtils;
+import com.banking.semba.util.ValidationUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Recurring transfers. A new standing instruction is registered with the bank like a one-off scheduled transfer
+ * and stays PENDING_VERIFICATION until the customer verifies the bank's OTP; only then does it become ACTIVE and
+ * get its first occurrence. An ACTIVE standing instruction is stored as its rule plus exactly one pending occurrence, an
+ * ordinary row in scheduled_transfers that the scheduler loads, fires and retries like any other; a million rules
+ * cost a million rules and a million pending rows however far they run. When an occurrence finishes (executed or
+ * dead-lettered) the next one is computed straight from the rule and inserted, in the same transaction that moves
+ * the rule on, so a rule can never end up with two pending occurrences or none.
+ */
+@Slf4j
+@Service
+public class StandingInstructionService {
+
+    private final BankGateway bankGateway;
+    private final UserServiceUtils userUtils;
+    private final ValidationUtil validationUtil;
+    // Validates the transfer itself and arms occurrences due soon
+    private final FundSchedulerService fundSchedulerService;
+    private final StandingInstructionRepository standingInstructionRepository;
+    private final ScheduledTransferRepository scheduledTransferRepository;
+    private final PartitionLeaseManager leaseManager;
+    private final HolidayCalendar holidayCalendar;
+    private final StandingInstructionProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final Set<ScheduledTransferStatus> FINISHED = Set.of(ScheduledTransferStatus.EXECUTED,
+            ScheduledTransferStatus.DEAD_LETTERED, ScheduledTransferStatus.CANCELLED);
+    // Count against the per-user cap
+    private static final Set<StandingInstructionStatus> OPEN = Set.of(StandingInstructionStatus.PENDING_VERIFICATION,
+            StandingInstructionStatus.ACTIVE);
+
+    /**
+     * Period {@code sequence} of a rule, due at {@code dueAt} after the holiday roll.
+     */
+    private record Occurrence(long sequence, LocalDateTime dueAt) {
+    }
+
+    public StandingInstructionService(BankGateway bankGateway, UserServiceUtils userUtils, ValidationUtil validationUtil,
+                                      FundSchedulerService fundSchedulerService,
+                                      StandingInstructionRepository standingInstructionRepository,
+                                      ScheduledTransferRepository scheduledTransferRepository,
+                                      PartitionLeaseManager leaseManager, HolidayCalendar holidayCalendar,
+                                      StandingInstructionProperties properties,
+                                      PlatformTransactionManager transactionManager) {
+        this.bankGateway = bankGateway;
+        this.userUtils = userUtils;
+        this.validationUtil = validationUtil;
+        this.fundSchedulerService = fundSchedulerService;
+        this.standingInstructionRepository = standingInstructionRepository;
+        this.scheduledTransferRepository = scheduledTransferRepository;
+        this.leaseManager = leaseManager;
+        this.holidayCalendar = holidayCalendar;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // ---------------- CREATE ----------------
+    public Mono<HttpResponseDTO> create(String mobile, String ip, String deviceId, Double latitude, Double longitude,
+                                        StandingInstructionRequestDTO req) {
+        log.info("Creating standing instruction | mobile={} | from={} | to={} | amount={} | type={} | frequency={} | interval={} | start={}",
+                mobile, req.getFromAccountNumber(), req.getToAccountNumber(), req.getAmount(), req.getTransferType(),
+                req.getFrequency(), req.getInterval(), req.getStartDate());
+
+        return Mono.defer(() -> {
+                    //Common header + location validation
+                    userUtils.validateDeviceInfo(ip, deviceId, latitude, longitude, mobile);
+                    validationUtil.validateIpFormat(ip, mobile);
+                    validationUtil.validateDeviceIdFormat(deviceId, mobile);
+
+                    //Business-level validations: the first nominal occurrence must be a valid scheduled transfer
+                    fundSchedulerService.validateScheduleRequest(firstTransfer(req));
+                    validateRecurrence(req);
+
+                    // JDBC is blocking; keep it off the event loop
+                    return Mono.fromRunnable(() -> checkLimit(mobile))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            // Registered with the bank exactly like a one-off scheduled transfer, so the same OTP
+                            // confirms it
+                            .then(Mono.defer(() -> bankGateway.scheduleTransfer(firstTransfer(req))))
+                            .publishOn(Schedulers.boundedElastic())
+                            .map(ack -> {
+                                Object bankTxnId = ack.get("transactionId");
+                                if (bankTxnId == null) {
+                                    throw new GlobalException(ValidationMessages.INVALID_RESPONSE, HttpStatus.BAD_GATEWAY.value());
+                                }
+                                StandingInstruction rule = standingInstructionRepository.save(
+                                        newRule(mobile, req, bankTxnId.toString()));
+                                log.info("Standing instruction registered, awaiting OTP | id={} | txnId={}",
+                                        rule.getId(), rule.getBankReference());
+
+                                return new HttpResponseDTO(
+                                        ValidationMessages.STATUS_OK,
+                                        HttpStatus.OK.value(),
+                                        "Standing instruction created successfully. Please verify OTP.",
+                                        Map.of("standingInstructionId", rule.getId(),
+                                                "transactionId", rule.getBankReference(),
+                                                "status", ack.getOrDefault("status", "PENDING"))
+                                );
+                            });
+                })
+                .onErrorResume(ex -> {
+                    if (ex instanceof GlobalException gex) {
+                        log.warn("Validation failed creating standing instruction | reason={} | mobile={}", gex.getMessage(), mobile);
+                        return Mono.just(new HttpResponseDTO(ValidationMessages.STATUS_FAILED, gex.getStatus(), gex.getMessage(), null));
+                    }
+                    if (ex instanceof WebClientResponseException wex) {
+                        log.error("Bank API failed creating standing instruction | status={} | body={}", wex.getStatusCode(), wex.getResponseBodyAsString());
+                        return Mono.error(new GlobalException(ValidationMessages.BANK_API_FAILED, wex.getStatusCode().value()));
+                    }
+                    log.error("Unexpected error creating standing instruction | mobile={} | error={}", mobile, ex.getMessage(), ex);
+                    return Mono.error(new GlobalException(ValidationMessages.UNKNOWN_ERROR, HttpStatus.INTERNAL_SERVER_ERROR.value()));
+                });
+    }
+
+    private void checkLimit(String mobile) {
+        if (standingInstructionRepository.countByMobileAndStatusIn(mobile, OPEN) >= properties.getMaxActivePerUser()) {
+            throw new GlobalException(ValidationMessages.STANDING_INSTRUCTION_LIMIT, HttpStatus.TOO_MANY_REQUESTS.value());
+        }
+    }
+
+    private StandingInstruction newRule(String mobile, StandingInstructionRequestDTO req, String bankReference) {
+        LocalDateTime now = LocalDateTime.now();
+        StandingInstruction rule = new StandingInstruction();
+        rule.setId(UUID.randomUUID().toString());
+        rule.setPartitionId(leaseManager.partitionOf(rule.getId()));
+        rule.setMobile(mobile);
+        rule.setFromAccountNumber(req.getFromAccountNumber());
+        rule.setToAccountNumber(req.getToAccountNumber());
+        rule.setToIfscCode(req.getToIfscCode() == null || req.getToIfscCode().isBlank() ? null : req.getToIfscCode());
+        rule.setAmount(req.getAmount());
+        rule.setTransferType(req.getTransferType().toUpperCase());
+        rule.setRemark(req.getRemark());
+        rule.setFrequency(req.getFrequency());
+        rule.setInterval(req.getInterval() == null ? 1 : req.getInterval());
+        rule.setAnchorDate(req.getStartDate());
+        rule.setFireTime(req.getScheduledTime());
+        rule.setEndDate(req.getEndDate());
+        rule.setMaxOccurrences(req.getMaxOccurrences());
+        rule.setHolidayRoll(req.getHolidayRoll() == null ? HolidayRoll.NONE : req.getHolidayRoll());
+        rule.setStatus(StandingInstructionStatus.PENDING_VERIFICATION);
+        rule.setBankReference(bankReference);
+        // Not verified by then: the sweep cancels it
+        rule.setCheckAt(now.plus(properties.getVerificationTimeout()));
+        rule.setCreatedAt(now);
+        rule.setUpdatedAt(now);
+        return rule;
+    }
+
+    // ---------------- VERIFY OTP ----------------
+    public Mono<HttpResponseDTO> verifyOtp(String mobile, String ip, String deviceId, Double latitude, Double longitude,
+                                           String id, OtpVerifyRequestDTO otpRequest) {
+        log.info("Verifying OTP for standing instruction | mobile={} | id={}", mobile, id);
+
+        return Mono.defer(() -> {
+                    userUtils.validateDeviceInfo(ip, deviceId, latitude, longitude, mobile);
+                    userUtils.validateOtpNotBlank(otpRequest.getOtpCode(), mobile);
+
+                    return Mono.fromCallable(() -> standingInstructionRepository.findByIdAndMobile(id, mobile)
+                                    .filter(rule -> rule.getStatus() == StandingInstructionStatus.PENDING_VERIFICATION)
+                                    .orElseThrow(() -> new GlobalException(ValidationMessages.STANDING_INSTRUCTION_NOT_PENDING,
+                                            HttpStatus.NOT_FOUND.value())))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .flatMap(rule -> {
+                                // The OTP is checked against the bank's registration, never the client's say-so
+                                OtpVerifyRequestDTO bankRequest = new OtpVerifyRequestDTO();
+                                bankRequest.setTransactionId(rule.getBankReference());
+                                bankRequest.setOtpCode(otpRequest.getOtpCode());
+                                return bankGateway.verifyScheduledTransferOtp(bankRequest);
+                            })
+                            .publishOn(Schedulers.boundedElastic())
+                            .map(bankResponse -> {
+                                ScheduledTransfer occurrence = transactionTemplate.execute(status -> activate(id));
+                                if (occurrence == null) {
+                                    throw new GlobalException(ValidationMessages.STANDING_INSTRUCTION_NO_OCCURRENCE,
+                                            HttpStatus.BAD_REQUEST.value());
+                                }
+                                fundSchedulerService.arm(occurrence);
+                                log.info("Standing instruction activated | id={} | firstTxnId={} | dueAt={}",
+                                        id, occurrence.getTransactionId(), occurrence.getDueAt());
+
+                                return new HttpResponseDTO(
+                                        ValidationMessages.STATUS_OK,
+                                        HttpStatus.OK.value(),
+                                        ValidationMessages.OTP_VERIFIED_SUCCESS,
+                                        Map.of("standingInstructionId", id,
+                                                "transactionId", occurrence.getTransactionId(),
+                                                "nextRunAt", occurrence.getDueAt())
+                                );
+                            });
+                })
+                .onErrorResume(ex -> {
+                    if (ex instanceof WebClientResponseException wex) {
+                        log.error("Bank API error verifying standing instruction | status={} | body={}", wex.getStatusCode(), wex.getResponseBodyAsString());
+                        return Mono.just(new HttpResponseDTO(ValidationMessages.STATUS_FAILED, wex.getStatusCode().value(),
+                                "Bank API failed: " + wex.getResponseBodyAsString(), null));
+                    }
+                    if (ex instanceof GlobalException gex) {
+                        log.warn("Standing instruction not verified | reason={} | mobile={} | id={}", gex.getMessage(), mobile, id);
+                        return Mono.just(new HttpResponseDTO(ValidationMessages.STATUS_FAILED, gex.getStatus(), gex.getMessage(), null));
+                    }
+                    log.error("Unexpected error verifying standing instruction | mobile={} | error={}", mobile, ex.getMessage(), ex);
+                    return Mono.just(new HttpResponseDTO(ValidationMessages.STATUS_FAILED,
+                            HttpStatus.INTERNAL_SERVER_ERROR.value(), ValidationMessages.UNKNOWN_ERROR, null));
+                });
+    }
+
+    // Makes a verified rule ACTIVE and inserts its first occurrence, together; null when it has none left, in
+    // which case it is cancelled instead
+    private ScheduledTransfer activate(String id) {
+        StandingInstruction rule = standingInstructionRepository.findById(id)
+                .filter(found -> found.getStatus() == StandingInstructionStatus.PENDING_VERIFICATION)
+                .orElseThrow(() -> new GlobalException(ValidationMessages.STANDING_INSTRUCTION_NOT_PENDING,
+                        HttpStatus.NOT_FOUND.value()));
+        LocalDateTime now = LocalDateTime.now();
+        // Counted from verification time: a PRECEDING roll or a slow OTP can put the first period in the past, and
+        // an end date can come before the next one
+        Occurrence first = nextOccurrence(rule, 0, now);
+        if (first == null) {
+            standingInstructionRepository.expireUnverified(id, now);
+            return null;
+        }
+        ScheduledTransfer occurrence = newOccurrence(rule, first, now);
+        // Compare-and-set, so a repeated verify or an expiry racing it activates nothing twice
+        if (standingInstructionRepository.activate(id, first.sequence(), occurrence.getTransactionId(), first.dueAt(),
+                first.dueAt().plus(properties.getCheckGrace()), now) == 0) {
+            throw new GlobalException(ValidationMessages.STANDING_INSTRUCTION_NOT_PENDING, HttpStatus.NOT_FOUND.value());
+        }
+        return scheduledTransferRepository.save(occurrence);
+    }
+
+    // ---------------- LIST ----------------
+    public Mono<HttpResponseDTO> list(String mobile) {
+        return Mono.fromCallable(() -> standingInstructionRepository.findByMobileOrderByCreatedAtDesc(mobile))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(rules -> {
+                    List<StandingInstructionResponse> body = rules.stream().map(StandingInstructionResponse::of).toList();
+                    return new HttpResponseDTO(ValidationMessages.STATUS_OK, HttpStatus.OK.value(),
+                            "Standing instructions fetched successfully", body);
+                });
+    }
+
+    // ---------------- CANCEL ----------------
+    public Mono<HttpResponseDTO> cancel(String mobile, String ip, String deviceId, Double latitude, Double longitude,
+                                        String id) {
+        log.info("Cancelling standing instruction | mobile={} | id={}", mobile, id);
+
+        return Mono.defer(() -> {
+                    userUtils.validateDeviceInfo(ip, deviceId, latitude, longitude, mobile);
+                    validationUtil.validateIpFormat(ip, mobile);
+                    validationUtil.validateDeviceIdFormat(deviceId, mobile);
+
+                    return Mono.fromCallable(() -> transactionTemplate.execute(status -> cancelRule(mobile, id)))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .map(rule -> new HttpResponseDTO(ValidationMessages.STATUS_OK, HttpStatus.OK.value(),
+                                    "Standing instruction cancelled successfully", StandingInstructionResponse.of(rule)));
+                })
+                .onErrorResume(ex -> {
+                    if (ex instanceof GlobalException gex) {
+                        log.warn("Standing instruction not cancelled | reason={} | mobile={} | id={}", gex.getMessage(), mobile, id);
+                        return Mono.just(new HttpResponseDTO(ValidationMessages.STATUS_FAILED, gex.getStatus(), gex.getMessage(), null));
+                    }
+                    log.error("Unexpected error cancelling standing instruction | mobile={} | error={}", mobile, ex.getMessage(), ex);
+                    return Mono.error(new GlobalException(ValidationMessages.UNKNOWN_ERROR, HttpStatus.INTERNAL_SERVER_ERROR.value()));
+                });
+    }
+
+    private StandingInstruction cancelRule(String mobile, String id) {
+        StandingInstruction rule = standingInstructionRepository.findByIdAndMobile(id, mobile).orElse(null);
+        LocalDateTime now = LocalDateTime.now();
+        if (rule == null || standingInstructionRepository.cancel(id, mobile, now) == 0) {
+            throw new GlobalException(ValidationMessages.STANDING_INSTRUCTION_NOT_FOUND, HttpStatus.NOT_FOUND.value());
+        }
+        // An occurrence already executing runs to the end; the rule just stops after it. A cancelled one left on
+        // the timing wheel fails its claim
+        if (rule.getPendingTransactionId() != null) {
+            scheduledTransferRepository.transition(rule.getPendingTransactionId(), ScheduledTransferStatus.SCHEDULED,
+                    ScheduledTransferStatus.CANCELLED, now);
+        }
+        rule.setStatus(StandingInstructionStatus.CANCELLED);
+        return rule;
+    }
+
+    // ---------------- ADVANCE ----------------
+    @EventListener
+    public void onTransferFinished(ScheduledTransferFinishedEvent event) {
+        ScheduledTransfer transfer = event.transfer();
+        if (transfer.getStandingInstructionId() == null) {
+            return;
+        }
+        try {
+            advance(transfer.getStandingInstructionId(), transfer.getTransactionId());
+        } catch (DataAccessException e) {
+            // The sweep advances it once the check time passes
+            log.warn("Standing instruction not advanced, left to the sweep | id={} | txnId={} | error={}",
+                    transfer.getStandingInstructionId(), transfer.getTransactionId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Catches occurrences whose completion was not seen (node died between the bank call and the advance, or the
+     * store was down at the time), and pushes back the check of those still pending, e.g. waiting on a retry.
+     * Also cancels rules whose OTP was never verified.
+     */
+    @Scheduled(fixedDelayString = "${semba.standing-instructions.sweep-interval:60000}")
+    public void sweep() {
+        Set<Integer> partitions = leaseManager.ownedPartitions();
+        if (partitions.isEmpty()) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            for (StandingInstruction rule : standingInstructionRepository.findByPartitionIdInAndStatusAndCheckAtLessThanEqualOrderByCheckAt(
+                    partitions, StandingInstructionStatus.PENDING_VERIFICATION, now, PageRequest.of(0, properties.getSweepBatchSize()))) {
+                if (standingInstructionRepository.expireUnverified(rule.getId(), now) == 1) {
+                    log.info("Standing instruction cancelled, OTP not verified in time | id={}", rule.getId());
+                }
+            }
+            List<StandingInstruction> due = standingInstructionRepository
+                    .findByPartitionIdInAndStatusAndCheckAtLessThanEqualOrderByCheckAt(partitions,
+                            StandingInstructionStatus.ACTIVE, now, PageRequest.of(0, properties.getSweepBatchSize()));
+            for (StandingInstruction rule : due) {
+                String pendingId = rule.getPendingTransactionId();
+                ScheduledTransfer pending = scheduledTransferRepository.findById(pendingId).orElse(null);
+                if (pending == null || FINISHED.contains(pending.getStatus())) {
+                    advance(rule.getId(), pendingId);
+                } else {
+                    LocalDateTime from = pending.getDueAt().isAfter(now) ? pending.getDueAt() : now;
+                    standingInstructionRepository.deferCheck(rule.getId(), pendingId, from.plus(properties.getCheckGrace()));
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Standing instruction sweep skipped, store unavailable | error={}", e.getMessage());
+        }
+    }
+
+    // Moves the rule past the finished occurrence; a no-op unless it is still the rule's pending one
+    private void advance(String ruleId, String finishedTxnId) {
+        ScheduledTransfer next = transactionTemplate.execute(status -> {
+            StandingInstruction rule = standingInstructionRepository.findById(ruleId).orElse(null);
+            if (rule == null || rule.getStatus() != StandingInstructionStatus.ACTIVE
+                    || !finishedTxnId.equals(rule.getPendingTransactionId())) {
+                return null;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            // Strictly after the finished one, so periods rolled onto the same business day run once
+            LocalDateTime after = rule.getNextRunAt() != null && rule.getNextRunAt().isAfter(now) ? rule.getNextRunAt() : now;
+            Occurrence occurrence = nextOccurrence(rule, rule.getSequence() + 1, after);
+            if (occurrence == null) {
+                if (standingInstructionRepository.complete(ruleId, finishedTxnId, now) == 1) {
+                    log.info("Standing instruction completed | id={} | occurrences={}", ruleId, rule.getOccurrences());
+                }
+                return null;
+            }
+            ScheduledTransfer transfer = newOccurrence(rule, occurrence, now);
+            // Lost the race to another node seeing the same completion
+            if (standingInstructionRepository.advance(ruleId, finishedTxnId, occurrence.sequence(),
+                    transfer.getTransactionId(), occurrence.dueAt(), occurrence.dueAt().plus(properties.getCheckGrace()),
+                    now) == 0) {
+                return null;
+            }
+            return scheduledTransferRepository.save(transfer);
+        });
+        if (next != null) {
+            fundSchedulerService.arm(next);
+            log.info("Standing instruction advanced | id={} | txnId={} | dueAt={}", ruleId, next.getTransactionId(),
+                    next.getDueAt());
+        }
+    }
+
+    // ---------------- RECURRENCE ----------------
+    /**
+     * First occurrence from period {@code fromSequence} on that is due after {@code after}, or null once the rule
+     * has run out (end date or occurrence count). Periods already past are skipped in one step, so a rule that
+     * was idle for months costs the same as one that ran yesterday.
+     */
+    private Occurrence nextOccurrence(StandingInstruction rule, long fromSequence, LocalDateTime after) {
+        if (rule.getMaxOccurrences() != null && rule.getOccurrences() >= rule.getMaxOccurrences()) {
+            return null;
+        }
+        // A roll moves a date at most maxShiftDays, so no earlier period can land after `after`
+        long sequence = Math.max(fromSequence, rule.getFrequency().firstOnOrAfter(rule.getAnchorDate(),
+                rule.getInterval(), after.toLocalDate().minusDays(holidayCalendar.maxShiftDays())));
+        for (; ; sequence++) {
+            LocalDate nominal = rule.getFrequency().nth(rule.getAnchorDate(), rule.getInterval(), sequence);
+            if (rule.getEndDate() != null && nominal.isAfter(rule.getEndDate())) {
+                return null;
+            }
+            LocalDateTime dueAt = holidayCalendar.roll(nominal, rule.getHolidayRoll()).atTime(rule.getFireTime());
+            if (dueAt.isAfter(after)) {
+                return new Occurrence(sequence, dueAt);
+            }
+        }
+    }
+
+    // Occurrence ids are derived from the rule and period, so the same period is never inserted twice
+    private ScheduledTransfer newOccurrence(StandingInstruction rule, Occurrence occurrence, LocalDateTime now) {
+        String txnId = "SI-" + rule.getId() + "-" + occurrence.sequence();
+        ScheduledTransfer transfer = ScheduledTransfer.of(txnId, leaseManager.partitionOf(txnId), rule.getMobile(),
+                rule.toRequest(occurrence.dueAt()), now);
+        transfer.setStandingInstructionId(rule.getId());
+        return transfer;
+    }
+
+    // ---------------- VALIDATION ----------------
+    private static FundScheduleRequestDTO firstTransfer(StandingInstructionRequestDTO req) {
+        FundScheduleRequestDTO first = new FundScheduleRequestDTO();
+        first.setFromAccountNumber(req.getFromAccountNumber());
+        first.setToAccountNumber(req.getToAccountNumber());
+        first.setToIfscCode(req.getToIfscCode());
+        first.setAmount(req.getAmount());
+        first.setTransferType(req.getTransferType());
+        first.setScheduledDate(req.getStartDate());
+        first.setScheduledTime(req.getScheduledTime());
+        first.setRemark(req.getRemark());
+        return first;
+    }
+
+    private void validateRecurrence(StandingInstructionRequestDTO req) {
+        if (req.getFrequency() == null)
+            throw new GlobalException(ValidationMessages.INVALID_FREQUENCY, HttpStatus.BAD_REQUEST.value());
+
+        if (req.getInterval() != null && (req.getInterval() < 1 || req.getInterval() > properties.getMaxInterval()))
+            throw new GlobalException(ValidationMessages.INVALID_INTERVAL + properties.getMaxInterval(), HttpStatus.BAD_REQUEST.value());
+
+        if (req.getEndDate() != null && req.getEndDate().isBefore(req.getStartDate()))
+            throw new GlobalException(ValidationMessages.INVALID_END_DATE, HttpStatus.BAD_REQUEST.value());
+
+        if (req.getMaxOccurrences() != null && req.getMaxOccurrences() < 1)
+            throw new GlobalException(ValidationMessages.INVALID_MAX_OCCURRENCES, HttpStatus.BAD_REQUEST.value());
+    }
+}
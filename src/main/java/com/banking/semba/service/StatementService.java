@@ -0,0 +1,229 @@
+package com.banking.semba.service;
+
+import com.banking.semba.constants.LogMessages;
+import com.banking.semba.constants.ValidationMessages;
+import com.banking.semba.dto.ApiResponseDTO;
+import com.banking.semba.dto.response.BankStatementEntry;
+import com.banking.semba.dto.response.BankStatementPage;
+import com.banking.semba.gateway.BankGateway;
+import com.banking.semba.security.JwtTokenService;
+import com.banking.semba.util.UserServiceUtils;
+import com.banking.semba.util.ValidationUtil;
+import com.itextpdf.text.*;
+import com.itextpdf.text.pdf.PdfPCell;
+import com.itextpdf.text.pdf.PdfPTable;
+import com.itextpdf.text.pdf.PdfWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Account statement export for a date range. Rows are pulled from the bank one page at a time, only as fast as
+ * they are written, and encoded straight into the response, so a year-long statement never sits in memory.
+ */
+@Slf4j
+@Service
+public class StatementService {
+
+    private static final int PAGE_SIZE = 500;
+    private static final long MAX_RANGE_DAYS = 366;
+    // PDF table rows are laid out and flushed to the response in chunks of this size
+    private static final int PDF_FLUSH_ROWS = 200;
+    private static final DateTimeFormatter ROW_TIME = DateTimeFormatter.ofPattern("dd MMM yyyy, hh:mm a");
+
+    private final BankGateway bankGateway;
+    private final AuthService authService;
+    private final ValidationUtil validationUtil;
+    private final UserServiceUtils userUtils;
+    private final JwtTokenService jwtTokenService;
+
+    public StatementService(BankGateway bankGateway, AuthService authService, ValidationUtil validationUtil,
+                            UserServiceUtils userUtils, JwtTokenService jwtTokenService) {
+        this.bankGateway = bankGateway;
+        this.authService = authService;
+        this.validationUtil = validationUtil;
+        this.userUtils = userUtils;
+        this.jwtTokenService = jwtTokenService;
+    }
+
+    private void checkDeviceInfo(String mobile, String ip, String deviceId, Double latitude, Double longitude) {
+        userUtils.validateDeviceInfo(ip, deviceId, latitude, longitude, mobile);
+        validationUtil.validateIpFormat(ip, mobile);
+        validationUtil.validateDeviceIdFormat(deviceId, mobile);
+
+        if (latitude != null && longitude != null) {
+            validationUtil.validateLocation(latitude, String.valueOf(longitude), mobile);
+        }
+    }
+
+    public Mono<ResponseEntity<?>> exportStatement(String auth, String ip, String deviceId,
+                                                   Double latitude, Double longitude,
+                                                   LocalDate from, LocalDate to, String format) {
+        String mobile = jwtTokenService.extractMobileFromHeader(auth);
+        if (mobile == null || mobile.isEmpty()) {
+            log.warn(LogMessages.UPIID_VALIDATION_UNAUTHORIZED, ValidationMessages.INVALID_JWT);
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new ApiResponseDTO<>(
+                    ValidationMessages.STATUS_UNAUTHORIZED,
+                    HttpStatus.UNAUTHORIZED.value(),
+                    ValidationMessages.INVALID_JWT,
+                    null
+            )));
+        }
+        checkDeviceInfo(mobile, ip, deviceId, latitude, longitude);
+
+        if (!isValidRange(from, to)) {
+            return Mono.just(ResponseEntity.badRequest().body(new ApiResponseDTO<>(
+                    ValidationMessages.STATUS_FAILED,
+                    HttpStatus.BAD_REQUEST.value(),
+                    ValidationMessages.INVALID_STATEMENT_RANGE,
+                    null
+            )));
+        }
+
+        log.info("Statement export requested | mobile={} | from={} | to={} | format={}", mobile, from, to, format);
+        HttpHeaders bankHeaders = authService.buildHeaders(auth, ip, deviceId, latitude, longitude);
+        // Nothing is fetched until the response body is written
+        StreamingResponseBody body = out -> writeStatement(bankHeaders, from, to, format, out);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType("pdf".equalsIgnoreCase(format) ? MediaType.APPLICATION_PDF : MediaType.TEXT_PLAIN);
+        headers.setContentDispositionFormData("attachment", statementFileName(from, to, format));
+        return Mono.just(new ResponseEntity<>(body, headers, HttpStatus.OK));
+    }
+
+    public static boolean isValidRange(LocalDate from, LocalDate to) {
+        return from != null && to != null && !from.isAfter(to) && ChronoUnit.DAYS.between(from, to) < MAX_RANGE_DAYS;
+    }
+
+    public static String statementFileName(LocalDate from, LocalDate to, String format) {
+        return "Statement_" + from + "_" + to + ("pdf".equalsIgnoreCase(format) ? ".pdf" : ".csv");
+    }
+
+    /**
+     * Pages the statement from the bank and encodes it into {@code out} as PDF or CSV (default), blocking the
+     * calling thread until done; the stream is flushed but left open.
+     */
+    public void writeStatement(HttpHeaders bankHeaders, LocalDate from, LocalDate to, String format,
+                               OutputStream out) throws IOException {
+        Flux<BankStatementEntry> rows = statementRows(from, to, bankHeaders);
+        if ("pdf".equalsIgnoreCase(format)) {
+            writeStatementPDF(rows, from, to, out);
+        } else {
+            writeStatementCSV(rows, out);
+        }
+    }
+
+    // Next page is requested only once the previous one has been handed to the writer
+    private Flux<BankStatementEntry> statementRows(LocalDate from, LocalDate to, HttpHeaders headers) {
+        return bankGateway.getStatementPage(from, to, null, PAGE_SIZE, headers)
+                .expand(page -> page.nextCursor() == null
+                        ? Mono.empty()
+                        : bankGateway.getStatementPage(from, to, page.nextCursor(), PAGE_SIZE, headers))
+                .concatMapIterable(BankStatementPage::entries, 1);
+    }
+
+    // ---------------- CSV ----------------
+    private void writeStatementCSV(Flux<BankStatementEntry> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.append("Date,Transaction ID,Description,Type,Amount,Balance\n");
+        // Closing the stream cancels the bank paging, e.g. when the client disconnects mid-download
+        try (Stream<BankStatementEntry> stream = rows.toStream(PAGE_SIZE)) {
+            Iterator<BankStatementEntry> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                BankStatementEntry row = iterator.next();
+                writer.append(csv(row.postedAt() == null ? "" : row.postedAt().format(ROW_TIME))).append(',')
+                        .append(csv(row.transactionId())).append(',')
+                        .append(csv(row.description())).append(',')
+                        .append(csv(row.type())).append(',')
+                        .append(String.valueOf(row.amount())).append(',')
+                        .append(String.valueOf(row.balance())).append('\n');
+            }
+        }
+        // Flush, not close: the servlet container owns the response stream
+        writer.flush();
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    // ---------------- PDF ----------------
+    private void writeStatementPDF(Flux<BankStatementEntry> rows, LocalDate from, LocalDate to, OutputStream out)
+            throws IOException {
+        Document document = new Document(PageSize.A4.rotate());
+        try (Stream<BankStatementEntry> stream = rows.toStream(PAGE_SIZE)) {
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            writer.setCloseStream(false);
+            document.open();
+
+            document.add(new Paragraph("Account Statement"));
+            document.add(new Paragraph("Period: " + from + " to " + to));
+            document.add(new Paragraph("Generated on: " + LocalDateTime.now().format(ROW_TIME)));
+            document.add(Chunk.NEWLINE);
+
+            PdfPTable table = new PdfPTable(new float[]{3, 4, 6, 2, 3, 3});
+            table.setWidthPercentage(100);
+            table.setHeaderRows(1);
+            // Incomplete table: each document.add lays out and releases the rows added so far
+            table.setComplete(false);
+            for (String header : new String[]{"Date", "Transaction ID", "Description", "Type", "Amount", "Balance"}) {
+                table.addCell(new PdfPCell(new Phrase(header)));
+            }
+
+            long count = 0;
+            Iterator<BankStatementEntry> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                BankStatementEntry row = iterator.next();
+                table.addCell(row.postedAt() == null ? "" : row.postedAt().format(ROW_TIME));
+                table.addCell(row.transactionId());
+                table.addCell(row.description());
+                table.addCell(row.type());
+                table.addCell(String.valueOf(row.amount()));
+                table.addCell(String.valueOf(row.balance()));
+                if (++count % PDF_FLUSH_ROWS == 0) {
+                    document.add(table);
+                }
+            }
+            table.setComplete(true);
+            document.add(table);
+            if (count == 0) {
+                document.add(new Paragraph("No transactions in this period."));
+            }
+
+            document.close();
+            log.info("Statement PDF written | rows={} | from={} | to={}", count, from, to);
+        } catch (DocumentException e) {
+            throw new IOException("Error generating statement PDF: " + e.getMessage(), e);
+        } catch (ExceptionConverter e) {
+            // iText wraps write failures, e.g. the client going away mid-download; surface them as I/O errors
+            if (e.getException() instanceof IOException io) {
+                throw io;
+            }
+            throw e;
+        }
+    }
+}
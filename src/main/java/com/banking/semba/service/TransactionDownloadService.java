@@ -1,41 +1,52 @@
 package com.banking.semba.service;
 
+import com.banking.semba.cache.TransactionCache;
 import com.banking.semba.constants.LogMessages;
 import com.banking.semba.constants.ValidationMessages;
 import com.banking.semba.dto.ApiResponseDTO;
 import com.banking.semba.dto.TransactionDownloadDTO;
+import com.banking.semba.dto.response.BankAccountHolder;
+import com.banking.semba.gateway.BankGateway;
+import com.banking.semba.receipt.ReceiptTemplate;
 import com.banking.semba.security.JwtTokenService;
 import com.banking.semba.util.UserServiceUtils;
 import com.banking.semba.util.ValidationUtil;
-import com.itextpdf.text.*;
-import com.itextpdf.text.pdf.PdfWriter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import reactor.core.publisher.Mono;
 
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Map;
 
 @Slf4j
 @Service
 public class TransactionDownloadService {
 
-    private final WebClient webClient = WebClient.builder().build();
+    private final BankGateway bankGateway;
     private final AuthService authService;
     private final ValidationUtil validationUtil;
     private final UserServiceUtils userUtils;
     private final JwtTokenService jwtTokenService;
+    private final TransactionCache transactionCache;
+    private final ReceiptTemplate receiptTemplate;
 
-    public TransactionDownloadService(AuthService authService, ValidationUtil validationUtil, UserServiceUtils userUtils, JwtTokenService jwtTokenService) {
+    public TransactionDownloadService(BankGateway bankGateway, AuthService authService, ValidationUtil validationUtil, UserServiceUtils userUtils, JwtTokenService jwtTokenService, TransactionCache transactionCache,
+                                      ReceiptTemplate receiptTemplate) {
+        this.bankGateway = bankGateway;
         this.authService = authService;
         this.validationUtil = validationUtil;
         this.userUtils = userUtils;
         this.jwtTokenService = jwtTokenService;
+        this.transactionCache = transactionCache;
+        this.receiptTemplate = receiptTemplate;
     }
 
     private void checkDeviceInfo(String mobile, String ip, String deviceId, Double latitude, Double longitude) {
@@ -48,9 +59,9 @@ public class TransactionDownloadService {
         }
     }
 
-    public ResponseEntity<?> downloadTransactionReceipt(String auth, String ip, String deviceId,
-                                                        Double latitude, Double longitude,
-                                                        String transactionId, String format) {
+    public Mono<ResponseEntity<?>> downloadTransactionReceipt(String auth, String ip, String deviceId,
+                                                              Double latitude, Double longitude,
+                                                              String transactionId, String format) {
         String mobile = jwtTokenService.extractMobileFromHeader(auth);
         if (mobile == null || mobile.isEmpty()) {
             log.warn(LogMessages.UPIID_VALIDATION_UNAUTHORIZED, ValidationMessages.INVALID_JWT);
@@ -60,134 +71,119 @@ public class TransactionDownloadService {
                     ValidationMessages.INVALID_JWT,
                     null
             );
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(unauthorizedResponse);
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(unauthorizedResponse));
         }
         checkDeviceInfo(mobile, ip, deviceId, latitude, longitude);
-        ApiResponseDTO<TransactionDownloadDTO> transactionResponse =
-                fetchTransactionDetails(auth, ip, deviceId, latitude, longitude, transactionId);
-
-        if (transactionResponse.getData() == null) {
-            String errorMsg = "Error: " + transactionResponse.getResponseMessage();
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .contentType(MediaType.TEXT_PLAIN)
-                    .body(errorMsg.getBytes(StandardCharsets.UTF_8));
-        }
 
-        TransactionDownloadDTO dto = transactionResponse.getData();
-        byte[] fileBytes;
-        HttpHeaders headers = new HttpHeaders();
+        return fetchTransactionDetails(auth, ip, deviceId, latitude, longitude, transactionId)
+                .map(transactionResponse -> {
+                    if (transactionResponse.getData() == null) {
+                        String errorMsg = "Error: " + transactionResponse.getResponseMessage();
+                        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                                .contentType(MediaType.TEXT_PLAIN)
+                                .body(errorMsg.getBytes(StandardCharsets.UTF_8));
+                    }
+
+                    TransactionDownloadDTO dto = transactionResponse.getData();
+                    HttpHeaders headers = new HttpHeaders();
+                    headers.setContentType(format.equalsIgnoreCase("csv") ? MediaType.TEXT_PLAIN : MediaType.APPLICATION_PDF);
+                    headers.setContentDispositionFormData("attachment", receiptFileName(transactionId, format));
+
+                    // Rendered straight into the response (chunked) by StreamingResponseBodyConverter, not into a byte[]
+                    StreamingResponseBody body = out -> writeReceipt(dto, format, out);
+                    return new ResponseEntity<>(body, headers, HttpStatus.OK);
+                });
+    }
+
+    public static String receiptFileName(String transactionId, String format) {
+        return "Transaction_" + transactionId + ("csv".equalsIgnoreCase(format) ? ".csv" : ".pdf");
+    }
 
-        if (format.equalsIgnoreCase("csv")) {
-            fileBytes = generateTransactionCSV(dto);
-            headers.setContentType(MediaType.TEXT_PLAIN);
-            headers.setContentDispositionFormData("attachment", "Transaction_" + transactionId + ".csv");
+    /**
+     * Writes the receipt as CSV, or PDF for any other format; the stream is flushed but left open.
+     */
+    public void writeReceipt(TransactionDownloadDTO dto, String format, OutputStream out) throws IOException {
+        if ("csv".equalsIgnoreCase(format)) {
+            writeTransactionCSV(dto, out);
         } else {
-            fileBytes = generateTransactionPDF(dto);
-            headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.setContentDispositionFormData("attachment", "Transaction_" + transactionId + ".pdf");
+            writeTransactionPDF(dto, out);
         }
+    }
+
+    public Mono<ApiResponseDTO<TransactionDownloadDTO>> fetchTransactionDetails(String auth, String ip,
+                                                                                String deviceId, Double latitude,
+                                                                                Double longitude, String transactionId) {
 
-        return new ResponseEntity<>(fileBytes, headers, HttpStatus.OK);
+        String mobile = jwtTokenService.extractMobileFromHeader(auth);
+
+        // Details, then PDF, then CSV of the same transaction are served from one bank fetch
+        return transactionCache.get(TransactionCache.DOWNLOAD, mobile, transactionId, TransactionDownloadDTO.class,
+                        TransactionDownloadDTO::getStatus,
+                        () -> fetchReceiverName(auth, ip, deviceId, latitude, longitude)
+                                .map(receiverName -> toDownloadDTO(transactionId, receiverName)))
+                .onErrorResume(error -> {
+                    log.warn("Transaction details fetch failed, using fallback | txnId={} | error={}", transactionId, error.getMessage());
+                    return Mono.empty();
+                })
+                .defaultIfEmpty(toDownloadDTO(transactionId, "Aarav Sharma"))
+                .map(dto -> new ApiResponseDTO<>(
+                        ValidationMessages.STATUS_OK,
+                        HttpStatus.OK.value(),
+                        "Transaction Fetched Successfully",
+                        dto
+                ))
+                .onErrorResume(e -> {
+                    log.error("Transaction details response failed | txnId={} | error={}", transactionId, e.getMessage(), e);
+                    return Mono.just(new ApiResponseDTO<>(
+                            ValidationMessages.STATUS_FAILED,
+                            HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                            "Error fetching transaction details: " + e.getMessage(),
+                            null
+                    ));
+                });
     }
 
-    public ApiResponseDTO<TransactionDownloadDTO> fetchTransactionDetails(String auth, String ip,
-                                                                          String deviceId, Double latitude,
-                                                                          Double longitude, String transactionId) {
-
-        ApiResponseDTO<TransactionDownloadDTO> responseDTO = new ApiResponseDTO<>();
-
-        try {
-            String apiUrl = "https://dummyjson.com/users/1";
-            HttpHeaders headers = authService.buildHeaders(auth, ip, deviceId, latitude, longitude);
-
-            Map<String, Object> apiResponse = webClient.get()
-                    .uri(apiUrl)
-                    .headers(httpHeaders -> httpHeaders.addAll(headers))
-                    .accept(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .onErrorResume(error -> {
-                        System.err.println("External API failed: " + error.getMessage());
-                        return Mono.empty();
-                    })
-                    .block();
-
-            TransactionDownloadDTO dto = new TransactionDownloadDTO();
-            dto.setTransactionId(transactionId);
-            dto.setPaymentType("PAY_TO_UPI");
-            dto.setReceiverName(apiResponse != null
-                    ? apiResponse.get("firstName") + " " + apiResponse.get("lastName")
-                    : "Aarav Sharma");
-            dto.setToAccount("aarav@ybl");
-            dto.setFromAccount("rajesh@axis");
-            dto.setBankName("Axis Bank");
-            dto.setAmount(2850.00);
-            dto.setDate(LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd MMM yyyy, hh:mm a")));
-            dto.setStatus(simulateBankStatus(transactionId));
-
-            responseDTO.setStatus(ValidationMessages.STATUS_OK);
-            responseDTO.setResponseCode(HttpStatus.OK.value());
-            responseDTO.setResponseMessage("Transaction Fetched Successfully");
-            responseDTO.setData(dto);
-
-        } catch (Exception e) {
-            System.err.println("Bank API call failed: " + e.getMessage());
-            responseDTO.setStatus(ValidationMessages.STATUS_FAILED);
-            responseDTO.setResponseCode(HttpStatus.INTERNAL_SERVER_ERROR.value());
-            responseDTO.setResponseMessage("Error fetching transaction details: " + e.getMessage());
-            responseDTO.setData(null);
-        }
+    private Mono<String> fetchReceiverName(String auth, String ip, String deviceId, Double latitude, Double longitude) {
+        HttpHeaders headers = authService.buildHeaders(auth, ip, deviceId, latitude, longitude);
 
-        return responseDTO;
+        return bankGateway.getAccountHolder(headers)
+                .map(BankAccountHolder::fullName);
     }
 
-    private byte[] generateTransactionPDF(TransactionDownloadDTO dto) {
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            Document document = new Document();
-            PdfWriter.getInstance(document, out);
-            document.open();
-
-            document.add(new Paragraph("Transaction Receipt"));
-            document.add(new Paragraph("Generated on: " +
-                    LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd MMM yyyy, hh:mm a"))));
-            document.add(Chunk.NEWLINE);
-
-            document.add(new Paragraph("Transaction ID: " + dto.getTransactionId()));
-            document.add(new Paragraph("Payment Type: " + dto.getPaymentType()));
-            document.add(new Paragraph("Receiver Name: " + dto.getReceiverName()));
-            document.add(new Paragraph("To Account: " + dto.getToAccount()));
-            document.add(new Paragraph("From Account: " + dto.getFromAccount()));
-            document.add(new Paragraph("Bank Name: " + dto.getBankName()));
-            document.add(new Paragraph("Amount: ₹" + dto.getAmount()));
-            document.add(new Paragraph("Date: " + dto.getDate()));
-            document.add(new Paragraph("Status: " + dto.getStatus()));
-            document.add(Chunk.NEWLINE);
-            document.add(new Paragraph("Thank you for using SEMBA Banking Services."));
-
-            document.close();
-            return out.toByteArray();
-
-        } catch (Exception e) {
-            throw new RuntimeException("Error generating PDF: " + e.getMessage(), e);
-        }
+    private TransactionDownloadDTO toDownloadDTO(String transactionId, String receiverName) {
+        TransactionDownloadDTO dto = new TransactionDownloadDTO();
+        dto.setTransactionId(transactionId);
+        dto.setPaymentType("PAY_TO_UPI");
+        dto.setReceiverName(receiverName);
+        dto.setToAccount("aarav@ybl");
+        dto.setFromAccount("rajesh@axis");
+        dto.setBankName("Axis Bank");
+        dto.setAmount(2850.00);
+        dto.setDate(LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd MMM yyyy, hh:mm a")));
+        dto.setStatus(simulateBankStatus(transactionId));
+        return dto;
+    }
+
+    private void writeTransactionPDF(TransactionDownloadDTO dto, OutputStream out) throws IOException {
+        receiptTemplate.write(dto, out);
     }
 
-    private byte[] generateTransactionCSV(TransactionDownloadDTO dto) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("Transaction Receipt\n");
-        sb.append("Generated on,").append(LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd MMM yyyy, hh:mm a"))).append("\n\n");
-        sb.append("Transaction ID,").append(dto.getTransactionId()).append("\n");
-        sb.append("Payment Type,").append(dto.getPaymentType()).append("\n");
-        sb.append("Receiver Name,").append(dto.getReceiverName()).append("\n");
-        sb.append("To Account,").append(dto.getToAccount()).append("\n");
-        sb.append("From Account,").append(dto.getFromAccount()).append("\n");
-        sb.append("Bank Name,").append(dto.getBankName()).append("\n");
-        sb.append("Amount,₹").append(dto.getAmount()).append("\n");
-        sb.append("Date,").append(dto.getDate()).append("\n");
-        sb.append("Status,").append(dto.getStatus()).append("\n");
-        sb.append("\nThank you for using SEMBA Banking Services.");
-
-        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    private void writeTransactionCSV(TransactionDownloadDTO dto, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.append("Transaction Receipt\n");
+        writer.append("Generated on,").append(LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd MMM yyyy, hh:mm a"))).append("\n\n");
+        writer.append("Transaction ID,").append(dto.getTransactionId()).append("\n");
+        writer.append("Payment Type,").append(dto.getPaymentType()).append("\n");
+        writer.append("Receiver Name,").append(dto.getReceiverName()).append("\n");
+        writer.append("To Account,").append(dto.getToAccount()).append("\n");
+        writer.append("From Account,").append(dto.getFromAccount()).append("\n");
+        writer.append("Bank Name,").append(dto.getBankName()).append("\n");
+        writer.append("Amount,₹").append(String.valueOf(dto.getAmount())).append("\n");
+        writer.append("Date,").append(dto.getDate()).append("\n");
+        writer.append("Status,").append(dto.getStatus()).append("\n");
+        writer.append("\nThank you for using SEMBA Banking Services.");
+        // Flush, not close: the servlet container owns the response stream
+        writer.flush();
     }
 
     private String simulateBankStatus(String transactionId) {
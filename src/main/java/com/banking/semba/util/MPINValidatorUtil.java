@@ -3,6 +3,8 @@ package com.banking.semba.util;
 import com.banking.semba.constants.ValidationMessages;
 import com.banking.semba.dto.ApiResponseDTO;
 import com.banking.semba.dto.MPINValidationResponseDTO;
+import com.banking.semba.gateway.BankCallGuard;
+import com.banking.semba.gateway.BankEndpointGroup;
 import com.banking.semba.security.JwtTokenService;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
@@ -19,12 +21,15 @@ public class MPINValidatorUtil {
     private final JwtTokenService jwtTokenService;
     private final UserServiceUtils userUtils;
     private final ValidationUtil validationUtil;
+    private final BankCallGuard bankCallGuard;
 
-    public MPINValidatorUtil(WebClient webClient, JwtTokenService jwtTokenService, UserServiceUtils userUtils, ValidationUtil validationUtil) {
+    public MPINValidatorUtil(WebClient webClient, JwtTokenService jwtTokenService, UserServiceUtils userUtils,
+                             ValidationUtil validationUtil, BankCallGuard bankCallGuard) {
         this.webClient = webClient;
         this.jwtTokenService = jwtTokenService;
         this.userUtils = userUtils;
         this.validationUtil = validationUtil;
+        this.bankCallGuard = bankCallGuard;
     }
 
     private void validateDevice(String ip, String deviceId, Double latitude, Double longitude, String mobile) {
@@ -36,7 +41,7 @@ public class MPINValidatorUtil {
         }
     }
 
-    public ApiResponseDTO<MPINValidationResponseDTO> validateMPIN(
+    public Mono<ApiResponseDTO<MPINValidationResponseDTO>> validateMPIN(
             String auth,
             String ip,
             String deviceId,
@@ -48,67 +53,50 @@ public class MPINValidatorUtil {
     ) {
         String mobile = jwtTokenService.extractMobileFromHeader(auth);
         if (mobile == null || mobile.isEmpty()) {
-            return new ApiResponseDTO<>(
+            return Mono.just(new ApiResponseDTO<>(
                     ValidationMessages.STATUS_UNAUTHORIZED,
                     HttpStatus.UNAUTHORIZED.value(),
                     ValidationMessages.INVALID_JWT,
                     null
-            );
+            ));
         }
 
         validateDevice(ip, deviceId, latitude, longitude, mobile);
 
-        try {
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("accountNumber", accountNumber);
-            requestBody.put("mpin", mpin);
-            requestBody.put("transactionId", transactionId);
-
-            String dummyMpinUrl = "https://dummy-bank-api.com/api/validateMpin";
-
-            MPINValidationResponseDTO bankResponse = webClient
-                    .post()
-                    .uri(dummyMpinUrl)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(MPINValidationResponseDTO.class)
-                    .onErrorResume(ex -> {
-                        MPINValidationResponseDTO fallbackResponse = new MPINValidationResponseDTO();
-                        fallbackResponse.setValid("1234".equals(mpin));
-                        fallbackResponse.setMessage(fallbackResponse.isValid()
-                                ? "MPIN validation success"
-                                : "MPIN validation failed");
-                        return reactor.core.publisher.Mono.just(fallbackResponse);
-                    })
-                    .block();
-
-            if (bankResponse != null && bankResponse.isValid()) {
-                return new ApiResponseDTO<>(
-                        "SUCCESS",
-                        HttpStatus.OK.value(),
-                        "MPIN validated successfully for Transaction ID: " + transactionId,
-                        bankResponse
-                );
-            } else {
-                return new ApiResponseDTO<>(
-                        "FAILED",
-                        HttpStatus.BAD_REQUEST.value(),
-                        "Invalid MPIN for Transaction ID: " + transactionId,
-                        bankResponse
-                );
-            }
-
-        } catch (Exception e) {
-            return new ApiResponseDTO<>(
-                    "ERROR",
-                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                    "MPIN validation failed: " + e.getMessage(),
-                    null
-            );
-        }
+        return Mono.defer(() -> {
+                    Map<String, Object> requestBody = new HashMap<>();
+                    requestBody.put("accountNumber", accountNumber);
+                    requestBody.put("mpin", mpin);
+                    requestBody.put("transactionId", transactionId);
+
+                    String dummyMpinUrl = "https://dummy-bank-api.com/api/validateMpin";
+
+                    return bankCallGuard.protect(BankEndpointGroup.AUTH, webClient
+                                    .post()
+                                    .uri(dummyMpinUrl)
+                                    .bodyValue(requestBody)
+                                    .retrieve()
+                                    .bodyToMono(MPINValidationResponseDTO.class))
+                            .onErrorResume(ex -> {
+                                MPINValidationResponseDTO fallbackResponse = new MPINValidationResponseDTO();
+                                fallbackResponse.setValid("1234".equals(mpin));
+                                fallbackResponse.setMessage(fallbackResponse.isValid()
+                                        ? "MPIN validation success"
+                                        : "MPIN validation failed");
+                                return Mono.just(fallbackResponse);
+                            })
+                            .map(bankResponse -> toMpinResponse(bankResponse, transactionId))
+                            .defaultIfEmpty(toMpinResponse(null, transactionId));
+                })
+                .onErrorResume(e -> Mono.just(new ApiResponseDTO<>(
+                        "ERROR",
+                        HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                        "MPIN validation failed: " + e.getMessage(),
+                        null
+                )));
     }
 
-    public ApiResponseDTO<MPINValidationResponseDTO> validateCardMPIN(
+    public Mono<ApiResponseDTO<MPINValidationResponseDTO>> validateCardMPIN(
             String mobile,
             String ip,
             String deviceId,
@@ -120,43 +108,42 @@ public class MPINValidatorUtil {
     ) {
         validateDevice(ip, deviceId, latitude, longitude, mobile);
 
-        try {
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("mobile", mobile);
-            requestBody.put("accountNumber", accountNumber);
-            requestBody.put("mpin", mpin);
-            requestBody.put("transactionId", transactionId);
-
-            // Dummy/mock URL — we simulate this
-            String dummyUrl = "https://dummy-bank-api.com/api/mpin/validate";
-
-            MPINValidationResponseDTO response = webClient.post()
-                    .uri(dummyUrl)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(MPINValidationResponseDTO.class)
-                    .onErrorResume(ex -> {
-                        MPINValidationResponseDTO fallbackResponse = new MPINValidationResponseDTO();
-                        fallbackResponse.setValid("1234".equals(mpin));
-                        fallbackResponse.setMessage(fallbackResponse.isValid()
-                                ? "Mock MPIN validation success"
-                                : "Invalid MPIN entered");
-                        return Mono.just(fallbackResponse);
-                    })
-                    .block();
-
-            if (response != null && response.isValid()) {
-                return new ApiResponseDTO<>("SUCCESS", HttpStatus.OK.value(),
-                        "MPIN validated successfully for Transaction ID: " + transactionId, response);
-            } else {
-                return new ApiResponseDTO<>("FAILED", HttpStatus.BAD_REQUEST.value(),
-                        "Invalid MPIN for Transaction ID: " + transactionId, response);
-            }
-
-        } catch (Exception e) {
-            return new ApiResponseDTO<>("ERROR", HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                    "MPIN validation failed: " + e.getMessage(), null);
+        return Mono.defer(() -> {
+                    Map<String, Object> requestBody = new HashMap<>();
+                    requestBody.put("mobile", mobile);
+                    requestBody.put("accountNumber", accountNumber);
+                    requestBody.put("mpin", mpin);
+                    requestBody.put("transactionId", transactionId);
+
+                    // Dummy/mock URL — we simulate this
+                    String dummyUrl = "https://dummy-bank-api.com/api/mpin/validate";
+
+                    return bankCallGuard.protect(BankEndpointGroup.AUTH, webClient.post()
+                                    .uri(dummyUrl)
+                                    .bodyValue(requestBody)
+                                    .retrieve()
+                                    .bodyToMono(MPINValidationResponseDTO.class))
+                            .onErrorResume(ex -> {
+                                MPINValidationResponseDTO fallbackResponse = new MPINValidationResponseDTO();
+                                fallbackResponse.setValid("1234".equals(mpin));
+                                fallbackResponse.setMessage(fallbackResponse.isValid()
+                                        ? "Mock MPIN validation success"
+                                        : "Invalid MPIN entered");
+                                return Mono.just(fallbackResponse);
+                            })
+                            .map(response -> toMpinResponse(response, transactionId))
+                            .defaultIfEmpty(toMpinResponse(null, transactionId));
+                })
+                .onErrorResume(e -> Mono.just(new ApiResponseDTO<>("ERROR", HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                        "MPIN validation failed: " + e.getMessage(), null)));
+    }
+
+    private ApiResponseDTO<MPINValidationResponseDTO> toMpinResponse(MPINValidationResponseDTO response, String transactionId) {
+        if (response != null && response.isValid()) {
+            return new ApiResponseDTO<>("SUCCESS", HttpStatus.OK.value(),
+                    "MPIN validated successfully for Transaction ID: " + transactionId, response);
         }
+        return new ApiResponseDTO<>("FAILED", HttpStatus.BAD_REQUEST.value(),
+                "Invalid MPIN for Transaction ID: " + transactionId, response);
     }
 }
-
@@ -0,0 +1,75 @@
+package com.banking.semba.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket for "extra" calls such as hedges and retries. Each regular call deposits
+ * {@code ratio} of a token, tokens also trickle in at {@code minPerSecond} so low traffic is not starved,
+ * and at most {@code maxBurst} tokens are kept. A budget that is split across nodes can be given this node's
+ * {@link #setShare share}, which scales the trickle and the burst cap.
+ */
+public class TokenBudget {
+
+    // Tokens are kept in millionths so fractional deposits fit in an AtomicLong
+    private static final long TOKEN = 1_000_000L;
+
+    private final long deposit;
+    private final double maxBurst;
+    private final double minPerSecond;
+    private volatile double share = 1.0;
+    private volatile long max;
+    private final AtomicLong tokens = new AtomicLong();
+    private final AtomicLong lastRefillNanos = new AtomicLong(System.nanoTime());
+
+    public TokenBudget(double ratio, double maxBurst, double minPerSecond) {
+        this.deposit = (long) (ratio * TOKEN);
+        this.maxBurst = maxBurst;
+        this.minPerSecond = minPerSecond;
+        this.max = (long) (maxBurst * TOKEN);
+    }
+
+    /** Sets the fraction (0 to 1) of the trickle and burst cap this instance gets; tokens above the new cap are dropped. */
+    public void setShare(double share) {
+        this.share = Math.max(0.0, Math.min(1.0, share));
+        this.max = (long) (maxBurst * this.share * TOKEN);
+        add(0);
+    }
+
+    /** Records a regular call, earning {@code ratio} of a token. */
+    public void deposit() {
+        add(deposit);
+    }
+
+    /** Takes one token if available. */
+    public boolean tryAcquire() {
+        refillByTime();
+        while (true) {
+            long current = tokens.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (tokens.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    public double available() {
+        return (double) tokens.get() / TOKEN;
+    }
+
+    private void refillByTime() {
+        if (minPerSecond <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long last = lastRefillNanos.get();
+        if (now > last && lastRefillNanos.compareAndSet(last, now)) {
+            add((long) ((now - last) / 1e9 * minPerSecond * share * TOKEN));
+        }
+    }
+
+    private void add(long amount) {
+        tokens.updateAndGet(current -> Math.min(max, current + amount));
+    }
+}
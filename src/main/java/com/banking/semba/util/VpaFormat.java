@@ -0,0 +1,53 @@
+package com.banking.semba.util;
+
+import java.util.Locale;
+
+/**
+ * UPI virtual payment address ("name@handle") checks on the payment hot path. Equivalent to
+ * {@code ^[a-zA-Z0-9.\-_]{2,256}@[a-zA-Z]{2,64}$} but a single pass over the characters, with no
+ * Pattern, Matcher or substring allocated.
+ */
+public final class VpaFormat {
+
+    private static final int MIN_NAME = 2;
+    private static final int MAX_NAME = 256;
+    private static final int MIN_HANDLE = 2;
+    private static final int MAX_HANDLE = 64;
+
+    private VpaFormat() {
+    }
+
+    public static boolean isValid(CharSequence vpa) {
+        if (vpa == null) {
+            return false;
+        }
+        int length = vpa.length();
+        int at = -1;
+        for (int i = 0; i < length; i++) {
+            char c = vpa.charAt(i);
+            if (c == '@') {
+                if (at >= 0) {
+                    return false;
+                }
+                at = i;
+            } else if (at < 0 ? !isNameChar(c) : !isLetter(c)) {
+                return false;
+            }
+        }
+        int handle = length - at - 1;
+        return at >= MIN_NAME && at <= MAX_NAME && handle >= MIN_HANDLE && handle <= MAX_HANDLE;
+    }
+
+    /** The PSP handle after '@', lower-cased; only call on a valid VPA. */
+    public static String handle(String vpa) {
+        return vpa.substring(vpa.indexOf('@') + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isNameChar(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9') || c == '.' || c == '-' || c == '_';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
@@ -0,0 +1,70 @@
+package com.banking.semba.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VpaCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void lookupsAreCachedAndCountedPerHandleIgnoringCase() {
+        VpaCache cache = cache(8);
+        AtomicInteger resolverCalls = new AtomicInteger();
+
+        for (String vpa : new String[]{"john@okaxis", "JOHN@OkAxis", "nobody@okaxis"}) {
+            cache.resolve(vpa, () -> {
+                resolverCalls.incrementAndGet();
+                return vpa.startsWith("nobody") ? Mono.empty() : Mono.just(Map.of("name", "John"));
+            }).block();
+        }
+        assertFalse(cache.resolve("nobody@OKAXIS", Mono::empty).block().found());
+
+        assertEquals(2, resolverCalls.get());
+        assertEquals(2, lookups("okaxis", "miss"));
+        assertEquals(1, lookups("okaxis", "hit"));
+        assertEquals(1, lookups("okaxis", "negative_hit"));
+    }
+
+    @Test
+    void handleTagsStayCappedUnderConcurrentLookups() {
+        VpaCache cache = cache(4);
+
+        CompletableFuture.allOf(IntStream.range(0, 8)
+                .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        cache.resolve("user" + i + "@psp" + (i % 50), Mono::empty).block();
+                    }
+                }))
+                .toArray(CompletableFuture[]::new)).join();
+
+        Set<String> tags = new HashSet<>();
+        meterRegistry.find("semba.vpa.cache.lookups").counters()
+                .forEach(counter -> tags.add(counter.getId().getTag("handle")));
+        assertTrue(tags.contains("other"));
+        assertEquals(5, tags.size(), tags.toString());
+        assertEquals(8 * 200, meterRegistry.find("semba.vpa.cache.lookups").counters().stream()
+                .mapToDouble(Counter::count).sum());
+    }
+
+    private VpaCache cache(int maxHandleTags) {
+        VpaCacheProperties properties = new VpaCacheProperties();
+        properties.setMaxHandleTags(maxHandleTags);
+        return new VpaCache(properties, meterRegistry);
+    }
+
+    private double lookups(String handle, String result) {
+        return meterRegistry.counter("semba.vpa.cache.lookups", "handle", handle, "result", result).count();
+    }
+}
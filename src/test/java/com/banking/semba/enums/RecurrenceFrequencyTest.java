@@ -0,0 +1,62 @@
+package com.banking.semba.enums;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurrenceFrequencyTest {
+
+    @Test
+    void monthlyRuleOnTheThirtyFirstClampsToMonthEndAndComesBack() {
+        LocalDate anchor = LocalDate.of(2024, 1, 31);
+
+        assertEquals(LocalDate.of(2024, 2, 29), RecurrenceFrequency.MONTHLY.nth(anchor, 1, 1));
+        assertEquals(LocalDate.of(2024, 3, 31), RecurrenceFrequency.MONTHLY.nth(anchor, 1, 2));
+        assertEquals(LocalDate.of(2024, 4, 30), RecurrenceFrequency.MONTHLY.nth(anchor, 1, 3));
+        assertEquals(LocalDate.of(2025, 2, 28), RecurrenceFrequency.MONTHLY.nth(anchor, 1, 13));
+    }
+
+    @Test
+    void leapDayAnchorFallsOnTheTwentyEighthUntilTheNextLeapYear() {
+        LocalDate anchor = LocalDate.of(2024, 2, 29);
+
+        assertEquals(LocalDate.of(2025, 2, 28), RecurrenceFrequency.MONTHLY.nth(anchor, 12, 1));
+        assertEquals(LocalDate.of(2027, 2, 28), RecurrenceFrequency.MONTHLY.nth(anchor, 12, 3));
+        assertEquals(LocalDate.of(2028, 2, 29), RecurrenceFrequency.MONTHLY.nth(anchor, 12, 4));
+    }
+
+    @Test
+    void weeklyAndDailyStepByTheirInterval() {
+        LocalDate anchor = LocalDate.of(2024, 1, 1);
+
+        assertEquals(LocalDate.of(2024, 1, 29), RecurrenceFrequency.WEEKLY.nth(anchor, 2, 2));
+        assertEquals(LocalDate.of(2024, 1, 7), RecurrenceFrequency.DAILY.nth(anchor, 3, 2));
+    }
+
+    @Test
+    void firstOnOrAfterFindsThePeriodCoveringTheDate() {
+        LocalDate anchor = LocalDate.of(2024, 1, 31);
+
+        assertEquals(0, RecurrenceFrequency.MONTHLY.firstOnOrAfter(anchor, 1, LocalDate.of(2023, 12, 1)));
+        assertEquals(0, RecurrenceFrequency.MONTHLY.firstOnOrAfter(anchor, 1, anchor));
+        assertEquals(1, RecurrenceFrequency.MONTHLY.firstOnOrAfter(anchor, 1, LocalDate.of(2024, 2, 29)));
+        assertEquals(2, RecurrenceFrequency.MONTHLY.firstOnOrAfter(anchor, 1, LocalDate.of(2024, 3, 1)));
+        assertEquals(2, RecurrenceFrequency.WEEKLY.firstOnOrAfter(LocalDate.of(2024, 1, 1), 2, LocalDate.of(2024, 1, 16)));
+    }
+
+    @Test
+    void firstOnOrAfterAgreesWithSteppingThroughEveryPeriod() {
+        LocalDate anchor = LocalDate.of(2023, 8, 31);
+        for (RecurrenceFrequency frequency : RecurrenceFrequency.values()) {
+            for (int interval = 1; interval <= 3; interval++) {
+                for (LocalDate date = anchor.plusDays(1); date.isBefore(anchor.plusYears(2)); date = date.plusDays(5)) {
+                    long k = frequency.firstOnOrAfter(anchor, interval, date);
+                    assertFalse(frequency.nth(anchor, interval, k).isBefore(date), frequency + " " + date);
+                    assertTrue(frequency.nth(anchor, interval, k - 1).isBefore(date), frequency + " " + date);
+                }
+            }
+        }
+    }
+}
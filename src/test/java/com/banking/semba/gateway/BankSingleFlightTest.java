@@ -0,0 +1,88 @@
+package com.banking.semba.gateway;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BankSingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BankSingleFlight singleFlight = new BankSingleFlight(meterRegistry);
+    private final AtomicInteger bankCalls = new AtomicInteger();
+
+    @Test
+    void concurrentIdenticalReadsShareOneBankCall() {
+        Sinks.One<String> bank = Sinks.one();
+        List<String> results = new ArrayList<>();
+
+        singleFlight.execute("balance", "9876543210", read(bank), "ACC1").subscribe(results::add);
+        singleFlight.execute("balance", "9876543210", read(bank), " ACC1 ").subscribe(results::add);
+        bank.tryEmitValue("1000.00");
+
+        assertEquals(List.of("1000.00", "1000.00"), results);
+        assertEquals(1, bankCalls.get());
+        assertEquals(1, count("leader"));
+        assertEquals(1, count("merged"));
+    }
+
+    @Test
+    void nothingIsCachedOnceTheCallCompletes() {
+        assertEquals("first", singleFlight.execute("balance", "u", read(Mono.just("first")), "ACC1").block());
+        assertEquals("second", singleFlight.execute("balance", "u", read(Mono.just("second")), "ACC1").block());
+
+        assertEquals(2, bankCalls.get());
+        assertEquals(0, count("merged"));
+    }
+
+    @Test
+    void differentUsersOrParamsAreNotMerged() {
+        Sinks.One<String> bank = Sinks.one();
+
+        singleFlight.execute("balance", "user-a", read(bank), "ACC1").subscribe();
+        singleFlight.execute("balance", "user-b", read(bank), "ACC1").subscribe();
+        singleFlight.execute("balance", "user-a", read(bank), "ACC2").subscribe();
+        bank.tryEmitValue("done");
+
+        assertEquals(3, bankCalls.get());
+    }
+
+    @Test
+    void aFailureReachesEveryCallerAndReleasesTheKey() {
+        Sinks.One<String> bank = Sinks.one();
+        AtomicReference<Throwable> first = new AtomicReference<>();
+        AtomicReference<Throwable> second = new AtomicReference<>();
+
+        singleFlight.execute("ifsc", null, read(bank), "HDFC0000001").subscribe(v -> { }, first::set);
+        singleFlight.execute("ifsc", null, read(bank), "HDFC0000001").subscribe(v -> { }, second::set);
+        bank.tryEmitError(new IllegalStateException("bank down"));
+
+        assertEquals("bank down", first.get().getMessage());
+        assertSame(first.get(), second.get());
+        assertEquals("ok", singleFlight.execute("ifsc", null, read(Mono.just("ok")), "HDFC0000001").block());
+        assertEquals(2, bankCalls.get());
+    }
+
+    private Mono<String> read(Sinks.One<String> bank) {
+        return read(bank.asMono());
+    }
+
+    private Mono<String> read(Mono<String> response) {
+        return Mono.defer(() -> {
+            bankCalls.incrementAndGet();
+            return response;
+        });
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.find("semba.bank.singleflight.calls").tag("outcome", outcome).counters().stream()
+                .mapToDouble(counter -> counter.count()).sum();
+    }
+}
@@ -0,0 +1,92 @@
+package com.banking.semba.ifsc;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IfscIndexTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void compilesTheCsvAndLooksUpBranches() throws IOException {
+        IfscIndex index = compile("""
+                \uFEFFBANK,IFSC,BRANCH,CENTRE,STATE,ADDRESS,MICR
+                HDFC Bank,HDFC0000001,Fort,Mumbai,Maharashtra,"Manekji Wadia Bldg, Fort",400240002
+                HDFC Bank,hdfc0000002 ,Andheri,मुंबई,Maharashtra,"Shop 1, ""Sai"" Complex",400240003
+                State Bank of India,SBIN0000001,Kolkata Main,Kolkata,West Bengal,Samriddhi Bhawan,700002021
+                HDFC Bank,HDFC0000001,Duplicate,Pune,Maharashtra,Ignored,0
+                Broken Bank,NOT-AN-IFSC,Nowhere,Nowhere,Nowhere,Nowhere,0
+                """, 3);
+
+        IfscBranch fort = index.find("HDFC0000001").orElseThrow();
+        assertEquals(new IfscBranch("HDFC0000001", "HDFC Bank", "Fort", "Mumbai", "Maharashtra",
+                "Manekji Wadia Bldg, Fort"), fort);
+        assertEquals("HDFC", fort.bankCode());
+
+        IfscBranch andheri = index.find(" hdfc0000002 ").orElseThrow();
+        assertEquals("मुंबई", andheri.city());
+        assertEquals("Shop 1, \"Sai\" Complex", andheri.address());
+
+        assertTrue(index.find("HDFC0000009").isEmpty());
+        assertTrue(index.find("HDFC").isEmpty());
+        assertTrue(index.find(null).isEmpty());
+    }
+
+    @Test
+    void bankCodeLookupReturnsContiguousBranchesInOrder() throws IOException {
+        IfscIndex index = compile("""
+                IFSC,BANK,BRANCH,CITY,STATE,ADDRESS
+                SBIN0000003,SBI,C,X,Y,Z
+                HDFC0000001,HDFC,A,X,Y,Z
+                SBIN0000001,SBI,A,X,Y,Z
+                ICIC0000001,ICICI,A,X,Y,Z
+                SBIN0000002,SBI,B,X,Y,Z
+                """, 5);
+
+        assertEquals(List.of("SBIN0000001", "SBIN0000002", "SBIN0000003"),
+                index.findByBankCode("sbin", 10).stream().map(IfscBranch::ifsc).toList());
+        assertEquals(2, index.findByBankCode("SBIN", 2).size());
+        assertTrue(index.findByBankCode("AXIS", 10).isEmpty());
+        assertTrue(index.findByBankCode("SB", 10).isEmpty());
+    }
+
+    @Test
+    void everyBranchOfALargeDirectoryIsFound() throws IOException {
+        StringBuilder csv = new StringBuilder("IFSC,BANK,BRANCH,CITY,STATE,ADDRESS\n");
+        for (int i = 0; i < 5000; i++) {
+            csv.append(String.format("BK%02d0%06d,Bank %d,Branch %d,City,State,Address%n", i % 40, i, i % 40, i));
+        }
+        IfscIndex index = compile(csv.toString(), 5000);
+
+        for (int i = 0; i < 5000; i++) {
+            String ifsc = String.format("BK%02d0%06d", i % 40, i);
+            assertEquals("Branch " + i, index.find(ifsc).orElseThrow().branch(), ifsc);
+        }
+        assertEquals(125, index.findByBankCode("BK07", 1000).size());
+    }
+
+    @Test
+    void rejectsAFileThatIsNotAnIndex() throws IOException {
+        Path bogus = Files.write(dir.resolve("bogus.idx"), new byte[IfscIndex.HEADER_SIZE]);
+
+        assertThrows(IllegalStateException.class, () -> IfscIndex.open(bogus));
+    }
+
+    private IfscIndex compile(String csv, int expectedCount) throws IOException {
+        Path source = Files.writeString(dir.resolve("ifsc.csv"), csv, StandardCharsets.UTF_8);
+        Path target = dir.resolve("ifsc.idx");
+        assertEquals(expectedCount, IfscIndexWriter.compile(source, target));
+        IfscIndex index = IfscIndex.open(target);
+        assertEquals(expectedCount, index.size());
+        return index;
+    }
+}
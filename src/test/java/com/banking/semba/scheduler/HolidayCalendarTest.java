@@ -0,0 +1,74 @@
+package com.banking.semba.scheduler;
+
+import com.banking.semba.enums.HolidayRoll;
+import com.banking.semba.enums.RecurrenceFrequency;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayCalendarTest {
+
+    // Saturday; the following business day is in April
+    private static final LocalDate MARCH_END_SATURDAY = LocalDate.of(2024, 3, 30);
+
+    @Test
+    void weekendRollsInEachDirection() {
+        HolidayCalendar calendar = calendar(Set.of());
+
+        assertEquals(MARCH_END_SATURDAY, calendar.roll(MARCH_END_SATURDAY, HolidayRoll.NONE));
+        assertEquals(LocalDate.of(2024, 4, 1), calendar.roll(MARCH_END_SATURDAY, HolidayRoll.FOLLOWING));
+        assertEquals(LocalDate.of(2024, 3, 29), calendar.roll(MARCH_END_SATURDAY, HolidayRoll.PRECEDING));
+        assertEquals(LocalDate.of(2024, 3, 29), calendar.roll(MARCH_END_SATURDAY, HolidayRoll.MODIFIED_FOLLOWING));
+    }
+
+    @Test
+    void modifiedFollowingStaysInTheMonthWhenItCan() {
+        HolidayCalendar calendar = calendar(Set.of());
+        LocalDate midMonthSaturday = LocalDate.of(2024, 3, 16);
+
+        assertEquals(LocalDate.of(2024, 3, 18), calendar.roll(midMonthSaturday, HolidayRoll.MODIFIED_FOLLOWING));
+    }
+
+    @Test
+    void monthEndRollBacksOverAHolidayNextToTheWeekend() {
+        HolidayCalendar calendar = calendar(Set.of(LocalDate.of(2024, 3, 29)));
+
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2024, 3, 29)));
+        assertEquals(LocalDate.of(2024, 3, 28), calendar.roll(MARCH_END_SATURDAY, HolidayRoll.MODIFIED_FOLLOWING));
+        assertEquals(3, calendar.maxShiftDays());
+    }
+
+    @Test
+    void monthlyRuleOnTheThirtyFirstRollsOffALeapDaySaturday() {
+        HolidayCalendar calendar = calendar(Set.of());
+        LocalDate leapDay = RecurrenceFrequency.MONTHLY.nth(LocalDate.of(2020, 1, 31), 1, 1);
+
+        assertEquals(LocalDate.of(2020, 2, 29), leapDay);
+        assertEquals(LocalDate.of(2020, 2, 28), calendar.roll(leapDay, HolidayRoll.MODIFIED_FOLLOWING));
+        assertEquals(LocalDate.of(2020, 3, 2), calendar.roll(leapDay, HolidayRoll.FOLLOWING));
+    }
+
+    @Test
+    void maxShiftDaysIsTheWeekendWithoutHolidays() {
+        assertEquals(2, calendar(Set.of()).maxShiftDays());
+    }
+
+    @Test
+    void rejectsAWeekendWithNoBusinessDay() {
+        StandingInstructionProperties properties = new StandingInstructionProperties();
+        properties.setWeekend(EnumSet.allOf(DayOfWeek.class));
+
+        assertThrows(IllegalArgumentException.class, () -> new HolidayCalendar(properties));
+    }
+
+    private static HolidayCalendar calendar(Set<LocalDate> holidays) {
+        StandingInstructionProperties properties = new StandingInstructionProperties();
+        properties.setHolidays(holidays);
+        return new HolidayCalendar(properties);
+    }
+}
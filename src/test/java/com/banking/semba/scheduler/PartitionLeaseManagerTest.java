@@ -0,0 +1,115 @@
+package com.banking.semba.scheduler;
+
+import com.banking.semba.entity.ScheduledTransferLease;
+import com.banking.semba.repository.ScheduledTransferLeaseRepository;
+import com.banking.semba.repository.SchedulerNodeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Several lease managers sharing one H2 database, the way cluster nodes share the lease table.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PartitionLeaseManagerTest {
+
+    private static final int PARTITIONS = 16;
+
+    @Autowired
+    private ScheduledTransferLeaseRepository leaseRepository;
+
+    @Autowired
+    private SchedulerNodeRepository nodeRepository;
+
+    @BeforeEach
+    void clean() {
+        leaseRepository.deleteAll();
+        nodeRepository.deleteAll();
+    }
+
+    @Test
+    void nodesStartingTogetherSplitThePartitions() throws Exception {
+        List<PartitionLeaseManager> nodes = List.of(node("node-a"), node("node-b"), node("node-c"));
+        CyclicBarrier barrier = new CyclicBarrier(nodes.size());
+
+        // Every round all nodes heartbeat at once, the first one racing to create the lease rows
+        for (int round = 0; round < 4; round++) {
+            CompletableFuture.allOf(nodes.stream()
+                    .map(node -> CompletableFuture.runAsync(() -> {
+                        await(barrier);
+                        node.heartbeat();
+                    }))
+                    .toArray(CompletableFuture[]::new)).join();
+        }
+
+        assertEquals(PARTITIONS, leaseRepository.count());
+        Set<Integer> covered = new HashSet<>();
+        for (PartitionLeaseManager node : nodes) {
+            Set<Integer> owned = node.ownedPartitions();
+            assertTrue(owned.size() <= 6, node.getNodeId() + " holds more than its fair share: " + owned);
+            owned.forEach(partition -> assertTrue(covered.add(partition), "partition " + partition + " owned twice"));
+        }
+        assertEquals(PARTITIONS, covered.size());
+        for (ScheduledTransferLease lease : leaseRepository.findAll()) {
+            PartitionLeaseManager owner = nodes.stream()
+                    .filter(node -> node.getNodeId().equals(lease.getOwner())).findFirst().orElseThrow();
+            assertTrue(owner.owns(lease.getPartitionId()));
+        }
+    }
+
+    @Test
+    void creatingAnExistingLeaseRowDoesNotOverwriteIt() {
+        leaseRepository.save(new ScheduledTransferLease(3));
+        assertEquals(1, leaseRepository.acquire(3, "node-a", LocalDateTime.now().plusMinutes(1), LocalDateTime.now()));
+
+        assertThrows(DataIntegrityViolationException.class, () -> leaseRepository.save(new ScheduledTransferLease(3)));
+
+        assertEquals("node-a", leaseRepository.findById(3).orElseThrow().getOwner());
+    }
+
+    @Test
+    void surplusPartitionsMoveToANodeThatJoinsLater() {
+        PartitionLeaseManager first = node("node-a");
+        first.heartbeat();
+        assertEquals(PARTITIONS, first.ownedPartitions().size());
+
+        PartitionLeaseManager second = node("node-b");
+        second.heartbeat();
+        first.heartbeat();
+        second.heartbeat();
+
+        assertEquals(PARTITIONS / 2, first.ownedPartitions().size());
+        assertEquals(PARTITIONS / 2, second.ownedPartitions().size());
+        assertTrue(IntStream.range(0, PARTITIONS).allMatch(p -> first.owns(p) != second.owns(p)));
+    }
+
+    private PartitionLeaseManager node(String nodeId) {
+        ScheduledTransferProperties properties = new ScheduledTransferProperties();
+        properties.setPartitions(PARTITIONS);
+        properties.setNodeId(nodeId);
+        return new PartitionLeaseManager(properties, leaseRepository, nodeRepository, event -> { });
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.banking.semba.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final long TICK = 100;
+
+    @Test
+    void firesAtTheEndOfTheDeadlineTickAndNeverEarly() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 8, 0);
+        wheel.schedule("a", 250);
+        List<String> fired = new ArrayList<>();
+
+        wheel.advance(299, fired::add);
+        assertTrue(fired.isEmpty());
+
+        wheel.advance(300, fired::add);
+        assertEquals(List.of("a"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void deadlinesBeyondTheFirstLevelCascadeDownAndFireOnTime() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 8, 0);
+        // Three levels up: 8 x 8 x 100ms per bucket of level 2
+        long deadline = 3 * 8 * 8 * TICK + 50;
+        wheel.schedule("far", deadline);
+        List<Long> firedAt = new ArrayList<>();
+
+        for (long now = TICK; now <= deadline + 3 * TICK; now += TICK) {
+            long at = now;
+            wheel.advance(now, task -> firedAt.add(at));
+        }
+        assertEquals(List.of((deadline / TICK + 1) * TICK), firedAt);
+    }
+
+    @Test
+    void manyRandomDeadlinesEachFireOnTheFirstAdvanceAfterTheirTick() {
+        TimingWheel<Integer> wheel = new TimingWheel<>(TICK, 16, 0);
+        Random random = new Random(42);
+        long[] deadlines = new long[2000];
+        for (int i = 0; i < deadlines.length; i++) {
+            deadlines[i] = random.nextLong(500_000);
+            wheel.schedule(i, deadlines[i]);
+        }
+        Map<Integer, Long> firedAt = new HashMap<>();
+
+        for (long now = TICK; now <= 500_000 + TICK; now += TICK) {
+            long at = now;
+            wheel.advance(now, task -> assertNull(firedAt.put(task, at), "fired twice"));
+        }
+        assertEquals(deadlines.length, firedAt.size());
+        for (int i = 0; i < deadlines.length; i++) {
+            assertEquals((deadlines[i] / TICK + 1) * TICK, firedAt.get(i), "deadline " + deadlines[i]);
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cancelledTimeoutsDoNotFire() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 8, 0);
+        TimingWheel.Timeout<String> kept = wheel.schedule("kept", 500);
+        TimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", 500);
+
+        assertTrue(wheel.cancel(cancelled));
+        assertFalse(wheel.cancel(cancelled));
+        assertFalse(cancelled.isPending());
+        assertEquals(1, wheel.size());
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(1_000, fired::add);
+        assertEquals(List.of("kept"), fired);
+        assertFalse(kept.isPending());
+        assertFalse(wheel.cancel(kept));
+    }
+
+    @Test
+    void pastDeadlinesFireOnTheNextAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, 8, 1_000);
+        wheel.schedule("late", 200);
+        List<String> fired = new ArrayList<>();
+
+        wheel.advance(1_000, fired::add);
+        assertEquals(List.of("late"), fired);
+    }
+
+    @Test
+    void rejectsWheelSizesThatAreNotAPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel<>(TICK, 10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel<>(0, 8, 0));
+    }
+}
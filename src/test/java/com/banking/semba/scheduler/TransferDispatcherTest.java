@@ -0,0 +1,150 @@
+package com.banking.semba.scheduler;
+
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransferDispatcherTest {
+
+    private static final Duration PERIOD = Duration.ofMillis(200);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> executed = new CopyOnWriteArrayList<>();
+    private final List<Long> executedAt = new CopyOnWriteArrayList<>();
+    private TransferDispatcher dispatcher;
+
+    @AfterEach
+    void shutdown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void everySubmittedTransferRunsAtTheConfiguredRate() throws InterruptedException {
+        dispatcher = dispatcher(10, 10, 4, 64);
+        long start = System.nanoTime();
+        for (int i = 0; i < 50; i++) {
+            assertTrue(dispatcher.submit("HDFC", "IMPS", Instant.now(), work("HDFC-" + i, Mono.empty())));
+        }
+
+        await(() -> executed.size() == 50, Duration.ofSeconds(5));
+        // 10 permits per period: the first 10 go at once, then one batch per refresh
+        long firstPeriod = executedAt.stream().filter(at -> at - start < PERIOD.toNanos() / 2).count();
+        assertTrue(firstPeriod <= 10, "ran " + firstPeriod + " in the first half period");
+        long elapsed = executedAt.get(executedAt.size() - 1) - start;
+        assertTrue(elapsed >= PERIOD.multipliedBy(3).toNanos(), "ran 50 in " + Duration.ofNanos(elapsed));
+    }
+
+    @Test
+    void aBankWaitingForPermitsDoesNotHoldUpAnother() throws InterruptedException {
+        dispatcher = dispatcher(1, 10, 4);
+
+        for (int i = 1; i <= 3; i++) {
+            dispatcher.submit("HDFC", "IMPS", Instant.now(), work("HDFC-" + i, Mono.empty()));
+        }
+        dispatcher.submit("SBIN", "IMPS", Instant.now(), work("SBIN-1", Mono.empty()));
+        // At most one HDFC refresh can fall between the submits
+        assertTrue(executed.contains("SBIN-1"));
+        assertTrue(executed.size() < 4, "ran " + executed);
+
+        // The rest of HDFC is kept until its next permits rather than dropped
+        await(() -> executed.size() == 4, Duration.ofSeconds(2));
+        assertEquals(List.of("HDFC-1", "HDFC-2", "HDFC-3"), executed.stream().filter(name -> name.startsWith("HDFC")).toList());
+    }
+
+    @Test
+    void lanesOfATypeShareItsConcurrency() throws InterruptedException {
+        dispatcher = dispatcher(100, 2, 2);
+        Sinks.Empty<Void> first = Sinks.empty();
+        Sinks.Empty<Void> second = Sinks.empty();
+
+        dispatcher.submit("HDFC", "IMPS", Instant.now(), work("HDFC-1", first.asMono()));
+        dispatcher.submit("ICIC", "IMPS", Instant.now(), work("ICIC-1", second.asMono()));
+        dispatcher.submit("SBIN", "IMPS", Instant.now(), work("SBIN-1", Mono.empty()));
+        Thread.sleep(100);
+        assertEquals(List.of("HDFC-1", "ICIC-1"), executed);
+
+        first.tryEmitEmpty();
+        await(() -> executed.size() == 3, Duration.ofSeconds(2));
+        assertEquals("SBIN-1", executed.get(2));
+    }
+
+    @Test
+    void oneBankIsCappedBelowTheTypeTotal() throws InterruptedException {
+        dispatcher = dispatcher(100, 10, 1);
+        Sinks.Empty<Void> running = Sinks.empty();
+
+        dispatcher.submit("HDFC", "IMPS", Instant.now(), work("HDFC-1", running.asMono()));
+        dispatcher.submit("HDFC", "IMPS", Instant.now(), work("HDFC-2", Mono.empty()));
+        dispatcher.submit(null, "IMPS", Instant.now(), work("OTHER-1", Mono.empty()));
+
+        // HDFC-2 stays in its lane until HDFC's one slot frees
+        assertEquals(List.of("HDFC-1", "OTHER-1"), executed);
+
+        running.tryEmitEmpty();
+        await(() -> executed.size() == 3, Duration.ofSeconds(2));
+        assertEquals("HDFC-2", executed.get(2));
+    }
+
+    @Test
+    void aFullLaneRefusesWork() {
+        dispatcher = dispatcher(100, 10, 1);
+        Sinks.Empty<Void> running = Sinks.empty();
+        dispatcher.submit("HDFC", "IMPS", Instant.now(), work("HDFC-0", running.asMono()));
+
+        // One more is held by pacing, ten fill the queue
+        for (int i = 1; i <= 11; i++) {
+            assertTrue(dispatcher.submit("HDFC", "IMPS", Instant.now(), work("HDFC-" + i, Mono.empty())));
+        }
+        assertFalse(dispatcher.submit("HDFC", "IMPS", Instant.now(), work("HDFC-12", Mono.empty())));
+        assertEquals(0, dispatcher.remainingCapacity("HDFC", "IMPS"));
+    }
+
+    private TransferDispatcher dispatcher(int permitsPerPeriod, int maxConcurrent, int maxConcurrentPerBank) {
+        return dispatcher(permitsPerPeriod, maxConcurrent, maxConcurrentPerBank, 10);
+    }
+
+    private TransferDispatcher dispatcher(int permitsPerPeriod, int maxConcurrent, int maxConcurrentPerBank,
+                                          int laneQueueCapacity) {
+        RateLimiterRegistry rateLimiterRegistry = RateLimiterRegistry.ofDefaults();
+        rateLimiterRegistry.rateLimiter("scheduled-imps", RateLimiterConfig.custom()
+                .limitForPeriod(permitsPerPeriod)
+                .limitRefreshPeriod(PERIOD)
+                .timeoutDuration(Duration.ofSeconds(5))
+                .build());
+        ScheduledTransferProperties properties = new ScheduledTransferProperties();
+        properties.setLaneQueueCapacity(laneQueueCapacity);
+        properties.setMaxConcurrent(Map.of("IMPS", maxConcurrent));
+        properties.setMaxConcurrentPerBank(maxConcurrentPerBank);
+        return new TransferDispatcher(properties, rateLimiterRegistry, meterRegistry);
+    }
+
+    private Supplier<Mono<Void>> work(String name, Mono<Void> call) {
+        return () -> {
+            executedAt.add(System.nanoTime());
+            executed.add(name);
+            return call;
+        };
+    }
+
+    private static void await(BooleanSupplier condition, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within " + timeout);
+            Thread.sleep(10);
+        }
+    }
+}
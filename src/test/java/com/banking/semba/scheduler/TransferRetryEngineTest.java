@@ -0,0 +1,97 @@
+package com.banking.semba.scheduler;
+
+import com.banking.semba.globalException.GlobalException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransferRetryEngineTest {
+
+    private static final GlobalException BANK_DOWN = new GlobalException("Bank unavailable", 503);
+    private static final GlobalException REJECTED = new GlobalException("Insufficient balance", 400);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TransferRetryEngine engine = new TransferRetryEngine(properties(), meterRegistry);
+
+    @Test
+    void firstAttemptIsAlwaysReady() {
+        assertTrue(engine.isReady("T1", Instant.now()));
+        assertNull(engine.nextAttemptAt("T1"));
+    }
+
+    @Test
+    void retryableFailureWaitsForItsBackoff() {
+        Instant before = Instant.now();
+        assertEquals(TransferRetryEngine.Outcome.RETRY_SCHEDULED, engine.onFailure("T1", BANK_DOWN));
+
+        Instant next = engine.nextAttemptAt("T1");
+        assertFalse(next.isBefore(before));
+        assertFalse(next.isAfter(Instant.now().plusSeconds(1)));
+        assertFalse(engine.isReady("T1", before.minusSeconds(1)));
+
+        engine.isReady("OTHER", Instant.now());
+        assertTrue(engine.isReady("T1", next));
+    }
+
+    @Test
+    void permanentFailureIsDeadLetteredAtOnce() {
+        assertEquals(TransferRetryEngine.Outcome.DEAD_LETTERED, engine.onFailure("T1", REJECTED));
+        assertNull(engine.nextAttemptAt("T1"));
+    }
+
+    @Test
+    void deadLetteredOnceMaxAttemptsAreUsed() {
+        assertEquals(TransferRetryEngine.Outcome.RETRY_SCHEDULED, engine.onFailure("T1", BANK_DOWN));
+        assertEquals(TransferRetryEngine.Outcome.RETRY_SCHEDULED, engine.onFailure("T1", BANK_DOWN));
+        assertEquals(TransferRetryEngine.Outcome.DEAD_LETTERED, engine.onFailure("T1", BANK_DOWN));
+        assertNull(engine.nextAttemptAt("T1"));
+    }
+
+    @Test
+    void resumedTransferKeepsItsStoredAttemptCount() {
+        engine.resume("T1", 2);
+
+        assertEquals(TransferRetryEngine.Outcome.DEAD_LETTERED, engine.onFailure("T1", BANK_DOWN));
+    }
+
+    @Test
+    void dueRetryIsDeferredWhenTheBudgetIsSpent() {
+        engine.onFailure("T1", BANK_DOWN);
+        Instant later = Instant.now().plusSeconds(5);
+
+        assertFalse(engine.isReady("T1", later));
+        assertEquals(1, meterRegistry.counter("semba.transfer.retry.deferred").count());
+
+        // A first attempt earns a whole token at ratio 1
+        engine.isReady("T2", Instant.now());
+        assertTrue(engine.isReady("T1", later));
+        assertFalse(engine.isReady("T1", later));
+    }
+
+    @Test
+    void forgetDropsOnlyTheMatchingTransfers() {
+        engine.onFailure("T1", BANK_DOWN);
+        engine.onFailure("T2", BANK_DOWN);
+
+        engine.forget("T1"::equals);
+
+        assertNull(engine.nextAttemptAt("T1"));
+        assertNotNull(engine.nextAttemptAt("T2"));
+        assertEquals(1, meterRegistry.get("semba.transfer.retry.pending").gauge().value());
+    }
+
+    private static TransferRetryProperties properties() {
+        TransferRetryProperties properties = new TransferRetryProperties();
+        properties.setMaxAttempts(3);
+        properties.setInitialBackoff(Duration.ofSeconds(1));
+        properties.setMaxBackoff(Duration.ofSeconds(1));
+        properties.setBudgetRatio(1);
+        properties.setBudgetMaxBurst(10);
+        properties.setBudgetMinPerSecond(0);
+        return properties;
+    }
+}
@@ -0,0 +1,81 @@
+package com.banking.semba.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BankSearchIndexTest {
+
+    private final BankSearchIndex index = BankSearchIndex.build(List.of(
+            Map.of("name", "HDFC Bank"),
+            Map.of("name", "Bank of Baroda"),
+            Map.of("name", "Kotak Mahindra Bank"),
+            Map.of("name", "State Bank of India"),
+            Map.of("name", "ICICI Bank"),
+            Map.of("name", "Axis Bank")));
+
+    @Test
+    void namePrefixRanksFirst() {
+        assertEquals("HDFC Bank", first("hdfc b"));
+        assertEquals("Bank of Baroda", first("ban"));
+    }
+
+    @Test
+    void wordPrefixMatchesInsideTheName() {
+        assertEquals("Bank of Baroda", first("bar"));
+        // Mahindra only contains "ind", so it ranks after the word that starts with it
+        assertEquals(List.of("State Bank of India", "Kotak Mahindra Bank"), names("ind", 10));
+    }
+
+    @Test
+    void substringMatchesAnywhere() {
+        assertEquals(List.of("HDFC Bank"), names("dfc", 10));
+    }
+
+    @Test
+    void typosWithinOneEditStillMatch() {
+        assertEquals(List.of("HDFC Bank"), names("hfdc", 10));
+        assertEquals(List.of("Kotak Mahindra Bank"), names("kotk", 10));
+        assertTrue(names("zzzz", 10).isEmpty());
+    }
+
+    @Test
+    void resultsStopAtTheLimit() {
+        assertEquals(3, names("bank", 3).size());
+        assertTrue(names("bank", 0).isEmpty());
+        assertTrue(names("  ", 10).isEmpty());
+        assertTrue(index.search(null, 10).isEmpty());
+    }
+
+    @Test
+    void buildsFromADataListAndSkipsEntriesWithoutAName() {
+        BankSearchIndex wrapped = BankSearchIndex.build(Map.of("data", List.of(
+                Map.of("BANK", "Punjab National Bank"), Map.of("code", "XXXX"), "not a map")));
+
+        assertEquals(1, wrapped.size());
+        assertEquals(List.of(Map.of("BANK", "Punjab National Bank")), wrapped.search("punjab", 10));
+    }
+
+    @Test
+    void boundedDistanceCountsATranspositionAsOneEdit() {
+        assertEquals(1, BankSearchIndex.boundedDistance("hfdc", "hdfc", 2));
+        assertEquals(3, BankSearchIndex.boundedDistance("kitten", "sitting", 3));
+        assertEquals(3, BankSearchIndex.boundedDistance("abcdef", "uvwxyz", 2));
+    }
+
+    @Test
+    void normalizeLowerCasesAndCollapsesPunctuation() {
+        assertEquals("hdfc bank ltd", BankSearchIndex.normalize("  HDFC   Bank, Ltd. "));
+    }
+
+    private String first(String query) {
+        return names(query, 1).get(0);
+    }
+
+    private List<String> names(String query, int limit) {
+        return index.search(query, limit).stream().map(entry -> (String) ((Map<?, ?>) entry).get("name")).toList();
+    }
+}
@@ -0,0 +1,77 @@
+package com.banking.semba.service;
+
+import com.banking.semba.dto.response.BankStatementEntry;
+import com.banking.semba.dto.response.BankStatementPage;
+import com.banking.semba.gateway.BankGateway;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StatementServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 1, 31);
+
+    @Test
+    void rangeMustBeOrderedAndUnderAYear() {
+        assertTrue(StatementService.isValidRange(FROM, FROM));
+        assertTrue(StatementService.isValidRange(FROM, FROM.plusDays(365)));
+        assertFalse(StatementService.isValidRange(FROM, FROM.plusDays(366)));
+        assertFalse(StatementService.isValidRange(TO, FROM));
+        assertFalse(StatementService.isValidRange(null, TO));
+        assertFalse(StatementService.isValidRange(FROM, null));
+    }
+
+    @Test
+    void csvFollowsEveryPageAndQuotesFieldsThatNeedIt() throws IOException {
+        BankGateway bankGateway = mock(BankGateway.class);
+        when(bankGateway.getStatementPage(eq(FROM), eq(TO), isNull(), anyInt(), any()))
+                .thenReturn(Mono.just(new BankStatementPage(List.of(
+                        entry("T1", "Rent, January", "DEBIT", "-15000.00", "85000.00"),
+                        entry("T2", "Said \"thanks\"", "CREDIT", "250.50", "85250.50")), "page-2")));
+        when(bankGateway.getStatementPage(eq(FROM), eq(TO), eq("page-2"), anyInt(), any()))
+                .thenReturn(Mono.just(new BankStatementPage(List.of(
+                        entry("T3", "Line one\nline two", "DEBIT", "-1.00", "85249.50"),
+                        entry(null, null, "CREDIT", "0.00", "85249.50")), null)));
+        StatementService service = new StatementService(bankGateway, null, null, null, null);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.writeStatement(new HttpHeaders(), FROM, TO, "csv", out);
+
+        assertEquals("""
+                Date,Transaction ID,Description,Type,Amount,Balance
+                "05 Jan 2024, 10:15 AM",T1,"Rent, January",DEBIT,-15000.00,85000.00
+                "05 Jan 2024, 10:15 AM",T2,"Said ""thanks\""",CREDIT,250.50,85250.50
+                "05 Jan 2024, 10:15 AM",T3,"Line one
+                line two",DEBIT,-1.00,85249.50
+                "05 Jan 2024, 10:15 AM",,,CREDIT,0.00,85249.50
+                """, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void fileNameFollowsTheFormat() {
+        assertEquals("Statement_2024-01-01_2024-01-31.pdf", StatementService.statementFileName(FROM, TO, "PDF"));
+        assertEquals("Statement_2024-01-01_2024-01-31.csv", StatementService.statementFileName(FROM, TO, null));
+    }
+
+    private static BankStatementEntry entry(String id, String description, String type, String amount, String balance) {
+        return new BankStatementEntry(id, LocalDateTime.of(2024, 1, 5, 10, 15), description, type,
+                new BigDecimal(amount), new BigDecimal(balance));
+    }
+}
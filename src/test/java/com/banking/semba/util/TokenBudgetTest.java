@@ -0,0 +1,73 @@
+package com.banking.semba.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBudgetTest {
+
+    @Test
+    void regularCallsEarnTheirRatioOfAToken() {
+        TokenBudget budget = new TokenBudget(0.5, 10, 0);
+        assertFalse(budget.tryAcquire());
+
+        budget.deposit();
+        assertFalse(budget.tryAcquire());
+        budget.deposit();
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+    }
+
+    @Test
+    void tokensAreCappedAtTheBurst() {
+        TokenBudget budget = new TokenBudget(1, 2, 0);
+        IntStream.range(0, 10).forEach(i -> budget.deposit());
+
+        assertEquals(2.0, budget.available());
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+    }
+
+    @Test
+    void aShareScalesTheBurstCap() {
+        TokenBudget budget = new TokenBudget(1, 8, 0);
+        IntStream.range(0, 10).forEach(i -> budget.deposit());
+
+        budget.setShare(0.25);
+        assertEquals(2.0, budget.available());
+        budget.deposit();
+        assertEquals(2.0, budget.available());
+    }
+
+    @Test
+    void tokensTrickleInWithoutTraffic() throws InterruptedException {
+        TokenBudget budget = new TokenBudget(0, 5, 1000);
+        Thread.sleep(20);
+
+        assertTrue(budget.tryAcquire());
+    }
+
+    @Test
+    void concurrentAcquiresNeverOverspend() {
+        TokenBudget budget = new TokenBudget(1, 1000, 0);
+        IntStream.range(0, 1000).forEach(i -> budget.deposit());
+        AtomicInteger granted = new AtomicInteger();
+
+        CompletableFuture.allOf(IntStream.range(0, 8)
+                .mapToObj(t -> CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        if (budget.tryAcquire()) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                }))
+                .toArray(CompletableFuture[]::new)).join();
+
+        assertEquals(1000, granted.get());
+    }
+}
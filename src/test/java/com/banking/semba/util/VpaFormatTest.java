@@ -0,0 +1,55 @@
+package com.banking.semba.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VpaFormatTest {
+
+    private static final Pattern VPA = Pattern.compile("^[a-zA-Z0-9.\\-_]{2,256}@[a-zA-Z]{2,64}$");
+
+    @Test
+    void acceptsWellFormedAddresses() {
+        assertTrue(VpaFormat.isValid("john.doe@okhdfc"));
+        assertTrue(VpaFormat.isValid("ab@cd"));
+        assertTrue(VpaFormat.isValid("98765-43210_x@ybl"));
+        assertTrue(VpaFormat.isValid("a".repeat(256) + "@" + "b".repeat(64)));
+    }
+
+    @Test
+    void rejectsMalformedAddresses() {
+        assertFalse(VpaFormat.isValid(null));
+        assertFalse(VpaFormat.isValid(""));
+        assertFalse(VpaFormat.isValid("john"));
+        assertFalse(VpaFormat.isValid("a@okaxis"));
+        assertFalse(VpaFormat.isValid("ab@c"));
+        assertFalse(VpaFormat.isValid("@okaxis"));
+        assertFalse(VpaFormat.isValid("ab@"));
+        assertFalse(VpaFormat.isValid("ab@cd@ef"));
+        assertFalse(VpaFormat.isValid("john doe@okaxis"));
+        assertFalse(VpaFormat.isValid("john@ok1"));
+        assertFalse(VpaFormat.isValid("a".repeat(257) + "@okaxis"));
+        assertFalse(VpaFormat.isValid("ab@" + "b".repeat(65)));
+    }
+
+    @Test
+    void agreesWithTheRegularExpressionItReplaces() {
+        Random random = new Random(7);
+        String alphabet = "aZ09.-_@ #";
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder vpa = new StringBuilder();
+            for (int n = random.nextInt(12); n > 0; n--) {
+                vpa.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            assertEquals(VPA.matcher(vpa).matches(), VpaFormat.isValid(vpa), vpa.toString());
+        }
+    }
+
+    @Test
+    void handleIsLowerCased() {
+        assertEquals("okaxis", VpaFormat.handle("John@OkAxis"));
+    }
+}